@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.wirebarley.remittance")
 @EntityScan(basePackages = "com.wirebarley.remittance.infrastructure")
 @EnableJpaRepositories(basePackages = "com.wirebarley.remittance.infrastructure")
+@EnableScheduling
 public class RemittanceServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(RemittanceServiceApplication.class, args);
@@ -1,22 +1,35 @@
 package com.wirebarley.remittance.api.account.controller;
 
+import com.wirebarley.remittance.api.account.dto.BatchGetAccountsRequest;
 import com.wirebarley.remittance.api.account.dto.CreateAccountRequest;
 import com.wirebarley.remittance.api.account.dto.DepositRequest;
 import com.wirebarley.remittance.api.account.dto.WithdrawRequest;
 import com.wirebarley.remittance.application.account.command.CreateAccountCommand;
 import com.wirebarley.remittance.application.account.command.DepositCommand;
 import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.application.account.read.AccountBalanceRead;
 import com.wirebarley.remittance.application.account.read.AccountRead;
 import com.wirebarley.remittance.application.account.usecase.AccountCommandUseCase;
 import com.wirebarley.remittance.application.account.usecase.AccountQueryUseCase;
+import com.wirebarley.remittance.application.idempotency.usecase.IdempotencyUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,8 +38,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Tag(name = "계좌 API", description = "계좌 등록, 조회, 입금, 출금 API")
 public class AccountController {
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final AccountQueryUseCase accountQueryUseCase ;
     private final AccountCommandUseCase accountCommandUseCase;
+    private final IdempotencyUseCase idempotencyUseCase;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "계좌 등록", description = "새로운 계좌를 등록합니다.")
@@ -48,6 +65,22 @@ public class AccountController {
         return ResponseEntity.ok(accountRead);
     }
 
+    @GetMapping("/{accountId}/balance")
+    @Operation(summary = "시점 잔액 조회", description = "원장 기준으로 특정 시각의 계좌 잔액을 조회합니다. at을 생략하면 현재 시각 기준입니다.")
+    public ResponseEntity<AccountBalanceRead> getBalanceAt(
+            @PathVariable UUID accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        AccountBalanceRead balanceRead = accountQueryUseCase.getBalanceAt(accountId, at != null ? at : LocalDateTime.now());
+        return ResponseEntity.ok(balanceRead);
+    }
+
+    @PostMapping("/batch-get")
+    @Operation(summary = "계좌 일괄 조회", description = "여러 계좌 ID로 계좌를 한 번에 조회합니다. 존재하지 않는 계좌는 결과에서 제외됩니다.")
+    public ResponseEntity<List<AccountRead>> getAccounts(@Valid @RequestBody BatchGetAccountsRequest request) {
+        List<AccountRead> accountReads = accountQueryUseCase.getAccounts(request.getAccountIds());
+        return ResponseEntity.ok(accountReads);
+    }
+
     @GetMapping("/number/{accountNumber}")
     @Operation(summary = "계좌번호로 계좌 조회", description = "계좌번호로 계좌를 조회합니다.")
     public ResponseEntity<AccountRead> getAccountByNumber(@PathVariable String accountNumber) {
@@ -56,35 +89,68 @@ public class AccountController {
     }
 
     @GetMapping
-    @Operation(summary = "모든 계좌 조회", description = "모든 계좌를 조회합니다.")
-    public ResponseEntity<List<AccountRead>> getAllAccounts() {
-        List<AccountRead> accountReads = accountQueryUseCase.getAllAccounts();
+    @Operation(summary = "모든 계좌 조회", description = "모든 계좌를 조회합니다. masked=true이면 마스킹된 계좌번호만 반환합니다.")
+    public ResponseEntity<List<AccountRead>> getAllAccounts(@RequestParam(defaultValue = "false") boolean masked) {
+        List<AccountRead> accountReads = masked
+                ? accountQueryUseCase.getAllMaskedAccounts()
+                : accountQueryUseCase.getAllAccounts();
         return ResponseEntity.ok(accountReads);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "모든 계좌 내보내기", description = "모든 계좌를 한 줄에 하나씩 JSON(NDJSON)으로 스트리밍합니다. masked=true이면 마스킹된 계좌번호만 반환합니다.")
+    public ResponseEntity<StreamingResponseBody> exportAccounts(@RequestParam(defaultValue = "false") boolean masked) {
+        ObjectWriter writer = objectMapper.writerFor(AccountRead.class);
+        StreamingResponseBody body = outputStream -> {
+            BufferedOutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+            accountQueryUseCase.exportAllAccounts(masked, accountRead -> {
+                try {
+                    out.write(writer.writeValueAsBytes(accountRead));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping("/{accountId}/deposit")
-    @Operation(summary = "입금", description = "계좌에 입금합니다.")
-    public ResponseEntity<UUID> deposit(@PathVariable UUID accountId, @Valid @RequestBody DepositRequest request) {
+    @Operation(summary = "입금", description = "계좌에 입금합니다. "
+            + "Idempotency-Key 헤더를 보내면 같은 키의 재전송에는 입금 없이 최초 결과를 반환합니다.")
+    public ResponseEntity<UUID> deposit(@PathVariable UUID accountId,
+                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                        @Valid @RequestBody DepositRequest request) {
         DepositCommand command = DepositCommand.builder()
                 .accountId(accountId)
                 .amount(request.getAmount())
                 .description(request.getDescription())
                 .build();
         
-        UUID updatedAccountId = accountCommandUseCase.deposit(command);
+        UUID updatedAccountId = idempotencyUseCase.execute(idempotencyKey, "deposit",
+                Arrays.asList(accountId, request.getAmount(), request.getDescription()),
+                () -> accountCommandUseCase.deposit(command));
         return ResponseEntity.ok(updatedAccountId);
     }
 
     @PostMapping("/{accountId}/withdraw")
-    @Operation(summary = "출금", description = "계좌에서 출금합니다.")
-    public ResponseEntity<UUID> withdraw(@PathVariable UUID accountId, @Valid @RequestBody WithdrawRequest request) {
+    @Operation(summary = "출금", description = "계좌에서 출금합니다. "
+            + "Idempotency-Key 헤더를 보내면 같은 키의 재전송에는 출금 없이 최초 결과를 반환합니다.")
+    public ResponseEntity<UUID> withdraw(@PathVariable UUID accountId,
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                         @Valid @RequestBody WithdrawRequest request) {
         WithdrawCommand command = WithdrawCommand.builder()
                 .accountId(accountId)
                 .amount(request.getAmount())
                 .description(request.getDescription())
                 .build();
         
-        UUID updatedAccountId = accountCommandUseCase.withdraw(command);
+        UUID updatedAccountId = idempotencyUseCase.execute(idempotencyKey, "withdraw",
+                Arrays.asList(accountId, request.getAmount(), request.getDescription()),
+                () -> accountCommandUseCase.withdraw(command));
         return ResponseEntity.ok(updatedAccountId);
     }
 }
@@ -0,0 +1,25 @@
+package com.wirebarley.remittance.api.account.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 계좌 일괄 조회 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetAccountsRequest {
+    @NotEmpty(message = "계좌 ID 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개의 계좌까지 조회할 수 있습니다.")
+    private List<@NotNull(message = "계좌 ID는 null일 수 없습니다.") UUID> accountIds;
+}
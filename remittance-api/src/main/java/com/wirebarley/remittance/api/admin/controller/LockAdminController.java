@@ -0,0 +1,33 @@
+package com.wirebarley.remittance.api.admin.controller;
+
+import com.wirebarley.remittance.common.lock.LockRegistry;
+import com.wirebarley.remittance.common.lock.LockSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 락 진단 API
+ * 락 키에 계좌 ID가 포함되므로 락 정책 관리 API와 같이 remittance.admin.enabled=true 일 때만 등록됩니다.
+ */
+@RestController
+@RequestMapping("/api/admin/locks")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "remittance.admin.enabled", havingValue = "true")
+@Tag(name = "락 진단 API", description = "현재 노드의 락 보유/대기 현황 조회 API")
+public class LockAdminController {
+    private static final int MAX_TOP = 100;
+
+    private final LockRegistry lockRegistry;
+
+    @GetMapping
+    @Operation(summary = "락 현황 조회",
+            description = "이 노드에서 보유 중인 락(키, 보유 스레드, 획득 시각, 메서드, 대기 요청 수)과 "
+                    + "최근 구간에서 경합이 많았던 상위 키를 조회합니다.")
+    public ResponseEntity<LockSnapshot> getLocks(@RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(lockRegistry.snapshot(Math.min(Math.max(top, 0), MAX_TOP)));
+    }
+}
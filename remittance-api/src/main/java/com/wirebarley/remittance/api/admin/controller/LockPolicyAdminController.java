@@ -0,0 +1,60 @@
+package com.wirebarley.remittance.api.admin.controller;
+
+import com.wirebarley.remittance.api.admin.dto.LockPolicyRequest;
+import com.wirebarley.remittance.common.lock.LockPolicy;
+import com.wirebarley.remittance.common.lock.LockPolicyRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 락 정책 관리 API
+ * 인증 없이 노드의 락 동작을 바꿀 수 있으므로 remittance.admin.enabled=true 일 때만 등록됩니다.
+ */
+@RestController
+@RequestMapping("/api/admin/locks/policies")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "remittance.admin.enabled", havingValue = "true")
+@Tag(name = "락 정책 관리 API", description = "현재 노드의 락 정책 조회 및 변경 API")
+public class LockPolicyAdminController {
+    private static final String DEFAULT_POLICY = "default";
+
+    private final LockPolicyRegistry lockPolicyRegistry;
+
+    @GetMapping
+    @Operation(summary = "락 정책 조회", description = "이 노드의 기본 락 정책과 메서드별 락 정책을 조회합니다.")
+    public ResponseEntity<Map<String, LockPolicy>> getPolicies() {
+        Map<String, LockPolicy> policies = new LinkedHashMap<>();
+        policies.put(DEFAULT_POLICY, lockPolicyRegistry.getDefaultPolicy());
+        policies.putAll(lockPolicyRegistry.getOverrides());
+        return ResponseEntity.ok(policies);
+    }
+
+    @PutMapping("/{operation}")
+    @Operation(summary = "락 정책 변경",
+            description = "이 노드의 락 정책을 변경합니다. operation이 default이면 기본 정책을, 아니면 해당 메서드의 정책을 변경합니다.")
+    public ResponseEntity<LockPolicy> updatePolicy(@PathVariable String operation,
+                                                   @Valid @RequestBody LockPolicyRequest request) {
+        LockPolicy policy = request.toPolicy();
+        if (DEFAULT_POLICY.equals(operation)) {
+            lockPolicyRegistry.updateDefaultPolicy(policy);
+        } else {
+            lockPolicyRegistry.updatePolicy(operation, policy);
+        }
+        return ResponseEntity.ok(policy);
+    }
+
+    @DeleteMapping("/{operation}")
+    @Operation(summary = "메서드별 락 정책 제거", description = "메서드별 락 정책을 제거하여 기본 정책을 따르게 합니다.")
+    public ResponseEntity<Void> resetPolicy(@PathVariable String operation) {
+        lockPolicyRegistry.resetPolicy(operation);
+        return ResponseEntity.noContent().build();
+    }
+}
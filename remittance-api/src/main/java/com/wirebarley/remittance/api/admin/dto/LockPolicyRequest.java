@@ -0,0 +1,51 @@
+package com.wirebarley.remittance.api.admin.dto;
+
+import com.wirebarley.remittance.common.lock.LockPolicy;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 락 정책 변경 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LockPolicyRequest {
+    @NotNull(message = "적응형 대기 여부는 필수입니다.")
+    private Boolean adaptive;
+
+    @NotNull(message = "보유 시간 배수는 필수입니다.")
+    @Positive(message = "보유 시간 배수는 양수여야 합니다.")
+    private Double holdMultiplier;
+
+    @NotNull(message = "최소 대기 시간은 필수입니다.")
+    @PositiveOrZero(message = "최소 대기 시간은 0 이상이어야 합니다.")
+    private Long minWaitMillis;
+
+    @NotNull(message = "최소 관측 수는 필수입니다.")
+    @PositiveOrZero(message = "최소 관측 수는 0 이상이어야 합니다.")
+    private Long minSamples;
+
+    @NotNull(message = "조기 거절 여부는 필수입니다.")
+    private Boolean earlyRejection;
+
+    @NotNull(message = "감시 갱신 여부는 필수입니다.")
+    private Boolean watchdogLease;
+
+    public LockPolicy toPolicy() {
+        return LockPolicy.builder()
+                .adaptive(adaptive)
+                .holdMultiplier(holdMultiplier)
+                .minWaitMillis(minWaitMillis)
+                .minSamples(minSamples)
+                .earlyRejection(earlyRejection)
+                .watchdogLease(watchdogLease)
+                .build();
+    }
+}
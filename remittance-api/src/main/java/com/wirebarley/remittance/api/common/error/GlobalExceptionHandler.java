@@ -6,6 +6,7 @@ import com.wirebarley.remittance.common.error.ErrorResponse;
 import com.wirebarley.remittance.common.error.LockAcquisitionException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -96,6 +97,17 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, ErrorCode.LOCK_ACQUISITION_FAILURE.getStatus());
     }
     
+    /**
+     * 낙관적 잠금 충돌 예외 처리
+     * 같은 계좌가 동시에 변경되어 커밋 시점에 버전이 맞지 않는 경우입니다.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e, HttpServletRequest request) {
+        log.error("동시 변경 충돌: {}", e.getMessage());
+        ErrorResponse response = ErrorResponse.of(ErrorCode.CONCURRENT_MODIFICATION, request.getRequestURI());
+        return new ResponseEntity<>(response, ErrorCode.CONCURRENT_MODIFICATION.getStatus());
+    }
+    
     /**
      * 기타 예외 처리
      */
@@ -0,0 +1,80 @@
+package com.wirebarley.remittance.api.common.filter;
+
+import com.wirebarley.remittance.common.cluster.AccountOwnership;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 계좌 소유 노드 라우팅 필터
+ * 이 노드가 소유하지 않은 계좌의 입금/출금/이체 요청을 소유 노드로 리다이렉트(307)하여
+ * 같은 계좌에 대한 변경이 한 노드에 모이도록 합니다. 이체는 출금 계좌 기준으로 라우팅합니다.
+ * 307은 메서드와 본문을 유지하므로 클라이언트(또는 앞단 프록시)가 그대로 재전송합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "remittance.cluster.ownership.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AccountOwnershipFilter extends OncePerRequestFilter {
+    static final String OWNER_HEADER = "X-Account-Owner";
+
+    private static final List<Pattern> ROUTED_PATHS = List.of(
+            Pattern.compile("^/api/accounts/([0-9a-fA-F-]{36})/(deposit|withdraw)$"),
+            Pattern.compile("^/api/transactions/transfer/([0-9a-fA-F-]{36})$")
+    );
+
+    private final AccountOwnership accountOwnership;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        UUID accountId = routedAccountId(request.getRequestURI());
+        if (accountId == null || accountOwnership.isOwner(accountId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String owner = accountOwnership.ownerOf(accountId);
+        String location = owner + request.getRequestURI()
+                + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        log.debug("소유 노드로 리다이렉트: 계좌: {}, 소유 노드: {}", accountId, owner);
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, location);
+        response.setHeader(OWNER_HEADER, owner);
+    }
+
+    private static UUID routedAccountId(String uri) {
+        for (Pattern pattern : ROUTED_PATHS) {
+            Matcher matcher = pattern.matcher(uri);
+            if (matcher.matches()) {
+                try {
+                    return UUID.fromString(matcher.group(1));
+                } catch (IllegalArgumentException e) {
+                    // 잘못된 ID는 컨트롤러의 검증에 맡김
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.wirebarley.remittance.api.common.health;
+
+import com.wirebarley.remittance.common.lock.CircuitBreakerLockProvider;
+import com.wirebarley.remittance.common.lock.LockProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 백엔드 헬스 체크 (/actuator/health 의 lock 항목)
+ * 서킷이 닫혀 있으면 UP, 열려 있고 대체 백엔드로 처리 중이면 DEGRADED,
+ * 대체 백엔드 없이 열려 있어 락 요청이 모두 거절되면 DOWN 입니다.
+ */
+@Component
+public class LockHealthIndicator implements HealthIndicator {
+    public static final Status DEGRADED = new Status("DEGRADED", "대체 락 백엔드로 처리 중");
+
+    private final LockProvider lockProvider;
+
+    public LockHealthIndicator(LockProvider lockProvider) {
+        this.lockProvider = lockProvider;
+    }
+
+    @Override
+    public Health health() {
+        if (!(lockProvider instanceof CircuitBreakerLockProvider circuitBreaker)) {
+            return Health.up()
+                    .withDetail("provider", lockProvider.name())
+                    .build();
+        }
+
+        Health.Builder builder;
+        if (circuitBreaker.getState() == CircuitBreakerLockProvider.State.CLOSED) {
+            builder = Health.up();
+        } else if (circuitBreaker.hasFallback()) {
+            builder = Health.status(DEGRADED);
+        } else {
+            builder = Health.down();
+        }
+        return builder
+                .withDetail("provider", circuitBreaker.getPrimaryName())
+                .withDetail("circuit", circuitBreaker.getState().name())
+                .withDetail("fallback", circuitBreaker.getFallbackName())
+                .withDetail("active", circuitBreaker.name())
+                .build();
+    }
+}
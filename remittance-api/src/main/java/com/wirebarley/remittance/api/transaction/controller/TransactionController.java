@@ -1,7 +1,9 @@
 package com.wirebarley.remittance.api.transaction.controller;
 
 import com.wirebarley.remittance.api.transaction.dto.TransferRequest;
+import com.wirebarley.remittance.application.idempotency.usecase.IdempotencyUseCase;
 import com.wirebarley.remittance.application.transaction.command.TransferCommand;
+import com.wirebarley.remittance.application.transaction.read.TransactionPage;
 import com.wirebarley.remittance.application.transaction.read.TransactionRead;
 import com.wirebarley.remittance.application.transaction.usecase.TransactionCommandUseCase;
 import com.wirebarley.remittance.application.transaction.usecase.TransactionQueryUseCase;
@@ -12,7 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.UUID;
 
 @RestController
@@ -22,10 +24,14 @@ import java.util.UUID;
 public class TransactionController {
     private final TransactionCommandUseCase transactionCommandUseCase;
     private final TransactionQueryUseCase transactionQueryUseCase;
+    private final IdempotencyUseCase idempotencyUseCase;
 
     @PostMapping("/transfer/{sourceAccountId}")
-    @Operation(summary = "이체", description = "한 계좌에서 다른 계좌로 이체합니다.")
-    public ResponseEntity<UUID> transfer(@PathVariable UUID sourceAccountId, @Valid @RequestBody TransferRequest request) {
+    @Operation(summary = "이체", description = "한 계좌에서 다른 계좌로 이체합니다. "
+            + "Idempotency-Key 헤더를 보내면 같은 키의 재전송에는 이체 없이 최초 결과를 반환합니다.")
+    public ResponseEntity<UUID> transfer(@PathVariable UUID sourceAccountId,
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                         @Valid @RequestBody TransferRequest request) {
         TransferCommand command = TransferCommand.builder()
                 .sourceAccountId(sourceAccountId)
                 .targetAccountId(request.getTargetAccountId())
@@ -33,7 +39,9 @@ public class TransactionController {
                 .description(request.getDescription())
                 .build();
         
-        UUID transactionId = transactionCommandUseCase.transfer(command);
+        UUID transactionId = idempotencyUseCase.execute(idempotencyKey, "transfer",
+                Arrays.asList(sourceAccountId, request.getTargetAccountId(), request.getAmount(), request.getDescription()),
+                () -> transactionCommandUseCase.transfer(command));
         return ResponseEntity.ok(transactionId);
     }
 
@@ -45,16 +53,26 @@ public class TransactionController {
     }
 
     @GetMapping("/source-account/{accountId}")
-    @Operation(summary = "출금 계좌 기준 트랜잭션 조회", description = "출금 계좌 ID로 트랜잭션을 조회합니다.")
-    public ResponseEntity<List<TransactionRead>> getTransactionsBySourceAccount(@PathVariable UUID accountId) {
-        List<TransactionRead> transactionReads = transactionQueryUseCase.getTransactionsBySourceAccount(accountId);
-        return ResponseEntity.ok(transactionReads);
+    @Operation(summary = "출금 계좌 기준 트랜잭션 조회",
+            description = "출금 계좌 ID로 트랜잭션을 최신순으로 페이지 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다. "
+                    + "masked=true이면 마스킹된 계좌번호만 반환합니다.")
+    public ResponseEntity<TransactionPage> getTransactionsBySourceAccount(@PathVariable UUID accountId,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size,
+                                                                          @RequestParam(defaultValue = "false") boolean masked) {
+        TransactionPage transactionPage = transactionQueryUseCase.getTransactionsBySourceAccount(accountId, cursor, size, masked);
+        return ResponseEntity.ok(transactionPage);
     }
 
     @GetMapping("/target-account/{accountId}")
-    @Operation(summary = "입금 계좌 기준 트랜잭션 조회", description = "입금 계좌 ID로 트랜잭션을 조회합니다.")
-    public ResponseEntity<List<TransactionRead>> getTransactionsByTargetAccount(@PathVariable UUID accountId) {
-        List<TransactionRead> transactionReads = transactionQueryUseCase.getTransactionsByTargetAccount(accountId);
-        return ResponseEntity.ok(transactionReads);
+    @Operation(summary = "입금 계좌 기준 트랜잭션 조회",
+            description = "입금 계좌 ID로 트랜잭션을 최신순으로 페이지 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다. "
+                    + "masked=true이면 마스킹된 계좌번호만 반환합니다.")
+    public ResponseEntity<TransactionPage> getTransactionsByTargetAccount(@PathVariable UUID accountId,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size,
+                                                                          @RequestParam(defaultValue = "false") boolean masked) {
+        TransactionPage transactionPage = transactionQueryUseCase.getTransactionsByTargetAccount(accountId, cursor, size, masked);
+        return ResponseEntity.ok(transactionPage);
     }
 }
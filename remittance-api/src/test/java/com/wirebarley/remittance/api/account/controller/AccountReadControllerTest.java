@@ -1,13 +1,17 @@
 package com.wirebarley.remittance.api.account.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.remittance.api.account.dto.BatchGetAccountsRequest;
 import com.wirebarley.remittance.api.account.dto.CreateAccountRequest;
 import com.wirebarley.remittance.api.account.dto.DepositRequest;
 import com.wirebarley.remittance.api.account.dto.WithdrawRequest;
+import com.wirebarley.remittance.application.account.read.AccountBalanceRead;
 import com.wirebarley.remittance.application.account.read.AccountRead;
 import com.wirebarley.remittance.application.account.service.AccountCommandService;
 import com.wirebarley.remittance.application.account.service.AccountQueryService;
+import com.wirebarley.remittance.application.idempotency.service.IdempotencyService;
 import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,14 +23,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -53,6 +63,16 @@ class AccountReadControllerTest {
     @MockBean
     private AccountCommandService accountCommandService;
 
+    @MockBean
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        // 멱등성 키 없이 호출되는 경우와 같이 작업을 그대로 실행
+        when(idempotencyService.execute(any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<UUID>>getArgument(3).get());
+    }
+
     @Test
     @DisplayName("계좌 생성 API 테스트")
     void createAccount() throws Exception {
@@ -101,6 +121,29 @@ class AccountReadControllerTest {
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
+    @Test
+    @DisplayName("시점 잔액 조회 API 테스트")
+    void getBalanceAt() throws Exception {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        LocalDateTime at = LocalDateTime.of(2026, 1, 2, 12, 0);
+        AccountBalanceRead balanceRead = AccountBalanceRead.builder()
+                .accountId(accountId)
+                .balance(BigDecimal.valueOf(700))
+                .at(at)
+                .checkpointAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build();
+
+        when(accountQueryService.getBalanceAt(accountId, at)).thenReturn(balanceRead);
+
+        // when & then
+        mockMvc.perform(get("/api/accounts/{accountId}/balance", accountId)
+                .param("at", "2026-01-02T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountId").value(accountId.toString()))
+                .andExpect(jsonPath("$.balance").value(700));
+    }
+
     @Test
     @DisplayName("계좌번호로 계좌 조회 API 테스트")
     void getAccountByNumber() throws Exception {
@@ -163,6 +206,106 @@ class AccountReadControllerTest {
                 .andExpect(jsonPath("$[1].accountName").value("테스트 계좌 2"));
     }
 
+    @Test
+    @DisplayName("계좌 일괄 조회 API 테스트")
+    void getAccounts() throws Exception {
+        // given
+        UUID accountId1 = TimeBasedUuidGenerator.generate();
+        UUID accountId2 = TimeBasedUuidGenerator.generate();
+        BatchGetAccountsRequest request = BatchGetAccountsRequest.builder()
+                .accountIds(List.of(accountId1, accountId2))
+                .build();
+
+        AccountRead accountRead1 = AccountRead.builder()
+                .id(accountId1)
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌 1")
+                .balance(BigDecimal.valueOf(1000))
+                .status("ACTIVE")
+                .build();
+
+        AccountRead accountRead2 = AccountRead.builder()
+                .id(accountId2)
+                .accountNumber("0987654321")
+                .accountName("테스트 계좌 2")
+                .balance(BigDecimal.valueOf(2000))
+                .status("ACTIVE")
+                .build();
+
+        when(accountQueryService.getAccounts(any())).thenReturn(Arrays.asList(accountRead1, accountRead2));
+
+        // when & then
+        mockMvc.perform(post("/api/accounts/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(accountId1.toString()))
+                .andExpect(jsonPath("$[1].id").value(accountId2.toString()));
+    }
+
+    @Test
+    @DisplayName("모든 계좌 내보내기 API 테스트")
+    void exportAccounts() throws Exception {
+        // given
+        UUID accountId1 = TimeBasedUuidGenerator.generate();
+        UUID accountId2 = TimeBasedUuidGenerator.generate();
+        AccountRead accountRead1 = AccountRead.builder()
+                .id(accountId1)
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌 1")
+                .balance(BigDecimal.valueOf(1000))
+                .status("ACTIVE")
+                .build();
+
+        AccountRead accountRead2 = AccountRead.builder()
+                .id(accountId2)
+                .accountNumber("0987654321")
+                .accountName("테스트 계좌 2")
+                .balance(BigDecimal.valueOf(2000))
+                .status("ACTIVE")
+                .build();
+
+        doAnswer(invocation -> {
+            Consumer<AccountRead> sink = invocation.getArgument(1);
+            sink.accept(accountRead1);
+            sink.accept(accountRead2);
+            return null;
+        }).when(accountQueryService).exportAllAccounts(eq(false), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/accounts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(accountId1.toString(), objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals(accountId2.toString(), objectMapper.readTree(lines[1]).get("id").asText());
+    }
+
+    @Test
+    @DisplayName("계좌 일괄 조회 API 빈 목록 요청 실패 테스트")
+    void getAccountsWithEmptyIds() throws Exception {
+        // given
+        BatchGetAccountsRequest request = BatchGetAccountsRequest.builder()
+                .accountIds(List.of())
+                .build();
+
+        // when & then
+        mockMvc.perform(post("/api/accounts/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("입금 API 테스트")
     void deposit() throws Exception {
@@ -0,0 +1,70 @@
+package com.wirebarley.remittance.api.admin.controller;
+
+import com.wirebarley.remittance.common.lock.LockRegistry;
+import com.wirebarley.remittance.common.lock.LockSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = LockAdminController.class, properties = "remittance.admin.enabled=true")
+class LockAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LockRegistry lockRegistry;
+
+    @Test
+    @DisplayName("락 현황 조회 API 테스트")
+    void getLocks() throws Exception {
+        // given
+        LockSnapshot snapshot = LockSnapshot.builder()
+                .capturedAt(Instant.now())
+                .heldLocks(List.of(LockSnapshot.HeldLock.builder()
+                        .keys(List.of("account:1", "account:2"))
+                        .holderThread("http-nio-8080-exec-1")
+                        .method("transfer")
+                        .acquiredAt(Instant.now())
+                        .heldMillis(120)
+                        .waiters(3)
+                        .longestWaitMillis(80)
+                        .build()))
+                .topContendedKeys(List.of(LockSnapshot.ContendedKey.builder().key("account:1").contentions(42).build()))
+                .windowSeconds(60)
+                .build();
+        when(lockRegistry.snapshot(5)).thenReturn(snapshot);
+
+        // when & then
+        mockMvc.perform(get("/api/admin/locks").param("top", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.heldLocks[0].method").value("transfer"))
+                .andExpect(jsonPath("$.heldLocks[0].waiters").value(3))
+                .andExpect(jsonPath("$.topContendedKeys[0].key").value("account:1"))
+                .andExpect(jsonPath("$.topContendedKeys[0].contentions").value(42));
+        verify(lockRegistry).snapshot(5);
+    }
+
+    @Test
+    @DisplayName("관리 API 비활성화 시 락 현황 API 미등록 테스트")
+    void notRegisteredByDefault() {
+        new WebApplicationContextRunner()
+                .withBean(LockRegistry.class, () -> mock(LockRegistry.class))
+                .withUserConfiguration(LockAdminController.class)
+                .run(context -> assertTrue(context.getBeansOfType(LockAdminController.class).isEmpty()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.wirebarley.remittance.api.admin.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.remittance.api.admin.dto.LockPolicyRequest;
+import com.wirebarley.remittance.common.lock.LockPolicy;
+import com.wirebarley.remittance.common.lock.LockPolicyRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = LockPolicyAdminController.class, properties = "remittance.admin.enabled=true")
+class LockPolicyAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private LockPolicyRegistry lockPolicyRegistry;
+
+    @Test
+    @DisplayName("락 정책 조회 API 테스트")
+    void getPolicies() throws Exception {
+        // given
+        LockPolicy defaultPolicy = LockPolicyRequest.builder()
+                .adaptive(true)
+                .holdMultiplier(4.0)
+                .minWaitMillis(200L)
+                .minSamples(100L)
+                .earlyRejection(true)
+                .watchdogLease(true)
+                .build()
+                .toPolicy();
+        when(lockPolicyRegistry.getDefaultPolicy()).thenReturn(defaultPolicy);
+        when(lockPolicyRegistry.getOverrides()).thenReturn(Map.of());
+
+        // when & then
+        mockMvc.perform(get("/api/admin/locks/policies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.default.holdMultiplier").value(4.0));
+    }
+
+    @Test
+    @DisplayName("메서드별 락 정책 변경 API 테스트")
+    void updatePolicy() throws Exception {
+        // given
+        LockPolicyRequest request = LockPolicyRequest.builder()
+                .adaptive(true)
+                .holdMultiplier(3.0)
+                .minWaitMillis(100L)
+                .minSamples(50L)
+                .earlyRejection(true)
+                .watchdogLease(true)
+                .build();
+
+        // when & then
+        mockMvc.perform(put("/api/admin/locks/policies/{operation}", "transfer")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.holdMultiplier").value(3.0));
+        verify(lockPolicyRegistry).updatePolicy(eq("transfer"), argThat(policy -> policy.getMinWaitMillis() == 100L));
+        verify(lockPolicyRegistry, never()).updateDefaultPolicy(any());
+    }
+
+    @Test
+    @DisplayName("잘못된 락 정책 변경 요청 테스트")
+    void updatePolicyWithInvalidValue() throws Exception {
+        // given
+        LockPolicyRequest request = LockPolicyRequest.builder()
+                .adaptive(true)
+                .holdMultiplier(0.0)
+                .minWaitMillis(100L)
+                .minSamples(50L)
+                .earlyRejection(true)
+                .watchdogLease(true)
+                .build();
+
+        // when & then
+        mockMvc.perform(put("/api/admin/locks/policies/{operation}", "default")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(lockPolicyRegistry, never()).updateDefaultPolicy(any());
+    }
+
+    @Test
+    @DisplayName("관리 API 비활성화 시 락 정책 API 미등록 테스트")
+    void notRegisteredByDefault() {
+        new WebApplicationContextRunner()
+                .withBean(LockPolicyRegistry.class, () -> mock(LockPolicyRegistry.class))
+                .withUserConfiguration(LockPolicyAdminController.class)
+                .run(context -> assertTrue(context.getBeansOfType(LockPolicyAdminController.class).isEmpty()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.wirebarley.remittance.api.common.filter;
+
+import com.wirebarley.remittance.common.cluster.AccountOwnership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountOwnershipFilterTest {
+    private static final String OWNER = "http://node-b:8080";
+
+    private AccountOwnership accountOwnership;
+    private AccountOwnershipFilter filter;
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountOwnership = mock(AccountOwnership.class);
+        filter = new AccountOwnershipFilter(accountOwnership);
+        accountId = UUID.randomUUID();
+        when(accountOwnership.ownerOf(accountId)).thenReturn(OWNER);
+    }
+
+    @Test
+    @DisplayName("소유하지 않은 계좌 입금 요청 리다이렉트 테스트")
+    void redirectsToOwner() throws Exception {
+        // given
+        when(accountOwnership.isOwner(accountId)).thenReturn(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/accounts/" + accountId + "/deposit");
+        request.setQueryString("trace=1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(307, response.getStatus());
+        assertEquals(OWNER + "/api/accounts/" + accountId + "/deposit?trace=1", response.getHeader("Location"));
+        assertEquals(OWNER, response.getHeader(AccountOwnershipFilter.OWNER_HEADER));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("소유한 계좌 이체 요청 통과 테스트")
+    void passesThroughWhenOwned() throws Exception {
+        // given
+        when(accountOwnership.isOwner(accountId)).thenReturn(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/transactions/transfer/" + accountId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("조회 요청 라우팅 제외 테스트")
+    void ignoresReads() throws Exception {
+        // given
+        when(accountOwnership.isOwner(accountId)).thenReturn(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts/" + accountId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertNotNull(chain.getRequest());
+    }
+}
@@ -0,0 +1,57 @@
+package com.wirebarley.remittance.api.common.health;
+
+import com.wirebarley.remittance.common.lock.CircuitBreakerLockProvider;
+import com.wirebarley.remittance.common.lock.LockProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LockHealthIndicatorTest {
+
+    @Test
+    @DisplayName("서킷 브레이커 없는 락 백엔드 헬스 테스트")
+    void upWithoutCircuitBreaker() {
+        LockProvider provider = mock(LockProvider.class);
+        when(provider.name()).thenReturn("database");
+
+        Health health = new LockHealthIndicator(provider).health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("database", health.getDetails().get("provider"));
+    }
+
+    @Test
+    @DisplayName("서킷 열림 + 대체 백엔드 헬스 테스트")
+    void degradedWhenOpenWithFallback() {
+        CircuitBreakerLockProvider provider = mock(CircuitBreakerLockProvider.class);
+        when(provider.getState()).thenReturn(CircuitBreakerLockProvider.State.OPEN);
+        when(provider.hasFallback()).thenReturn(true);
+        when(provider.getPrimaryName()).thenReturn("redisson");
+        when(provider.getFallbackName()).thenReturn("database");
+        when(provider.name()).thenReturn("database");
+
+        Health health = new LockHealthIndicator(provider).health();
+
+        assertEquals(LockHealthIndicator.DEGRADED, health.getStatus());
+    }
+
+    @Test
+    @DisplayName("서킷 열림 + 대체 백엔드 없음 헬스 테스트")
+    void downWhenOpenWithoutFallback() {
+        CircuitBreakerLockProvider provider = mock(CircuitBreakerLockProvider.class);
+        when(provider.getState()).thenReturn(CircuitBreakerLockProvider.State.OPEN);
+        when(provider.hasFallback()).thenReturn(false);
+        when(provider.getPrimaryName()).thenReturn("redisson");
+        when(provider.getFallbackName()).thenReturn("none");
+        when(provider.name()).thenReturn("redisson");
+
+        Health health = new LockHealthIndicator(provider).health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+    }
+}
@@ -2,10 +2,13 @@ package com.wirebarley.remittance.api.transaction.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wirebarley.remittance.api.transaction.dto.TransferRequest;
+import com.wirebarley.remittance.application.idempotency.service.IdempotencyService;
+import com.wirebarley.remittance.application.transaction.read.TransactionPage;
 import com.wirebarley.remittance.application.transaction.read.TransactionRead;
 import com.wirebarley.remittance.application.transaction.service.TransactionCommandService;
 import com.wirebarley.remittance.application.transaction.service.TransactionQueryService;
 import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -40,6 +44,16 @@ class TransactionReadControllerTest {
     @MockBean
     private TransactionCommandService transactionCommandService;
 
+    @MockBean
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        // 멱등성 키 없이 호출되는 경우와 같이 작업을 그대로 실행
+        when(idempotencyService.execute(any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<UUID>>getArgument(3).get());
+    }
+
     @Test
     @DisplayName("이체 API 테스트")
     void transfer() throws Exception {
@@ -136,15 +150,23 @@ class TransactionReadControllerTest {
                 .build();
 
         List<TransactionRead> transactionReads = Arrays.asList(transactionRead1, transactionRead2);
-        when(transactionQueryService.getTransactionsBySourceAccount(accountId)).thenReturn(transactionReads);
+        TransactionPage transactionPage = TransactionPage.builder()
+                .items(transactionReads)
+                .nextCursor("next-cursor")
+                .hasNext(true)
+                .build();
+        when(transactionQueryService.getTransactionsBySourceAccount(accountId, null, 2, false)).thenReturn(transactionPage);
 
         // when & then
-        mockMvc.perform(get("/api/transactions/source-account/{accountId}", accountId))
+        mockMvc.perform(get("/api/transactions/source-account/{accountId}", accountId)
+                .param("size", "2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].sourceAccountId").value(accountId.toString()))
-                .andExpect(jsonPath("$[1].sourceAccountId").value(accountId.toString()))
-                .andExpect(jsonPath("$[0].amount").value(500))
-                .andExpect(jsonPath("$[1].amount").value(300));
+                .andExpect(jsonPath("$.items[0].sourceAccountId").value(accountId.toString()))
+                .andExpect(jsonPath("$.items[1].sourceAccountId").value(accountId.toString()))
+                .andExpect(jsonPath("$.items[0].amount").value(500))
+                .andExpect(jsonPath("$.items[1].amount").value(300))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
     }
 
     @Test
@@ -182,14 +204,22 @@ class TransactionReadControllerTest {
                 .build();
 
         List<TransactionRead> transactionReads = Arrays.asList(transactionRead1, transactionRead2);
-        when(transactionQueryService.getTransactionsByTargetAccount(accountId)).thenReturn(transactionReads);
+        TransactionPage transactionPage = TransactionPage.builder()
+                .items(transactionReads)
+                .nextCursor("next-cursor")
+                .hasNext(true)
+                .build();
+        when(transactionQueryService.getTransactionsByTargetAccount(accountId, null, 2, false)).thenReturn(transactionPage);
 
         // when & then
-        mockMvc.perform(get("/api/transactions/target-account/{accountId}", accountId))
+        mockMvc.perform(get("/api/transactions/target-account/{accountId}", accountId)
+                .param("size", "2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].targetAccountId").value(accountId.toString()))
-                .andExpect(jsonPath("$[1].targetAccountId").value(accountId.toString()))
-                .andExpect(jsonPath("$[0].amount").value(500))
-                .andExpect(jsonPath("$[1].amount").value(300));
+                .andExpect(jsonPath("$.items[0].targetAccountId").value(accountId.toString()))
+                .andExpect(jsonPath("$.items[1].targetAccountId").value(accountId.toString()))
+                .andExpect(jsonPath("$.items[0].amount").value(500))
+                .andExpect(jsonPath("$.items[1].amount").value(300))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
     }
 }
@@ -0,0 +1,27 @@
+package com.wirebarley.remittance.application.account.read;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 특정 시각의 계좌 잔액 조회 결과 모델
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceRead {
+    private UUID accountId;
+    private BigDecimal balance;
+    private LocalDateTime at;
+    /**
+     * 계산에 사용한 체크포인트 기준 시각 (체크포인트가 없으면 null)
+     */
+    private LocalDateTime checkpointAt;
+}
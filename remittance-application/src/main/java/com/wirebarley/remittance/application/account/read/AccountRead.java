@@ -20,6 +20,7 @@ import java.util.UUID;
 public class AccountRead {
     private UUID id;
     private String accountNumber;
+    private String maskedAccountNumber;
     private String accountName;
     private BigDecimal balance;
     private String status;
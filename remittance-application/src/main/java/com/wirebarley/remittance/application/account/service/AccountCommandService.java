@@ -4,6 +4,8 @@ import com.wirebarley.remittance.application.account.command.CreateAccountComman
 import com.wirebarley.remittance.application.account.command.DepositCommand;
 import com.wirebarley.remittance.application.account.command.WithdrawCommand;
 import com.wirebarley.remittance.application.account.usecase.AccountCommandUseCase;
+import com.wirebarley.remittance.application.account.validator.AccountCommandPreLockValidator;
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
 import com.wirebarley.remittance.common.aop.DistributedLock;
 import com.wirebarley.remittance.common.error.BusinessException;
 import com.wirebarley.remittance.common.error.ErrorCode;
@@ -24,6 +26,7 @@ import java.util.UUID;
 @Slf4j
 public class AccountCommandService implements AccountCommandUseCase {
     private final AccountPort accountPort;
+    private final LedgerService ledgerService;
 
     /**
      * 계좌 생성 
@@ -32,7 +35,7 @@ public class AccountCommandService implements AccountCommandUseCase {
      */
     @Transactional
     @DistributedLock(
-            key = "deposit",
+            key = "account-number",
             paramNames = {"command.accountNumber"},
             waitTime = 5L,
             leaseTime = 10L
@@ -40,13 +43,12 @@ public class AccountCommandService implements AccountCommandUseCase {
     public UUID createAccount(CreateAccountCommand command) {
         log.debug("계좌 생성 시작: {}", command.getAccountNumber());
         
-        // 계좌번호 중복 검사
-        accountPort.findByAccountNumber(command.getAccountNumber())
-                .ifPresent(account -> {
-                    log.error("계좌번호 중복: {}", command.getAccountNumber());
-                    throw new BusinessException(ErrorCode.DUPLICATE_ACCOUNT_NUMBER, 
-                            "이미 존재하는 계좌번호입니다: " + command.getAccountNumber());
-                });
+        // 계좌번호 중복 검사 (블라인드 인덱스 단건 조회)
+        if (accountPort.existsByAccountNumber(command.getAccountNumber())) {
+            log.error("계좌번호 중복: {}", command.getAccountNumber());
+            throw new BusinessException(ErrorCode.DUPLICATE_ACCOUNT_NUMBER, 
+                    "이미 존재하는 계좌번호입니다: " + command.getAccountNumber());
+        }
         
         try {
             // 계좌 생성
@@ -56,7 +58,12 @@ public class AccountCommandService implements AccountCommandUseCase {
                     .balance(command.getInitialBalance())
                     .build();
             
-            account = accountPort.save(account);
+            account = accountPort.create(account);
+            
+            // 초기 잔액은 개설 입금으로 원장에 기록
+            if (account.getBalance().signum() > 0) {
+                ledgerService.recordDeposit(account.getId(), account.getBalance(), "계좌 개설 초기 입금");
+            }
             log.info("계좌 생성 완료: {}, ID: {}", account.getAccountNumber(), account.getId());
             
             return account.getId();
@@ -73,10 +80,12 @@ public class AccountCommandService implements AccountCommandUseCase {
      */
     @Transactional
     @DistributedLock(
-        key = "deposit",
+        key = "account",
         paramNames = {"command.accountId"},
+        multiLock = true,
         waitTime = 5L,
-        leaseTime = 10L
+        leaseTime = 10L,
+        validators = AccountCommandPreLockValidator.class
     )
     public UUID deposit(DepositCommand command) {
         log.debug("입금 처리 시작: 계좌 ID: {}, 금액: {}", command.getAccountId(), command.getAmount());
@@ -92,6 +101,7 @@ public class AccountCommandService implements AccountCommandUseCase {
             try {
                 account.deposit(command.getAmount());
                 account = accountPort.save(account);
+                ledgerService.recordDeposit(account.getId(), command.getAmount(), command.getDescription());
                 log.info("입금 처리 완료: 계좌 ID: {}, 금액: {}, 잔액: {}", 
                         account.getId(), command.getAmount(), account.getBalance());
                 
@@ -118,10 +128,12 @@ public class AccountCommandService implements AccountCommandUseCase {
      */
     @Transactional
     @DistributedLock(
-        key = "withdraw",
+        key = "account",
         paramNames = {"command.accountId"},
+        multiLock = true,
         waitTime = 5L,
-        leaseTime = 10L
+        leaseTime = 10L,
+        validators = AccountCommandPreLockValidator.class
     )
     public UUID withdraw(WithdrawCommand command) {
         log.debug("출금 처리 시작: 계좌 ID: {}, 금액: {}", command.getAccountId(), command.getAmount());
@@ -137,6 +149,7 @@ public class AccountCommandService implements AccountCommandUseCase {
             try {
                 account.withdraw(command.getAmount());
                 account = accountPort.save(account);
+                ledgerService.recordWithdrawal(account.getId(), command.getAmount(), command.getDescription());
                 log.info("출금 처리 완료: 계좌 ID: {}, 금액: {}, 잔액: {}", 
                         account.getId(), command.getAmount(), account.getBalance());
                 
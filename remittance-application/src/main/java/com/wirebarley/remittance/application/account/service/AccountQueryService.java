@@ -1,15 +1,33 @@
 package com.wirebarley.remittance.application.account.service;
 
+import com.wirebarley.remittance.application.account.read.AccountBalanceRead;
 import com.wirebarley.remittance.application.account.read.AccountRead;
 import com.wirebarley.remittance.application.account.usecase.AccountQueryUseCase;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.MaskedAccount;
 import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.domain.account.port.AccountStatusPort;
+import com.wirebarley.remittance.domain.ledger.BalanceCheckpoint;
+import com.wirebarley.remittance.domain.ledger.port.BalanceCheckpointPort;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 계좌 Query 서비스
@@ -18,6 +36,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountQueryService implements AccountQueryUseCase {
     private final AccountPort accountPort;
+    private final AccountStatusPort accountStatusPort;
+    private final LedgerPort ledgerPort;
+    private final BalanceCheckpointPort balanceCheckpointPort;
 
     /**
      * 계좌 조회 
@@ -26,12 +47,30 @@ public class AccountQueryService implements AccountQueryUseCase {
      */
     @Transactional(readOnly = true)
     public AccountRead getAccount(UUID accountId) {
-        com.wirebarley.remittance.domain.account.Account account = accountPort.findById(accountId)
+        Account account = accountPort.findById(accountId)
                 .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다: " + accountId));
         
         return mapToDto(account);
     }
     
+    /**
+     * ID 목록으로 계좌 일괄 조회 
+     * @param accountIds 계좌 ID 목록
+     * @return 요청 순서대로 정렬된 계좌 DTO 목록 (존재하지 않는 계좌는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<AccountRead> getAccounts(List<UUID> accountIds) {
+        Map<UUID, Account> accounts = accountPort.findAllByIds(new LinkedHashSet<>(accountIds)).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        
+        return accountIds.stream()
+                .distinct()
+                .map(accounts::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 계좌번호로 계좌 조회 
      * @param accountNumber 계좌번호
@@ -39,12 +78,46 @@ public class AccountQueryService implements AccountQueryUseCase {
      */
     @Transactional(readOnly = true)
     public AccountRead getAccountByNumber(String accountNumber) {
-        com.wirebarley.remittance.domain.account.Account account = accountPort.findByAccountNumber(accountNumber)
+        Account account = accountPort.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다: " + accountNumber));
         
         return mapToDto(account);
     }
     
+    /**
+     * 특정 시각의 계좌 잔액 조회 
+     * 원장 이력은 계좌의 첫 분개(원장 도입 전 계좌는 기초 잔액 분개)부터 시작하므로 그 이전 시각은 조회할 수 없습니다.
+     * @param accountId 계좌 ID
+     * @param at 기준 시각
+     * @return 잔액 DTO
+     */
+    @Transactional(readOnly = true)
+    public AccountBalanceRead getBalanceAt(UUID accountId, LocalDateTime at) {
+        if (accountStatusPort.findStatusById(accountId).isEmpty()) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, "계좌를 찾을 수 없습니다: " + accountId);
+        }
+        
+        LocalDateTime firstEntryAt = ledgerPort.findFirstEntryTimes(List.of(accountId)).get(accountId);
+        if (firstEntryAt != null && at.isBefore(firstEntryAt)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "원장 기록 이전 시각의 잔액은 조회할 수 없습니다. 첫 기록 시각: " + firstEntryAt);
+        }
+        
+        // 체크포인트 이후 구간만 읽으므로 조회 비용은 계좌 전체 이력이 아닌 체크포인트 이후 분개 수에 비례
+        Optional<BalanceCheckpoint> checkpoint = balanceCheckpointPort.findLatest(accountId, at);
+        LocalDateTime since = checkpoint.map(BalanceCheckpoint::getAsOf).orElse(null);
+        BigDecimal movement = ledgerPort.sumByAccount(List.of(accountId), since, at)
+                .getOrDefault(accountId, BigDecimal.ZERO);
+        BigDecimal balance = checkpoint.map(BalanceCheckpoint::getBalance).orElse(BigDecimal.ZERO).add(movement);
+        
+        return AccountBalanceRead.builder()
+                .accountId(accountId)
+                .balance(balance)
+                .at(at)
+                .checkpointAt(since)
+                .build();
+    }
+    
     /**
      * 모든 계좌 조회 
      * @return 계좌 DTO 목록
@@ -56,15 +129,64 @@ public class AccountQueryService implements AccountQueryUseCase {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 모든 계좌 조회 (마스킹 전용)
+     * @return 계좌 DTO 목록
+     */
+    @Transactional(readOnly = true)
+    public List<AccountRead> getAllMaskedAccounts() {
+        return accountPort.findAllMasked().stream()
+                .map(this::mapMaskedToDto)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 모든 계좌 내보내기 
+     * @param maskedOnly true이면 계좌번호를 복호화하지 않고 마스킹된 계좌번호만 전달
+     * @param sink 계좌 DTO를 받을 소비자
+     */
+    @Transactional(readOnly = true)
+    public void exportAllAccounts(boolean maskedOnly, Consumer<AccountRead> sink) {
+        if (maskedOnly) {
+            try (Stream<MaskedAccount> accounts = accountPort.streamAllMasked()) {
+                accounts.map(this::mapMaskedToDto)
+                        .forEach(sink);
+            }
+            return;
+        }
+        try (Stream<Account> accounts = accountPort.streamAll()) {
+            accounts.map(this::mapToDto)
+                    .forEach(sink);
+        }
+    }
+    
     /**
      * 도메인 객체를 DTO로 변환
      * @param account 도메인 계좌 객체
      * @return 계좌 DTO
      */
-    private AccountRead mapToDto(com.wirebarley.remittance.domain.account.Account account) {
+    private AccountRead mapToDto(Account account) {
         return AccountRead.builder()
                 .id(account.getId())
                 .accountNumber(account.getAccountNumber())
+                .maskedAccountNumber(account.getMaskedAccountNumber())
+                .accountName(account.getAccountName())
+                .balance(account.getBalance())
+                .status(account.getStatus().name())
+                .createdAt(account.getCreatedAt())
+                .updatedAt(account.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * 마스킹 전용 조회 모델을 DTO로 변환 (계좌번호는 비움)
+     * @param account 마스킹 전용 계좌
+     * @return 계좌 DTO
+     */
+    private AccountRead mapMaskedToDto(MaskedAccount account) {
+        return AccountRead.builder()
+                .id(account.getId())
+                .maskedAccountNumber(account.getMaskedAccountNumber())
                 .accountName(account.getAccountName())
                 .balance(account.getBalance())
                 .status(account.getStatus().name())
@@ -0,0 +1,125 @@
+package com.wirebarley.remittance.application.account.service;
+
+import com.wirebarley.remittance.application.account.command.CreateAccountCommand;
+import com.wirebarley.remittance.application.account.command.DepositCommand;
+import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.application.account.usecase.AccountCommandUseCase;
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 계좌 Command 서비스 (조건부 단일 UPDATE 방식)
+ * 분산 락 없이 상태/잔액 조건을 건 UPDATE 한 번으로 입출금을 처리합니다.
+ * remittance.account.balance-update-mode=atomic 일 때 기본 서비스 대신 사용됩니다.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "remittance.account.balance-update-mode", havingValue = "atomic")
+@RequiredArgsConstructor
+@Slf4j
+public class AtomicAccountCommandService implements AccountCommandUseCase {
+    private final AccountPort accountPort;
+    private final AccountCommandService accountCommandService;
+    private final LedgerService ledgerService;
+
+    /**
+     * 계좌 생성
+     * 잔액 갱신과 무관하므로 기본 서비스에 위임합니다.
+     * @param command 계좌 생성 커맨드
+     * @return 생성된 계좌 ID
+     */
+    @Override
+    public UUID createAccount(CreateAccountCommand command) {
+        return accountCommandService.createAccount(command);
+    }
+
+    /**
+     * 입금 처리
+     * @param command 입금 커맨드
+     * @return 입금 후 계좌 ID
+     */
+    @Override
+    @Transactional
+    public UUID deposit(DepositCommand command) {
+        log.debug("입금 처리 시작: 계좌 ID: {}, 금액: {}", command.getAccountId(), command.getAmount());
+        validateAmount(command.getAccountId(), command.getAmount());
+
+        if (!accountPort.increaseBalance(command.getAccountId(), command.getAmount())) {
+            throw resolveFailure(command.getAccountId(), command.getAmount(), false);
+        }
+        ledgerService.recordDeposit(command.getAccountId(), command.getAmount(), command.getDescription());
+
+        log.info("입금 처리 완료: 계좌 ID: {}, 금액: {}", command.getAccountId(), command.getAmount());
+        return command.getAccountId();
+    }
+
+    /**
+     * 출금 처리
+     * @param command 출금 커맨드
+     * @return 출금 후 계좌 ID
+     */
+    @Override
+    @Transactional
+    public UUID withdraw(WithdrawCommand command) {
+        log.debug("출금 처리 시작: 계좌 ID: {}, 금액: {}", command.getAccountId(), command.getAmount());
+        validateAmount(command.getAccountId(), command.getAmount());
+
+        if (!accountPort.decreaseBalance(command.getAccountId(), command.getAmount())) {
+            throw resolveFailure(command.getAccountId(), command.getAmount(), true);
+        }
+        ledgerService.recordWithdrawal(command.getAccountId(), command.getAmount(), command.getDescription());
+
+        log.info("출금 처리 완료: 계좌 ID: {}, 금액: {}", command.getAccountId(), command.getAmount());
+        return command.getAccountId();
+    }
+
+    private void validateAmount(UUID accountId, BigDecimal amount) {
+        try {
+            Account.validateAmount(amount);
+        } catch (IllegalArgumentException e) {
+            log.error("유효하지 않은 금액: 계좌 ID: {}, 금액: {}", accountId, amount);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 갱신된 행이 없을 때 원인 판별
+     * 실패한 경우에만 계좌를 다시 조회하여 기존 에러 코드로 변환합니다.
+     * @param accountId 계좌 ID
+     * @param amount 요청 금액
+     * @param withdrawal 출금 여부 (출금일 때만 잔액 부족을 판별)
+     * @return 원인에 맞는 비즈니스 예외
+     */
+    private BusinessException resolveFailure(UUID accountId, BigDecimal amount, boolean withdrawal) {
+        String operation = withdrawal ? "출금" : "입금";
+        Optional<Account> account = accountPort.findById(accountId);
+        if (account.isEmpty()) {
+            log.error("{} 처리 실패: 계좌를 찾을 수 없음: {}", operation, accountId);
+            return new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, "계좌를 찾을 수 없습니다: " + accountId);
+        }
+        if (account.get().getStatus() != AccountStatus.ACTIVE) {
+            log.error("{} 처리 실패: 계좌 상태 오류: {}", operation, accountId);
+            return new BusinessException(ErrorCode.INACTIVE_ACCOUNT, "계좌가 활성 상태가 아닙니다.");
+        }
+        if (withdrawal && account.get().getBalance().compareTo(amount) < 0) {
+            log.error("{} 처리 실패: 잔액 부족: {}", operation, accountId);
+            return new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, "잔액이 부족합니다.");
+        }
+        log.error("{} 처리 실패: 원인 불명: {}", operation, accountId);
+        return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, operation + " 처리 중 오류가 발생했습니다.");
+    }
+}
@@ -0,0 +1,118 @@
+package com.wirebarley.remittance.application.account.service;
+
+import com.wirebarley.remittance.application.account.command.CreateAccountCommand;
+import com.wirebarley.remittance.application.account.command.DepositCommand;
+import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.application.account.usecase.AccountCommandUseCase;
+import com.wirebarley.remittance.application.common.retry.OptimisticRetryTemplate;
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * 계좌 Command 서비스 (낙관적 잠금 방식)
+ * 분산 락 없이 계좌 버전으로 동시 변경을 감지하고, 충돌 시 지터를 둔 백오프 후 제한된 횟수만큼 재시도합니다.
+ * remittance.account.balance-update-mode=optimistic 일 때 기본 서비스 대신 사용됩니다.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "remittance.account.balance-update-mode", havingValue = "optimistic")
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticAccountCommandService implements AccountCommandUseCase {
+    private final AccountPort accountPort;
+    private final AccountCommandService accountCommandService;
+    private final LedgerService ledgerService;
+    private final OptimisticRetryTemplate optimisticRetryTemplate;
+
+    /**
+     * 계좌 생성
+     * 잔액 갱신과 무관하므로 기본 서비스에 위임합니다.
+     * @param command 계좌 생성 커맨드
+     * @return 생성된 계좌 ID
+     */
+    @Override
+    public UUID createAccount(CreateAccountCommand command) {
+        return accountCommandService.createAccount(command);
+    }
+
+    /**
+     * 입금 처리
+     * @param command 입금 커맨드
+     * @return 입금 후 계좌 ID
+     */
+    @Override
+    public UUID deposit(DepositCommand command) {
+        log.debug("입금 처리 시작: 계좌 ID: {}, 금액: {}", command.getAccountId(), command.getAmount());
+        return executeWithRetry(command.getAccountId(), command.getAmount(), "입금", Account::deposit,
+                () -> ledgerService.recordDeposit(command.getAccountId(), command.getAmount(), command.getDescription()));
+    }
+
+    /**
+     * 출금 처리
+     * @param command 출금 커맨드
+     * @return 출금 후 계좌 ID
+     */
+    @Override
+    public UUID withdraw(WithdrawCommand command) {
+        log.debug("출금 처리 시작: 계좌 ID: {}, 금액: {}", command.getAccountId(), command.getAmount());
+        return executeWithRetry(command.getAccountId(), command.getAmount(), "출금", Account::withdraw,
+                () -> ledgerService.recordWithdrawal(command.getAccountId(), command.getAmount(), command.getDescription()));
+    }
+
+    /**
+     * 버전 충돌 시 재시도
+     * 매 시도는 새 트랜잭션에서 계좌를 다시 조회하여 최신 버전으로 처리합니다.
+     * @param accountId 계좌 ID
+     * @param amount 금액
+     * @param operation 처리 구분 (로그/메시지용)
+     * @param mutation 계좌 변경 로직
+     * @param ledger 원장 기록 (같은 트랜잭션에서 계좌 저장 후 실행)
+     * @return 계좌 ID
+     */
+    private UUID executeWithRetry(UUID accountId, BigDecimal amount, String operation,
+                                  BiConsumer<Account, BigDecimal> mutation, Runnable ledger) {
+        UUID result = optimisticRetryTemplate.execute(operation,
+                () -> apply(accountId, amount, operation, mutation, ledger));
+        log.info("{} 처리 완료: 계좌 ID: {}, 금액: {}", operation, accountId, amount);
+        return result;
+    }
+
+    private UUID apply(UUID accountId, BigDecimal amount, String operation, BiConsumer<Account, BigDecimal> mutation,
+                       Runnable ledger) {
+        Account account = accountPort.findById(accountId)
+                .orElseThrow(() -> {
+                    log.error("계좌를 찾을 수 없음: {}", accountId);
+                    return new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, "계좌를 찾을 수 없습니다: " + accountId);
+                });
+
+        try {
+            mutation.accept(account, amount);
+        } catch (IllegalArgumentException e) {
+            log.error("{} 처리 실패: 유효하지 않은 금액: {}", operation, accountId, e);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e.getMessage(), e);
+        } catch (IllegalStateException e) {
+            if (e.getMessage() != null && e.getMessage().contains("잔액이 부족")) {
+                log.error("{} 처리 실패: 잔액 부족: {}", operation, accountId, e);
+                throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, e.getMessage(), e);
+            }
+            log.error("{} 처리 실패: 계좌 상태 오류: {}", operation, accountId, e);
+            throw new BusinessException(ErrorCode.INACTIVE_ACCOUNT, e.getMessage(), e);
+        }
+
+        UUID savedId = accountPort.save(account).getId();
+        ledger.run();
+        return savedId;
+    }
+}
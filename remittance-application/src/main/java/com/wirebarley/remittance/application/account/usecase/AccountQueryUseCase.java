@@ -1,9 +1,12 @@
 package com.wirebarley.remittance.application.account.usecase;
 
+import com.wirebarley.remittance.application.account.read.AccountBalanceRead;
 import com.wirebarley.remittance.application.account.read.AccountRead;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * 계좌 Query UseCase
@@ -16,6 +19,13 @@ public interface AccountQueryUseCase {
      */
     AccountRead getAccount(UUID accountId);
     
+    /**
+     * ID 목록으로 계좌 일괄 조회
+     * @param accountIds 계좌 ID 목록
+     * @return 요청 순서대로 정렬된 계좌 DTO 목록 (존재하지 않는 계좌는 제외)
+     */
+    List<AccountRead> getAccounts(List<UUID> accountIds);
+    
     /**
      * 계좌번호로 계좌 조회
      * @param accountNumber 계좌번호
@@ -23,9 +33,34 @@ public interface AccountQueryUseCase {
      */
     AccountRead getAccountByNumber(String accountNumber);
     
+    /**
+     * 특정 시각의 계좌 잔액 조회
+     * 가장 가까운 이전 체크포인트에 그 이후의 분개만 더하여 계산합니다.
+     * 계좌의 첫 분개보다 이전 시각은 원장으로 재구성할 수 없으므로 INVALID_INPUT_VALUE 예외가 발생합니다.
+     * @param accountId 계좌 ID
+     * @param at 기준 시각 (이 시각까지 기록된 분개 포함)
+     * @return 잔액 DTO
+     */
+    AccountBalanceRead getBalanceAt(UUID accountId, LocalDateTime at);
+    
     /**
      * 모든 계좌 조회
      * @return 계좌 DTO 목록
      */
     List<AccountRead> getAllAccounts();
+    
+    /**
+     * 모든 계좌 조회 (마스킹 전용)
+     * 계좌번호를 복호화하지 않고 마스킹된 계좌번호만 반환합니다.
+     * @return 계좌 DTO 목록
+     */
+    List<AccountRead> getAllMaskedAccounts();
+    
+    /**
+     * 모든 계좌 내보내기
+     * 계좌를 한 건씩 읽어 전달하므로 계좌 수와 관계없이 메모리 사용량이 일정합니다.
+     * @param maskedOnly true이면 계좌번호를 복호화하지 않고 마스킹된 계좌번호만 전달
+     * @param sink 계좌 DTO를 받을 소비자
+     */
+    void exportAllAccounts(boolean maskedOnly, Consumer<AccountRead> sink);
 }
@@ -0,0 +1,35 @@
+package com.wirebarley.remittance.application.account.validator;
+
+import com.wirebarley.remittance.application.account.command.DepositCommand;
+import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.common.aop.PreLockValidator;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입금/출금 락 획득 전 검증
+ * 금액과 계좌 존재/활성 상태를 확인합니다. 잔액은 락 안에서만 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountCommandPreLockValidator implements PreLockValidator {
+    private static final String ACCOUNT = "계좌";
+
+    private final AccountPreconditions accountPreconditions;
+
+    @Override
+    public void validate(Object[] args) {
+        Object command = args[0];
+        if (command instanceof DepositCommand deposit) {
+            accountPreconditions.requireValidAmount(deposit.getAmount());
+            accountPreconditions.requireActive(deposit.getAccountId(), ACCOUNT);
+        } else if (command instanceof WithdrawCommand withdraw) {
+            accountPreconditions.requireValidAmount(withdraw.getAmount());
+            accountPreconditions.requireActive(withdraw.getAccountId(), ACCOUNT);
+        } else {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 커맨드입니다.");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.wirebarley.remittance.application.account.validator;
+
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.port.AccountStatusPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 락 획득 전 계좌 사전 조건 검사
+ * 서비스에서 락을 잡은 뒤 수행하는 검증과 같은 에러 코드를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountPreconditions {
+    private final AccountStatusPort accountStatusPort;
+
+    /**
+     * 금액 검사
+     * @param amount 금액
+     */
+    public void requireValidAmount(BigDecimal amount) {
+        try {
+            Account.validateAmount(amount);
+        } catch (IllegalArgumentException e) {
+            log.debug("사전 검증 실패: 유효하지 않은 금액: {}", amount);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 계좌 존재 및 활성 상태 검사 (캐시된 상태 기준)
+     * @param accountId 계좌 ID
+     * @param label 메시지에 사용할 계좌 구분 (예: "출금 계좌")
+     */
+    public void requireActive(UUID accountId, String label) {
+        AccountStatus status = accountStatusPort.findStatusById(accountId)
+                .orElseThrow(() -> {
+                    log.debug("사전 검증 실패: {}를 찾을 수 없음: {}", label, accountId);
+                    return new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, label + "를 찾을 수 없습니다: " + accountId);
+                });
+        if (status != AccountStatus.ACTIVE) {
+            log.debug("사전 검증 실패: {} 상태 오류: {}, 상태: {}", label, accountId, status);
+            throw new BusinessException(ErrorCode.INACTIVE_ACCOUNT, label + "가 활성 상태가 아닙니다.");
+        }
+    }
+}
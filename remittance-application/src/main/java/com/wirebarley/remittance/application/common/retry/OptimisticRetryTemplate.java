@@ -0,0 +1,79 @@
+package com.wirebarley.remittance.application.common.retry;
+
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 잠금 재시도 템플릿
+ * 작업을 매번 새 트랜잭션에서 실행하고, 계좌 버전 충돌 시 지터를 둔 지수 백오프 후 제한된 횟수만큼 재시도합니다.
+ * 작업은 시도마다 계좌를 다시 조회해야 하며, 충돌한 시도의 변경(원장 기록 포함)은 롤백됩니다.
+ * 입출금과 이체가 같은 설정(remittance.account.optimistic.*)을 공유합니다.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryTemplate {
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetryTemplate(
+            TransactionTemplate transactionTemplate,
+            @Value("${remittance.account.optimistic.max-attempts:3}") int maxAttempts,
+            @Value("${remittance.account.optimistic.backoff-millis:20}") long backoffMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("재시도 횟수는 1 이상이어야 합니다.");
+        }
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * 버전 충돌 시 재시도하며 실행
+     * @param operation 처리 구분 (로그/메시지용)
+     * @param attempt 한 번의 시도 (트랜잭션 안에서 실행)
+     * @return 작업 결과
+     */
+    public <T> T execute(String operation, Supplier<T> attempt) {
+        for (int tried = 1; ; tried++) {
+            try {
+                T result = transactionTemplate.execute(status -> attempt.get());
+                log.debug("{} 처리 완료: 시도: {}", operation, tried);
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                if (tried >= maxAttempts) {
+                    log.error("{} 처리 실패: 동시 변경 충돌 재시도 초과: 시도: {}", operation, tried);
+                    throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION,
+                            "동시 변경이 계속되어 " + operation + " 처리에 실패했습니다.", e);
+                }
+                log.debug("{} 처리 중 동시 변경 충돌, 재시도: 시도: {}", operation, tried);
+                backoff(tried);
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프에 전체 지터 적용 (0 ~ backoffMillis * 2^(attempt-1))
+     * @param attempt 실패한 시도 횟수
+     */
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        long bound = backoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION, "재시도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
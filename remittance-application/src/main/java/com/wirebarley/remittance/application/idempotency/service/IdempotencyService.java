@@ -0,0 +1,225 @@
+package com.wirebarley.remittance.application.idempotency.service;
+
+import com.wirebarley.remittance.application.idempotency.usecase.IdempotencyUseCase;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.domain.idempotency.IdempotencyRecord;
+import com.wirebarley.remittance.domain.idempotency.port.IdempotencyPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키 서비스
+ * 키를 저장소에 먼저 선점한 요청만 작업을 실행하고, 성공한 결과를 기록하여 재전송에는 락과 잔액을 건드리지 않고 응답합니다.
+ * 같은 노드의 동시 중복 요청은 최초 실행의 결과를 기다리고, 다른 노드가 선점한 키는 결과가 기록될 때까지 저장소를 폴링합니다.
+ * 실패한 요청은 키를 해제하여 클라이언트가 같은 키로 다시 시도할 수 있습니다.
+ * 작업 성공 후 결과 기록에 실패하면 키는 만료될 때까지 처리 중으로 남아, 중복 실행 대신 처리 중 응답을 돌려줍니다.
+ * 선점은 요청 지문과 만료 시각으로 식별하여, 만료된 선점의 해제/결과 기록이 다른 요청이 다시 선점한 키를 건드리지 않습니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService implements IdempotencyUseCase {
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyPort idempotencyPort;
+    private final Duration ttl;
+    private final long waitTimeoutMillis;
+    private final long pollIntervalMillis;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyPort idempotencyPort,
+            @Value("${remittance.idempotency.ttl:24h}") Duration ttl,
+            @Value("${remittance.idempotency.wait-timeout-millis:10000}") long waitTimeoutMillis,
+            @Value("${remittance.idempotency.poll-interval-millis:50}") long pollIntervalMillis) {
+        if (pollIntervalMillis < 1) {
+            throw new IllegalArgumentException("멱등성 키 폴링 간격은 1 이상이어야 합니다.");
+        }
+        this.idempotencyPort = idempotencyPort;
+        this.ttl = ttl;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    @Override
+    public UUID execute(String idempotencyKey, String operation, List<?> request, Supplier<UUID> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY,
+                    "Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String fingerprint = fingerprint(operation, request);
+        InFlight mine = new InFlight(fingerprint);
+        InFlight running = inFlight.putIfAbsent(idempotencyKey, mine);
+        if (running != null) {
+            return awaitLocal(idempotencyKey, running, fingerprint);
+        }
+
+        try {
+            UUID resultId = claimOrAwait(idempotencyKey, fingerprint, action);
+            mine.result.complete(resultId);
+            return resultId;
+        } catch (RuntimeException e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, mine);
+        }
+    }
+
+    /**
+     * 만료된 멱등성 키 삭제
+     */
+    @Scheduled(fixedDelayString = "${remittance.idempotency.purge-interval-millis:60000}")
+    public void purgeExpired() {
+        int deleted = idempotencyPort.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 멱등성 키 삭제: {}건", deleted);
+        }
+    }
+
+    private UUID claimOrAwait(String key, String fingerprint, Supplier<UUID> action) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotencyRecord> record = idempotencyPort.findByKey(key);
+            if (record.isPresent() && record.get().isExpired(now)) {
+                // 정리 주기 전에 남아 있는 만료 기록은 만료된 경우에만 삭제하고 다시 조회
+                // (다른 노드가 먼저 삭제하고 다시 선점했으면 그 선점을 기다림)
+                idempotencyPort.releaseExpired(key, now);
+                continue;
+            }
+
+            if (record.isPresent()) {
+                requireSameRequest(key, record.get().matches(fingerprint));
+                if (record.get().isCompleted()) {
+                    log.debug("멱등성 키 재전송 응답: {}", key);
+                    return record.get().getResultId();
+                }
+            } else {
+                // 저장소 시각 정밀도와 무관하게 같은 값으로 비교되도록 밀리초로 자름
+                LocalDateTime expiresAt = now.plus(ttl).truncatedTo(ChronoUnit.MILLIS);
+                if (idempotencyPort.claim(key, fingerprint, expiresAt)) {
+                    return executeClaimed(key, fingerprint, expiresAt, action);
+                }
+            }
+
+            // 다른 노드가 처리 중: 결과가 기록될 때까지 대기
+            if (System.nanoTime() >= deadline) {
+                throw inProgress(key);
+            }
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw inProgress(key);
+            }
+        }
+    }
+
+    private UUID executeClaimed(String key, String fingerprint, LocalDateTime expiresAt, Supplier<UUID> action) {
+        UUID resultId;
+        try {
+            resultId = action.get();
+        } catch (RuntimeException e) {
+            idempotencyPort.release(key, fingerprint, expiresAt);
+            throw e;
+        }
+
+        try {
+            if (!idempotencyPort.complete(key, fingerprint, expiresAt, resultId)) {
+                log.error("멱등성 키 결과 기록 실패 (처리 중 선점이 만료되어 다른 요청이 다시 선점): {}", key);
+            }
+        } catch (RuntimeException e) {
+            log.error("멱등성 키 결과 기록 실패 (만료 시까지 처리 중으로 유지): {}", key, e);
+        }
+        return resultId;
+    }
+
+    private UUID awaitLocal(String key, InFlight running, String fingerprint) {
+        requireSameRequest(key, running.fingerprint.equals(fingerprint));
+        try {
+            return running.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 최초 요청의 실패를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress(key);
+        }
+    }
+
+    private static void requireSameRequest(String key, boolean same) {
+        if (!same) {
+            log.warn("다른 요청에 사용된 멱등성 키: {}", key);
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private static BusinessException inProgress(String key) {
+        log.warn("멱등성 키 요청 처리 대기 시간 초과: {}", key);
+        return new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    /**
+     * 요청 지문 (작업 이름과 요청 값의 SHA-256)
+     * 금액은 표기(100, 100.00)와 무관하게 같은 지문이 되도록 정규화합니다.
+     */
+    static String fingerprint(String operation, List<?> request) {
+        StringBuilder source = new StringBuilder(operation);
+        for (Object value : request) {
+            source.append('\u001F');
+            if (value instanceof BigDecimal decimal) {
+                source.append(decimal.stripTrailingZeros().toPlainString());
+            } else {
+                source.append(value);
+            }
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 이 노드에서 처리 중인 요청
+     */
+    private static final class InFlight {
+        private final String fingerprint;
+        private final CompletableFuture<UUID> result = new CompletableFuture<>();
+
+        private InFlight(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
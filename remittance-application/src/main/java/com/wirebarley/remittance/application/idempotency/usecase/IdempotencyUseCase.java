@@ -0,0 +1,22 @@
+package com.wirebarley.remittance.application.idempotency.usecase;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키 UseCase
+ */
+public interface IdempotencyUseCase {
+    /**
+     * 멱등성 키 기준 1회 실행
+     * 같은 키로 이미 처리된 요청이면 작업을 실행하지 않고 최초 결과를 반환하며,
+     * 같은 키의 요청이 처리 중이면 그 결과를 기다립니다.
+     * @param idempotencyKey 멱등성 키 (없으면 그대로 실행)
+     * @param operation 작업 이름
+     * @param request 요청 값 (같은 키가 다른 요청에 쓰였는지 판별)
+     * @param action 실행할 작업
+     * @return 작업 결과 ID
+     */
+    UUID execute(String idempotencyKey, String operation, List<?> request, Supplier<UUID> action);
+}
@@ -0,0 +1,120 @@
+package com.wirebarley.remittance.application.ledger.service;
+
+import com.wirebarley.remittance.domain.ledger.BalanceCheckpoint;
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+import com.wirebarley.remittance.domain.ledger.port.BalanceCheckpointPort;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 잔액 체크포인트 작성 서비스
+ * 분개가 있는 계좌를 ID 순 키셋 배치로 훑으며, 직전 체크포인트 이후 분개가 있는 계좌에만 새 체크포인트를 추가합니다.
+ * 분개의 created_at은 커밋 전에 애플리케이션에서 찍히므로, 기준 시각 이전 시각의 분개가 체크포인트 작성 후에 커밋될 수 있습니다.
+ * 기준 시각을 실행 시각에서 settle-lag만큼 이전으로 잡아 이를 줄이지만, settle-lag보다 오래 걸려 커밋된 트랜잭션의 분개는 여전히 빠질 수 있으므로
+ * settle-lag는 트랜잭션 최대 수행 시간(락 대기/재시도 포함)보다 길게 설정해야 합니다.
+ * 배치마다 별도 트랜잭션으로 처리하므로 계좌 수와 관계없이 트랜잭션 크기가 일정합니다.
+ */
+@Slf4j
+@Service
+public class BalanceCheckpointService {
+    private final LedgerPort ledgerPort;
+    private final BalanceCheckpointPort balanceCheckpointPort;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration settleLag;
+
+    public BalanceCheckpointService(
+            LedgerPort ledgerPort,
+            BalanceCheckpointPort balanceCheckpointPort,
+            TransactionTemplate transactionTemplate,
+            @Value("${remittance.ledger.checkpoint.enabled:true}") boolean enabled,
+            @Value("${remittance.ledger.checkpoint.batch-size:500}") int batchSize,
+            @Value("${remittance.ledger.checkpoint.settle-lag:60s}") Duration settleLag) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("체크포인트 배치 크기는 1 이상이어야 합니다.");
+        }
+        this.ledgerPort = ledgerPort;
+        this.balanceCheckpointPort = balanceCheckpointPort;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.settleLag = settleLag;
+    }
+
+    /**
+     * 주기적 체크포인트 작성
+     */
+    @Scheduled(initialDelayString = "${remittance.ledger.checkpoint.interval-millis:3600000}",
+            fixedDelayString = "${remittance.ledger.checkpoint.interval-millis:3600000}")
+    public void scheduledCheckpoint() {
+        if (enabled) {
+            writeCheckpoints(LocalDateTime.now().minus(settleLag));
+        }
+    }
+
+    /**
+     * 기준 시각의 체크포인트 작성
+     * @param asOf 기준 시각 (이 시각까지 기록된 분개를 반영)
+     * @return 작성된 체크포인트 수
+     */
+    public int writeCheckpoints(LocalDateTime asOf) {
+        log.info("잔액 체크포인트 작성 시작: 기준 시각 {}", asOf);
+        int total = 0;
+        UUID after = LedgerEntry.EXTERNAL_ACCOUNT_ID;
+
+        while (true) {
+            List<UUID> accountIds = ledgerPort.findAccountIdsAfter(after, batchSize);
+            if (accountIds.isEmpty()) {
+                break;
+            }
+            Integer written = transactionTemplate.execute(status -> checkpointBatch(accountIds, asOf));
+            total += written != null ? written : 0;
+            after = accountIds.get(accountIds.size() - 1);
+            if (accountIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        log.info("잔액 체크포인트 작성 완료: {}건", total);
+        return total;
+    }
+
+    private int checkpointBatch(List<UUID> accountIds, LocalDateTime asOf) {
+        Map<UUID, BalanceCheckpoint> latest = balanceCheckpointPort.findLatest(accountIds, asOf);
+
+        // 직전 체크포인트 시각이 같은 계좌끼리 묶어 구간 합계를 한 번에 조회 (체크포인트가 없는 계좌는 null 키)
+        Map<LocalDateTime, List<UUID>> bySince = new HashMap<>();
+        for (UUID accountId : accountIds) {
+            BalanceCheckpoint previous = latest.get(accountId);
+            bySince.computeIfAbsent(previous != null ? previous.getAsOf() : null, k -> new ArrayList<>()).add(accountId);
+        }
+
+        List<BalanceCheckpoint> checkpoints = new ArrayList<>();
+        bySince.forEach((since, ids) -> {
+            if (since != null && !since.isBefore(asOf)) {
+                return;
+            }
+            ledgerPort.sumByAccount(ids, since, asOf).forEach((accountId, movement) -> {
+                BalanceCheckpoint previous = latest.get(accountId);
+                checkpoints.add(previous != null
+                        ? previous.advance(movement, asOf)
+                        : BalanceCheckpoint.builder().accountId(accountId).balance(movement).asOf(asOf).build());
+            });
+        });
+        balanceCheckpointPort.saveAll(checkpoints);
+        return checkpoints.size();
+    }
+}
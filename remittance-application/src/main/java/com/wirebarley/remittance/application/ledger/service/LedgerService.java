@@ -0,0 +1,81 @@
+package com.wirebarley.remittance.application.ledger.service;
+
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.TransactionStatus;
+import com.wirebarley.remittance.domain.transaction.TransactionType;
+import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 원장 기록 서비스
+ * 입금/출금/이체 한 건마다 차변/대변 분개 한 쌍을 추가합니다.
+ * 호출한 서비스의 트랜잭션에 참여하므로 잔액 변경과 원장 기록은 함께 커밋되거나 롤백됩니다.
+ * 입금/출금의 상대 계정은 외부 정산 계좌(LedgerEntry.EXTERNAL_ACCOUNT_ID)입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerService {
+    private final LedgerPort ledgerPort;
+    private final TransactionPort transactionPort;
+
+    /**
+     * 입금 기록 (완료된 입금 트랜잭션 + 외부 정산 계좌 차변 / 계좌 대변)
+     * @param accountId 입금 계좌 ID
+     * @param amount 입금액
+     * @param description 설명
+     * @return 저장된 입금 트랜잭션
+     */
+    public Transaction recordDeposit(UUID accountId, BigDecimal amount, String description) {
+        Transaction transaction = transactionPort.create(Transaction.builder()
+                .targetAccountId(accountId)
+                .amount(amount)
+                .type(TransactionType.DEPOSIT)
+                .status(TransactionStatus.PENDING)
+                .description(description)
+                .build()
+                .complete());
+        ledgerPort.append(LedgerEntry.doubleEntry(transaction.getId(), LedgerEntry.EXTERNAL_ACCOUNT_ID, accountId, amount));
+        log.debug("입금 원장 기록: 트랜잭션 ID: {}, 계좌 ID: {}, 금액: {}", transaction.getId(), accountId, amount);
+        return transaction;
+    }
+
+    /**
+     * 출금 기록 (완료된 출금 트랜잭션 + 계좌 차변 / 외부 정산 계좌 대변)
+     * @param accountId 출금 계좌 ID
+     * @param amount 출금액
+     * @param description 설명
+     * @return 저장된 출금 트랜잭션
+     */
+    public Transaction recordWithdrawal(UUID accountId, BigDecimal amount, String description) {
+        Transaction transaction = transactionPort.create(Transaction.builder()
+                .sourceAccountId(accountId)
+                .amount(amount)
+                .type(TransactionType.WITHDRAWAL)
+                .status(TransactionStatus.PENDING)
+                .description(description)
+                .build()
+                .complete());
+        ledgerPort.append(LedgerEntry.doubleEntry(transaction.getId(), accountId, LedgerEntry.EXTERNAL_ACCOUNT_ID, amount));
+        log.debug("출금 원장 기록: 트랜잭션 ID: {}, 계좌 ID: {}, 금액: {}", transaction.getId(), accountId, amount);
+        return transaction;
+    }
+
+    /**
+     * 이체 기록 (출금 계좌 차변 / 입금 계좌 대변)
+     * 트랜잭션은 이체 서비스가 저장하므로 분개만 추가합니다.
+     * @param transaction 완료된 이체 트랜잭션
+     */
+    public void recordTransfer(Transaction transaction) {
+        ledgerPort.append(LedgerEntry.doubleEntry(transaction.getId(),
+                transaction.getSourceAccountId(), transaction.getTargetAccountId(), transaction.getAmount()));
+        log.debug("이체 원장 기록: 트랜잭션 ID: {}", transaction.getId());
+    }
+}
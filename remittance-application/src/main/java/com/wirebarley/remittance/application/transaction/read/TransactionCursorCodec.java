@@ -0,0 +1,57 @@
+package com.wirebarley.remittance.application.transaction.read;
+
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.domain.transaction.TransactionCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 커서 인코더/디코더
+ * 커서를 클라이언트가 해석할 수 없는 URL-safe Base64 토큰으로 변환합니다.
+ */
+public final class TransactionCursorCodec {
+    private static final String SEPARATOR = "|";
+
+    private TransactionCursorCodec() {
+        // 유틸리티 클래스 인스턴스화 방지
+    }
+
+    /**
+     * 커서 인코딩
+     * @param cursor 커서
+     * @return 불투명 커서 토큰
+     */
+    public static String encode(TransactionCursor cursor) {
+        String raw = cursor.getCreatedAt() + SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     * @param token 불투명 커서 토큰 (null 또는 빈 값이면 첫 페이지)
+     * @return 커서, 첫 페이지이면 null
+     * @throws BusinessException 토큰 형식이 올바르지 않은 경우
+     */
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("구분자가 없습니다.");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            UUID id = UUID.fromString(raw.substring(separatorIndex + 1));
+            return TransactionCursor.of(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.wirebarley.remittance.application.transaction.read;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 트랜잭션 페이지 조회 결과 모델
+ * CQRS 패턴의 Query 모델
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPage {
+    private List<TransactionRead> items;
+    /**
+     * 다음 페이지 조회용 불투명 커서 (마지막 페이지이면 null)
+     */
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -21,8 +21,10 @@ public class TransactionRead {
     private UUID id;
     private UUID sourceAccountId;
     private String sourceAccountNumber;
+    private String sourceMaskedAccountNumber;
     private UUID targetAccountId;
     private String targetAccountNumber;
+    private String targetMaskedAccountNumber;
     private BigDecimal amount;
     private String type;
     private String status;
@@ -0,0 +1,127 @@
+package com.wirebarley.remittance.application.transaction.service;
+
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
+import com.wirebarley.remittance.application.transaction.command.TransferCommand;
+import com.wirebarley.remittance.application.transaction.usecase.TransactionCommandUseCase;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.TransactionStatus;
+import com.wirebarley.remittance.domain.transaction.TransactionType;
+import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 Command 서비스 (조건부 단일 UPDATE 방식)
+ * 입출금과 같은 방식으로, 분산 락 없이 출금 계좌 잔액 감소/입금 계좌 잔액 증가를 조건부 UPDATE 두 번으로 처리합니다.
+ * 잔액을 읽어 다시 쓰지 않으므로 같은 계좌의 원자적 입출금과 동시에 실행되어도 변경이 유실되지 않습니다.
+ * 두 UPDATE는 계좌 ID 순서로 실행하여 반대 방향 이체끼리의 교착을 피하고, 하나라도 실패하면 트랜잭션 전체가 롤백됩니다.
+ * remittance.account.balance-update-mode=atomic 일 때 기본 서비스 대신 사용됩니다.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "remittance.account.balance-update-mode", havingValue = "atomic")
+@RequiredArgsConstructor
+@Slf4j
+public class AtomicTransactionCommandService implements TransactionCommandUseCase {
+    private final AccountPort accountPort;
+    private final TransactionPort transactionPort;
+    private final LedgerService ledgerService;
+
+    /**
+     * 이체 처리
+     * @param command 이체 커맨드
+     * @return 생성된 트랜잭션 ID
+     */
+    @Override
+    @Transactional
+    public UUID transfer(TransferCommand command) {
+        log.debug("이체 처리 시작: 출금 계좌: {}, 입금 계좌: {}, 금액: {}",
+                command.getSourceAccountId(), command.getTargetAccountId(), command.getAmount());
+
+        if (command.getSourceAccountId().equals(command.getTargetAccountId())) {
+            log.error("동일 계좌 이체 시도: {}", command.getSourceAccountId());
+            throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER, "동일한 계좌 간 이체는 불가능합니다.");
+        }
+        try {
+            Account.validateAmount(command.getAmount());
+        } catch (IllegalArgumentException e) {
+            log.error("유효하지 않은 금액: {}", command.getAmount());
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e.getMessage(), e);
+        }
+
+        if (command.getSourceAccountId().compareTo(command.getTargetAccountId()) < 0) {
+            decrease(command.getSourceAccountId(), command.getAmount());
+            increase(command.getTargetAccountId(), command.getAmount());
+        } else {
+            increase(command.getTargetAccountId(), command.getAmount());
+            decrease(command.getSourceAccountId(), command.getAmount());
+        }
+
+        Transaction transaction = transactionPort.create(Transaction.builder()
+                .sourceAccountId(command.getSourceAccountId())
+                .targetAccountId(command.getTargetAccountId())
+                .amount(command.getAmount())
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.PENDING)
+                .description(command.getDescription())
+                .build()
+                .complete());
+        ledgerService.recordTransfer(transaction);
+
+        log.info("이체 처리 완료: 트랜잭션 ID: {}, 출금 계좌: {}, 입금 계좌: {}, 금액: {}",
+                transaction.getId(), command.getSourceAccountId(), command.getTargetAccountId(), command.getAmount());
+        return transaction.getId();
+    }
+
+    private void decrease(UUID accountId, BigDecimal amount) {
+        if (!accountPort.decreaseBalance(accountId, amount)) {
+            throw resolveFailure(accountId, amount, true);
+        }
+    }
+
+    private void increase(UUID accountId, BigDecimal amount) {
+        if (!accountPort.increaseBalance(accountId, amount)) {
+            throw resolveFailure(accountId, amount, false);
+        }
+    }
+
+    /**
+     * 갱신된 행이 없을 때 원인 판별
+     * @param accountId 계좌 ID
+     * @param amount 요청 금액
+     * @param source 출금 계좌 여부 (출금 계좌일 때만 잔액 부족을 판별)
+     * @return 원인에 맞는 비즈니스 예외
+     */
+    private BusinessException resolveFailure(UUID accountId, BigDecimal amount, boolean source) {
+        String label = source ? "출금 계좌" : "입금 계좌";
+        Optional<Account> account = accountPort.findById(accountId);
+        if (account.isEmpty()) {
+            log.error("이체 실패: {}를 찾을 수 없음: {}", label, accountId);
+            return new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, label + "를 찾을 수 없습니다: " + accountId);
+        }
+        if (account.get().getStatus() != AccountStatus.ACTIVE) {
+            log.error("이체 실패: {} 상태 오류: {}", label, accountId);
+            return new BusinessException(ErrorCode.INACTIVE_ACCOUNT, label + "가 비활성화 상태입니다.");
+        }
+        if (source && account.get().getBalance().compareTo(amount) < 0) {
+            log.error("이체 실패: 잔액 부족: {}", accountId);
+            return new BusinessException(ErrorCode.INSUFFICIENT_BALANCE,
+                    "잔액이 부족합니다. 현재 잔액: " + account.get().getBalance());
+        }
+        log.error("이체 실패: 원인 불명: {}", accountId);
+        return new BusinessException(ErrorCode.TRANSFER_FAILED, "이체 처리 중 오류가 발생했습니다.");
+    }
+}
@@ -0,0 +1,39 @@
+package com.wirebarley.remittance.application.transaction.service;
+
+import com.wirebarley.remittance.application.common.retry.OptimisticRetryTemplate;
+import com.wirebarley.remittance.application.transaction.command.TransferCommand;
+import com.wirebarley.remittance.application.transaction.usecase.TransactionCommandUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 트랜잭션 Command 서비스 (낙관적 잠금 방식)
+ * 입출금과 같은 재시도 템플릿으로, 분산 락 없이 계좌 버전 충돌 시 두 계좌를 다시 조회하여 이체를 재시도합니다.
+ * remittance.account.balance-update-mode=optimistic 일 때 기본 서비스 대신 사용됩니다.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "remittance.account.balance-update-mode", havingValue = "optimistic")
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticTransactionCommandService implements TransactionCommandUseCase {
+    private final TransactionCommandService transactionCommandService;
+    private final OptimisticRetryTemplate optimisticRetryTemplate;
+
+    /**
+     * 이체 처리
+     * @param command 이체 커맨드
+     * @return 생성된 트랜잭션 ID
+     */
+    @Override
+    public UUID transfer(TransferCommand command) {
+        log.debug("이체 처리 시작: 출금 계좌: {}, 입금 계좌: {}, 금액: {}",
+                command.getSourceAccountId(), command.getTargetAccountId(), command.getAmount());
+        return optimisticRetryTemplate.execute("이체", () -> transactionCommandService.applyTransfer(command));
+    }
+}
@@ -1,21 +1,25 @@
 package com.wirebarley.remittance.application.transaction.service;
 
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
 import com.wirebarley.remittance.application.transaction.command.TransferCommand;
 import com.wirebarley.remittance.application.transaction.usecase.TransactionCommandUseCase;
+import com.wirebarley.remittance.application.transaction.validator.TransferPreLockValidator;
 import com.wirebarley.remittance.common.aop.DistributedLock;
 import com.wirebarley.remittance.common.error.BusinessException;
 import com.wirebarley.remittance.common.error.ErrorCode;
 import com.wirebarley.remittance.domain.account.Account;
-import com.wirebarley.remittance.domain.account.port.AccountPort;
 import com.wirebarley.remittance.domain.transaction.Transaction;
 import com.wirebarley.remittance.domain.transaction.TransactionStatus;
 import com.wirebarley.remittance.domain.transaction.TransactionType;
 import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import com.wirebarley.remittance.domain.transaction.port.TransferPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -26,21 +30,36 @@ import java.util.UUID;
 @Slf4j
 public class TransactionCommandService implements TransactionCommandUseCase {
     private final TransactionPort transactionPort;
-    private final AccountPort accountPort;
+    private final TransferPort transferPort;
+    private final LedgerService ledgerService;
     
     /**
      * 이체 처리
+     * 두 계좌를 한 번에 조회하고, 잔액 변경과 최종 상태 트랜잭션을 한 번에 저장합니다.
      * @param command 이체 커맨드
      * @return 생성된 트랜잭션 ID
      */
     @Transactional
     @DistributedLock(
-        key = "transfer",
+        key = "account",
         paramNames = {"command.sourceAccountId", "command.targetAccountId"},
+        multiLock = true,
         waitTime = 10L,
-        leaseTime = 15L
+        leaseTime = 15L,
+        validators = TransferPreLockValidator.class
     )
     public UUID transfer(TransferCommand command) {
+        return applyTransfer(command);
+    }
+    
+    /**
+     * 이체 적용 (락/트랜잭션 없음)
+     * 호출한 쪽의 트랜잭션 안에서 계좌를 조회하고 변경합니다. 낙관적 잠금 방식에서는 재시도 템플릿이 직접 호출하며,
+     * 계좌 버전 충돌(OptimisticLockingFailureException)은 재시도할 수 있도록 그대로 전파합니다.
+     * @param command 이체 커맨드
+     * @return 생성된 트랜잭션 ID
+     */
+    public UUID applyTransfer(TransferCommand command) {
         log.debug("이체 처리 시작: 출금 계좌: {}, 입금 계좌: {}, 금액: {}", 
                 command.getSourceAccountId(), command.getTargetAccountId(), command.getAmount());
         
@@ -50,22 +69,23 @@ public class TransactionCommandService implements TransactionCommandUseCase {
             throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER, "동일한 계좌 간 이체는 불가능합니다.");
         }
         
-        // 계좌 조회
-        Account sourceAccount = accountPort.findById(command.getSourceAccountId())
-                .orElseThrow(() -> {
-                    log.error("출금 계좌를 찾을 수 없음: {}", command.getSourceAccountId());
-                    return new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, 
-                            "출금 계좌를 찾을 수 없습니다: " + command.getSourceAccountId());
-                });
+        // 계좌 조회 (IN 쿼리 1회)
+        Map<UUID, Account> accounts = transferPort.findAccounts(command.getSourceAccountId(), command.getTargetAccountId());
+        Account sourceAccount = accounts.get(command.getSourceAccountId());
+        if (sourceAccount == null) {
+            log.error("출금 계좌를 찾을 수 없음: {}", command.getSourceAccountId());
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, 
+                    "출금 계좌를 찾을 수 없습니다: " + command.getSourceAccountId());
+        }
         
-        Account targetAccount = accountPort.findById(command.getTargetAccountId())
-                .orElseThrow(() -> {
-                    log.error("입금 계좌를 찾을 수 없음: {}", command.getTargetAccountId());
-                    return new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, 
-                            "입금 계좌를 찾을 수 없습니다: " + command.getTargetAccountId());
-                });
+        Account targetAccount = accounts.get(command.getTargetAccountId());
+        if (targetAccount == null) {
+            log.error("입금 계좌를 찾을 수 없음: {}", command.getTargetAccountId());
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, 
+                    "입금 계좌를 찾을 수 없습니다: " + command.getTargetAccountId());
+        }
         
-        // 트랜잭션 생성
+        // 트랜잭션 생성 (최종 상태로만 저장)
         Transaction transaction = Transaction.builder()
                 .sourceAccountId(command.getSourceAccountId())
                 .targetAccountId(command.getTargetAccountId())
@@ -75,14 +95,10 @@ public class TransactionCommandService implements TransactionCommandUseCase {
                 .description(command.getDescription())
                 .build();
         
-        transaction = transactionPort.save(transaction);
-        log.debug("트랜잭션 생성 완료: {}", transaction.getId());
-        
         try {
             // 출금 처리
             try {
                 sourceAccount.withdraw(command.getAmount());
-                accountPort.save(sourceAccount);
                 log.debug("출금 처리 완료: 계좌: {}, 금액: {}", sourceAccount.getId(), command.getAmount());
             } catch (IllegalStateException e) {
                 log.error("출금 계좌가 비활성화 상태: {}", sourceAccount.getId(), e);
@@ -100,7 +116,6 @@ public class TransactionCommandService implements TransactionCommandUseCase {
             // 입금 처리
             try {
                 targetAccount.deposit(command.getAmount());
-                accountPort.save(targetAccount);
                 log.debug("입금 처리 완료: 계좌: {}, 금액: {}", targetAccount.getId(), command.getAmount());
             } catch (IllegalStateException e) {
                 log.error("입금 계좌가 비활성화 상태: {}", targetAccount.getId(), e);
@@ -110,24 +125,28 @@ public class TransactionCommandService implements TransactionCommandUseCase {
                 throw new BusinessException(ErrorCode.TRANSFER_FAILED, "입금 처리 중 오류가 발생했습니다.", e);
             }
             
-            // 트랜잭션 완료 처리
+            // 트랜잭션 완료 처리 (잔액 UPDATE 2건 + 트랜잭션 INSERT 1건 일괄 저장)
             transaction.complete();
-            Transaction completedTransaction = transactionPort.save(transaction);
+            Transaction completedTransaction = transferPort.save(sourceAccount, targetAccount, transaction);
+            ledgerService.recordTransfer(completedTransaction);
             log.info("이체 처리 완료: 트랜잭션 ID: {}, 출금 계좌: {}, 입금 계좌: {}, 금액: {}", 
                     completedTransaction.getId(), sourceAccount.getId(), targetAccount.getId(), command.getAmount());
             
             return completedTransaction.getId();
+        } catch (OptimisticLockingFailureException e) {
+            // 동시 변경 충돌은 실패 기록 없이 전파 (재시도 또는 409 응답)
+            throw e;
         } catch (BusinessException e) {
             // 실패 처리
             transaction.fail(e.getMessage());
-            Transaction failedTransaction = transactionPort.save(transaction);
+            Transaction failedTransaction = transactionPort.create(transaction);
             log.error("이체 실패: 트랜잭션 ID: {}, 에러 코드: {}, 메시지: {}", 
                     failedTransaction.getId(), e.getErrorCode().getCode(), e.getMessage());
             throw e;
         } catch (Exception e) {
             // 실패 처리
             transaction.fail(e.getMessage());
-            Transaction failedTransaction = transactionPort.save(transaction);
+            Transaction failedTransaction = transactionPort.create(transaction);
             log.error("이체 중 예외 발생: 트랜잭션 ID: {}", failedTransaction.getId(), e);
             throw new BusinessException(ErrorCode.TRANSFER_FAILED, "이체 처리 중 시스템 오류가 발생했습니다.", e);
         }
@@ -1,16 +1,27 @@
 package com.wirebarley.remittance.application.transaction.service;
 
+import com.wirebarley.remittance.application.transaction.read.TransactionCursorCodec;
+import com.wirebarley.remittance.application.transaction.read.TransactionPage;
 import com.wirebarley.remittance.application.transaction.read.TransactionRead;
 import com.wirebarley.remittance.application.transaction.usecase.TransactionQueryUseCase;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
 import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.MaskedAccount;
 import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.TransactionCursor;
 import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +30,11 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class TransactionQueryService implements TransactionQueryUseCase {
+    /**
+     * 페이지 최대 크기
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+    
     private final TransactionPort transactionPort;  // 도메인 포트를 의존성 주입받음
     private final AccountPort accountPort;          // 도메인 포트를 의존성 주입받음
 
@@ -30,65 +46,136 @@ public class TransactionQueryService implements TransactionQueryUseCase {
     @Transactional(readOnly = true)
     public TransactionRead getTransaction(UUID transactionId) {
         // 조회 작업만 수행 (read-only operations)
-        com.wirebarley.remittance.domain.transaction.Transaction transaction = transactionPort.findById(transactionId)
+        Transaction transaction = transactionPort.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("트랜잭션을 찾을 수 없습니다: " + transactionId));
         
-        return mapToDto(transaction);
+        return mapToDtos(List.of(transaction), false).get(0);
     }
     
     /**
-     * 계좌 ID로 출금 트랜잭션 조회 
+     * 계좌 ID로 출금 트랜잭션 페이지 조회 
      * @param accountId 계좌 ID
-     * @return 트랜잭션 DTO 목록
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param maskedOnly true이면 계좌번호를 복호화하지 않고 마스킹된 계좌번호만 반환
+     * @return 트랜잭션 페이지
      */
     @Transactional(readOnly = true)
-    public List<TransactionRead> getTransactionsBySourceAccount(UUID accountId) {
-        return transactionPort.findBySourceAccountId(accountId).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public TransactionPage getTransactionsBySourceAccount(UUID accountId, String cursor, int size, boolean maskedOnly) {
+        TransactionCursor decodedCursor = TransactionCursorCodec.decode(cursor);
+        return loadPage(limit -> transactionPort.findBySourceAccountId(accountId, decodedCursor, limit), size, maskedOnly);
     }
     
     /**
-     * 계좌 ID로 입금 트랜잭션 조회 
+     * 계좌 ID로 입금 트랜잭션 페이지 조회 
      * @param accountId 계좌 ID
-     * @return 트랜잭션 DTO 목록
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param maskedOnly true이면 계좌번호를 복호화하지 않고 마스킹된 계좌번호만 반환
+     * @return 트랜잭션 페이지
      */
     @Transactional(readOnly = true)
-    public List<TransactionRead> getTransactionsByTargetAccount(UUID accountId) {
-        return transactionPort.findByTargetAccountId(accountId).stream()
-                .map(this::mapToDto)
+    public TransactionPage getTransactionsByTargetAccount(UUID accountId, String cursor, int size, boolean maskedOnly) {
+        TransactionCursor decodedCursor = TransactionCursorCodec.decode(cursor);
+        return loadPage(limit -> transactionPort.findByTargetAccountId(accountId, decodedCursor, limit), size, maskedOnly);
+    }
+    
+    /**
+     * 페이지 조회
+     * 다음 페이지 존재 여부를 알기 위해 요청 크기보다 한 건 더 조회합니다.
+     * @param pageLoader 조회 건수를 받아 트랜잭션을 조회하는 함수
+     * @param size 요청 페이지 크기
+     * @param maskedOnly true이면 마스킹 전용 조회
+     * @return 트랜잭션 페이지
+     */
+    private TransactionPage loadPage(IntFunction<List<Transaction>> pageLoader, int size, boolean maskedOnly) {
+        if (size < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "페이지 크기는 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        
+        List<Transaction> transactions = pageLoader.apply(pageSize + 1);
+        boolean hasNext = transactions.size() > pageSize;
+        if (hasNext) {
+            transactions = transactions.subList(0, pageSize);
+        }
+        
+        String nextCursor = hasNext
+                ? TransactionCursorCodec.encode(TransactionCursor.from(transactions.get(transactions.size() - 1)))
+                : null;
+        
+        return TransactionPage.builder()
+                .items(mapToDtos(transactions, maskedOnly))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    /**
+     * 도메인 객체 목록을 DTO 목록으로 변환
+     * 참조된 계좌는 한 번의 일괄 조회로 가져옵니다.
+     * @param transactions 도메인 트랜잭션 객체 목록
+     * @param maskedOnly true이면 마스킹 전용 조회로 계좌를 읽어 복호화를 생략
+     * @return 트랜잭션 DTO 목록
+     */
+    private List<TransactionRead> mapToDtos(List<Transaction> transactions, boolean maskedOnly) {
+        Map<UUID, AccountNumbers> accounts = loadAccounts(transactions, maskedOnly);
+        return transactions.stream()
+                .map(transaction -> mapToDto(transaction, accounts))
                 .collect(Collectors.toList());
     }
     
     /**
-     * 도메인 객체를 DTO로 변환
-     * @param transaction 도메인 트랜잭션 객체
-     * @return 트랜잭션 DTO
+     * 트랜잭션이 참조하는 계좌의 계좌번호 일괄 조회
+     * @param transactions 도메인 트랜잭션 객체 목록
+     * @param maskedOnly true이면 마스킹 전용 조회 (계좌번호는 비움)
+     * @return 계좌 ID별 계좌번호
      */
-    private TransactionRead mapToDto(com.wirebarley.remittance.domain.transaction.Transaction transaction) {
-        // 도메인 로직을 통해 데이터 조회
-        // 도메인 객체를 애플리케이션 레이어의 DTO로 변환
-        // 계좌 번호 조회
-        String sourceAccountNumber = null;
-        if (transaction.getSourceAccountId() != null) {
-            sourceAccountNumber = accountPort.findById(transaction.getSourceAccountId())
-                    .map(Account::getAccountNumber)
-                    .orElse(null);
+    private Map<UUID, AccountNumbers> loadAccounts(List<Transaction> transactions, boolean maskedOnly) {
+        Set<UUID> accountIds = new HashSet<>();
+        for (Transaction transaction : transactions) {
+            if (transaction.getSourceAccountId() != null) {
+                accountIds.add(transaction.getSourceAccountId());
+            }
+            if (transaction.getTargetAccountId() != null) {
+                accountIds.add(transaction.getTargetAccountId());
+            }
         }
         
-        String targetAccountNumber = null;
-        if (transaction.getTargetAccountId() != null) {
-            targetAccountNumber = accountPort.findById(transaction.getTargetAccountId())
-                    .map(Account::getAccountNumber)
-                    .orElse(null);
+        if (accountIds.isEmpty()) {
+            return Map.of();
         }
         
+        if (maskedOnly) {
+            return accountPort.findAllMaskedByIds(accountIds).stream()
+                    .collect(Collectors.toMap(MaskedAccount::getId,
+                            account -> new AccountNumbers(null, account.getMaskedAccountNumber())));
+        }
+        return accountPort.findAllByIds(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId,
+                        account -> new AccountNumbers(account.getAccountNumber(), account.getMaskedAccountNumber())));
+    }
+    
+    /**
+     * 도메인 객체를 DTO로 변환
+     * @param transaction 도메인 트랜잭션 객체
+     * @param accounts 미리 조회한 계좌 ID별 계좌번호
+     * @return 트랜잭션 DTO
+     */
+    private TransactionRead mapToDto(Transaction transaction, Map<UUID, AccountNumbers> accounts) {
+        AccountNumbers sourceAccount = transaction.getSourceAccountId() != null
+                ? accounts.get(transaction.getSourceAccountId()) : null;
+        AccountNumbers targetAccount = transaction.getTargetAccountId() != null
+                ? accounts.get(transaction.getTargetAccountId()) : null;
+        
         return TransactionRead.builder()
                 .id(transaction.getId())
                 .sourceAccountId(transaction.getSourceAccountId())
-                .sourceAccountNumber(sourceAccountNumber)
+                .sourceAccountNumber(sourceAccount != null ? sourceAccount.accountNumber() : null)
+                .sourceMaskedAccountNumber(sourceAccount != null ? sourceAccount.maskedAccountNumber() : null)
                 .targetAccountId(transaction.getTargetAccountId())
-                .targetAccountNumber(targetAccountNumber)
+                .targetAccountNumber(targetAccount != null ? targetAccount.accountNumber() : null)
+                .targetMaskedAccountNumber(targetAccount != null ? targetAccount.maskedAccountNumber() : null)
                 .amount(transaction.getAmount())
                 .type(transaction.getType().name())
                 .status(transaction.getStatus().name())
@@ -97,4 +184,10 @@ public class TransactionQueryService implements TransactionQueryUseCase {
                 .updatedAt(transaction.getUpdatedAt())
                 .build();
     }
+    
+    /**
+     * 응답에 담을 계좌번호 (마스킹 전용 조회에서는 계좌번호 없음)
+     */
+    private record AccountNumbers(String accountNumber, String maskedAccountNumber) {
+    }
 }
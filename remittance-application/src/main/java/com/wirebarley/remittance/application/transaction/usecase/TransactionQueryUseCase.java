@@ -1,8 +1,8 @@
 package com.wirebarley.remittance.application.transaction.usecase;
 
+import com.wirebarley.remittance.application.transaction.read.TransactionPage;
 import com.wirebarley.remittance.application.transaction.read.TransactionRead;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -17,16 +17,22 @@ public interface TransactionQueryUseCase {
     TransactionRead getTransaction(UUID transactionId);
     
     /**
-     * 계좌 ID로 출금 트랜잭션 조회
+     * 계좌 ID로 출금 트랜잭션 페이지 조회 (키셋 페이지네이션)
      * @param accountId 계좌 ID
-     * @return 트랜잭션 DTO 목록
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 크기를 넘으면 최대 크기로 제한)
+     * @param maskedOnly true이면 계좌번호를 복호화하지 않고 마스킹된 계좌번호만 반환
+     * @return 트랜잭션 페이지
      */
-    List<TransactionRead> getTransactionsBySourceAccount(UUID accountId);
+    TransactionPage getTransactionsBySourceAccount(UUID accountId, String cursor, int size, boolean maskedOnly);
     
     /**
-     * 계좌 ID로 입금 트랜잭션 조회
+     * 계좌 ID로 입금 트랜잭션 페이지 조회 (키셋 페이지네이션)
      * @param accountId 계좌 ID
-     * @return 트랜잭션 DTO 목록
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 크기를 넘으면 최대 크기로 제한)
+     * @param maskedOnly true이면 계좌번호를 복호화하지 않고 마스킹된 계좌번호만 반환
+     * @return 트랜잭션 페이지
      */
-    List<TransactionRead> getTransactionsByTargetAccount(UUID accountId);
+    TransactionPage getTransactionsByTargetAccount(UUID accountId, String cursor, int size, boolean maskedOnly);
 }
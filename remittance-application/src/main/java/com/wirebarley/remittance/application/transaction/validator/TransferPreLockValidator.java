@@ -0,0 +1,34 @@
+package com.wirebarley.remittance.application.transaction.validator;
+
+import com.wirebarley.remittance.application.account.validator.AccountPreconditions;
+import com.wirebarley.remittance.application.transaction.command.TransferCommand;
+import com.wirebarley.remittance.common.aop.PreLockValidator;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이체 락 획득 전 검증
+ * 동일 계좌 이체, 금액, 출금/입금 계좌의 존재와 활성 상태를 확인합니다. 잔액은 락 안에서만 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferPreLockValidator implements PreLockValidator {
+    private final AccountPreconditions accountPreconditions;
+
+    @Override
+    public void validate(Object[] args) {
+        TransferCommand command = (TransferCommand) args[0];
+
+        if (command.getSourceAccountId().equals(command.getTargetAccountId())) {
+            log.debug("사전 검증 실패: 동일 계좌 이체 시도: {}", command.getSourceAccountId());
+            throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER, "동일한 계좌 간 이체는 불가능합니다.");
+        }
+        accountPreconditions.requireValidAmount(command.getAmount());
+        accountPreconditions.requireActive(command.getSourceAccountId(), "출금 계좌");
+        accountPreconditions.requireActive(command.getTargetAccountId(), "입금 계좌");
+    }
+}
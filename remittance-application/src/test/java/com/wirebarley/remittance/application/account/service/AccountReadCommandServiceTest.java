@@ -3,6 +3,8 @@ package com.wirebarley.remittance.application.account.service;
 import com.wirebarley.remittance.application.account.command.CreateAccountCommand;
 import com.wirebarley.remittance.application.account.command.DepositCommand;
 import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
+import com.wirebarley.remittance.common.error.BusinessException;
 import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
 import com.wirebarley.remittance.domain.account.Account;
 import com.wirebarley.remittance.domain.account.port.AccountPort;
@@ -31,6 +33,9 @@ class AccountReadCommandServiceTest {
     @Mock
     private AccountPort accountPort;
 
+    @Mock
+    private LedgerService ledgerService;
+
     @InjectMocks
     private AccountCommandService accountCommandService;
 
@@ -51,16 +56,18 @@ class AccountReadCommandServiceTest {
                 .balance(command.getInitialBalance())
                 .build();
 
-        when(accountPort.findByAccountNumber(command.getAccountNumber())).thenReturn(Optional.empty());
-        when(accountPort.save(any(Account.class))).thenReturn(savedAccount);
+        when(accountPort.existsByAccountNumber(command.getAccountNumber())).thenReturn(false);
+        when(accountPort.create(any(Account.class))).thenReturn(savedAccount);
 
         // when
         UUID accountId = accountCommandService.createAccount(command);
 
         // then
         assertNotNull(accountId);
-        verify(accountPort).findByAccountNumber(command.getAccountNumber());
-        verify(accountPort).save(any(Account.class));
+        verify(accountPort).existsByAccountNumber(command.getAccountNumber());
+        verify(accountPort).create(any(Account.class));
+        verify(accountPort, never()).save(any(Account.class));
+        verify(ledgerService).recordDeposit(savedAccount.getId(), command.getInitialBalance(), "계좌 개설 초기 입금");
     }
 
     @Test
@@ -73,19 +80,12 @@ class AccountReadCommandServiceTest {
                 .initialBalance(BigDecimal.valueOf(1000))
                 .build();
 
-        Account existingAccount = Account.builder()
-                .id(TimeBasedUuidGenerator.generate())
-                .accountNumber(command.getAccountNumber())
-                .accountName("기존 계좌")
-                .balance(BigDecimal.valueOf(2000))
-                .build();
-
-        when(accountPort.findByAccountNumber(command.getAccountNumber())).thenReturn(Optional.of(existingAccount));
+        when(accountPort.existsByAccountNumber(command.getAccountNumber())).thenReturn(true);
 
         // when & then
-        assertThrows(IllegalArgumentException.class, () -> accountCommandService.createAccount(command));
-        verify(accountPort).findByAccountNumber(command.getAccountNumber());
-        verify(accountPort, never()).save(any(Account.class));
+        assertThrows(BusinessException.class, () -> accountCommandService.createAccount(command));
+        verify(accountPort).existsByAccountNumber(command.getAccountNumber());
+        verify(accountPort, never()).create(any(Account.class));
     }
 
     @Test
@@ -123,6 +123,7 @@ class AccountReadCommandServiceTest {
         assertEquals(accountId, resultId);
         verify(accountPort).findById(accountId);
         verify(accountPort).save(any(Account.class));
+        verify(ledgerService).recordDeposit(accountId, command.getAmount(), "테스트 입금");
     }
 
     @Test
@@ -160,5 +161,6 @@ class AccountReadCommandServiceTest {
         assertEquals(accountId, resultId);
         verify(accountPort).findById(accountId);
         verify(accountPort).save(any(Account.class));
+        verify(ledgerService).recordWithdrawal(accountId, command.getAmount(), command.getDescription());
     }
 }
@@ -1,9 +1,17 @@
 package com.wirebarley.remittance.application.account.service;
 
+import com.wirebarley.remittance.application.account.read.AccountBalanceRead;
 import com.wirebarley.remittance.application.account.read.AccountRead;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
 import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
 import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.MaskedAccount;
 import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.domain.account.port.AccountStatusPort;
+import com.wirebarley.remittance.domain.ledger.BalanceCheckpoint;
+import com.wirebarley.remittance.domain.ledger.port.BalanceCheckpointPort;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,13 +20,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +41,15 @@ class AccountReadQueryServiceTest {
     @Mock
     private AccountPort accountPort;
 
+    @Mock
+    private AccountStatusPort accountStatusPort;
+
+    @Mock
+    private LedgerPort ledgerPort;
+
+    @Mock
+    private BalanceCheckpointPort balanceCheckpointPort;
+
     @InjectMocks
     private AccountQueryService accountQueryService;
 
@@ -115,4 +138,208 @@ class AccountReadQueryServiceTest {
         assertEquals(2, accountReads.size());
         verify(accountPort).findAll();
     }
+
+    @Test
+    @DisplayName("모든 계좌 마스킹 전용 조회 테스트")
+    void getAllMaskedAccounts() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        MaskedAccount account = MaskedAccount.builder()
+                .id(TimeBasedUuidGenerator.generate())
+                .maskedAccountNumber("12**567890")
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .status(AccountStatus.ACTIVE)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+
+        when(accountPort.findAllMasked()).thenReturn(List.of(account));
+
+        // when
+        List<AccountRead> accountReads = accountQueryService.getAllMaskedAccounts();
+
+        // then
+        assertEquals(1, accountReads.size());
+        assertNull(accountReads.get(0).getAccountNumber());
+        assertEquals("12**567890", accountReads.get(0).getMaskedAccountNumber());
+        assertEquals(createdAt, accountReads.get(0).getCreatedAt());
+        verify(accountPort).findAllMasked();
+        verify(accountPort, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("계좌 일괄 조회 테스트")
+    void getAccounts() {
+        // given
+        UUID accountId1 = TimeBasedUuidGenerator.generate();
+        UUID accountId2 = TimeBasedUuidGenerator.generate();
+        UUID missingAccountId = TimeBasedUuidGenerator.generate();
+        com.wirebarley.remittance.domain.account.Account account1 = com.wirebarley.remittance.domain.account.Account.builder()
+                .id(accountId1)
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌 1")
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+
+        com.wirebarley.remittance.domain.account.Account account2 = com.wirebarley.remittance.domain.account.Account.builder()
+                .id(accountId2)
+                .accountNumber("0987654321")
+                .accountName("테스트 계좌 2")
+                .balance(BigDecimal.valueOf(2000))
+                .build();
+
+        when(accountPort.findAllByIds(anyCollection())).thenReturn(Arrays.asList(account1, account2));
+
+        // when
+        List<AccountRead> accountReads = accountQueryService.getAccounts(List.of(accountId2, missingAccountId, accountId1));
+
+        // then
+        assertEquals(2, accountReads.size());
+        assertEquals(accountId2, accountReads.get(0).getId());
+        assertEquals(accountId1, accountReads.get(1).getId());
+        verify(accountPort, times(1)).findAllByIds(anyCollection());
+        verify(accountPort, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("모든 계좌 내보내기 테스트")
+    void exportAllAccounts() {
+        // given
+        com.wirebarley.remittance.domain.account.Account account1 = com.wirebarley.remittance.domain.account.Account.builder()
+                .id(TimeBasedUuidGenerator.generate())
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌 1")
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+
+        com.wirebarley.remittance.domain.account.Account account2 = com.wirebarley.remittance.domain.account.Account.builder()
+                .id(TimeBasedUuidGenerator.generate())
+                .accountNumber("0987654321")
+                .accountName("테스트 계좌 2")
+                .balance(BigDecimal.valueOf(2000))
+                .build();
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(accountPort.streamAll()).thenReturn(Stream.of(account1, account2).onClose(() -> closed.set(true)));
+
+        // when
+        List<AccountRead> exported = new ArrayList<>();
+        accountQueryService.exportAllAccounts(false, exported::add);
+
+        // then
+        assertEquals(2, exported.size());
+        assertEquals("1234567890", exported.get(0).getAccountNumber());
+        assertEquals("0987654321", exported.get(1).getAccountNumber());
+        assertTrue(closed.get());
+        verify(accountPort, never()).findAll();
+        verify(accountPort, never()).streamAllMasked();
+    }
+
+    @Test
+    @DisplayName("모든 계좌 마스킹 전용 내보내기 테스트")
+    void exportAllMaskedAccounts() {
+        // given
+        MaskedAccount account = MaskedAccount.builder()
+                .id(TimeBasedUuidGenerator.generate())
+                .maskedAccountNumber("12**567890")
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .status(AccountStatus.ACTIVE)
+                .build();
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(accountPort.streamAllMasked()).thenReturn(Stream.of(account).onClose(() -> closed.set(true)));
+
+        // when
+        List<AccountRead> exported = new ArrayList<>();
+        accountQueryService.exportAllAccounts(true, exported::add);
+
+        // then
+        assertEquals(1, exported.size());
+        assertNull(exported.get(0).getAccountNumber());
+        assertEquals("12**567890", exported.get(0).getMaskedAccountNumber());
+        assertTrue(closed.get());
+        verify(accountPort, never()).streamAll();
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 테스트 - 체크포인트 이후 분개만 합산")
+    void getBalanceAt() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        LocalDateTime checkpointAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime at = LocalDateTime.of(2026, 1, 2, 12, 0);
+        BalanceCheckpoint checkpoint = BalanceCheckpoint.builder()
+                .accountId(accountId)
+                .balance(BigDecimal.valueOf(1000))
+                .asOf(checkpointAt)
+                .build();
+
+        when(accountStatusPort.findStatusById(accountId)).thenReturn(Optional.of(AccountStatus.ACTIVE));
+        when(ledgerPort.findFirstEntryTimes(List.of(accountId))).thenReturn(Map.of(accountId, checkpointAt.minusDays(1)));
+        when(balanceCheckpointPort.findLatest(accountId, at)).thenReturn(Optional.of(checkpoint));
+        when(ledgerPort.sumByAccount(List.of(accountId), checkpointAt, at))
+                .thenReturn(Map.of(accountId, BigDecimal.valueOf(-300)));
+
+        // when
+        AccountBalanceRead balanceRead = accountQueryService.getBalanceAt(accountId, at);
+
+        // then
+        assertEquals(accountId, balanceRead.getAccountId());
+        assertEquals(BigDecimal.valueOf(700), balanceRead.getBalance());
+        assertEquals(at, balanceRead.getAt());
+        assertEquals(checkpointAt, balanceRead.getCheckpointAt());
+        verify(accountPort, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 테스트 - 체크포인트가 없으면 처음부터 합산")
+    void getBalanceAtWithoutCheckpoint() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        LocalDateTime at = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+        when(accountStatusPort.findStatusById(accountId)).thenReturn(Optional.of(AccountStatus.ACTIVE));
+        when(balanceCheckpointPort.findLatest(accountId, at)).thenReturn(Optional.empty());
+        when(ledgerPort.sumByAccount(List.of(accountId), null, at)).thenReturn(Map.of());
+
+        // when
+        AccountBalanceRead balanceRead = accountQueryService.getBalanceAt(accountId, at);
+
+        // then
+        assertEquals(BigDecimal.ZERO, balanceRead.getBalance());
+        assertNull(balanceRead.getCheckpointAt());
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 실패 테스트 - 첫 분개 이전 시각")
+    void getBalanceAtBeforeFirstEntry() {
+        // given: 원장 도입 전 계좌는 기초 잔액 분개부터 이력이 시작됨
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        LocalDateTime firstEntryAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        when(accountStatusPort.findStatusById(accountId)).thenReturn(Optional.of(AccountStatus.ACTIVE));
+        when(ledgerPort.findFirstEntryTimes(List.of(accountId))).thenReturn(Map.of(accountId, firstEntryAt));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> accountQueryService.getBalanceAt(accountId, firstEntryAt.minusSeconds(1)));
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+        verify(ledgerPort, never()).sumByAccount(anyCollection(), any(), any());
+        verifyNoInteractions(balanceCheckpointPort);
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 실패 테스트 - 존재하지 않는 계좌")
+    void getBalanceAtAccountNotFound() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        when(accountStatusPort.findStatusById(accountId)).thenReturn(Optional.empty());
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> accountQueryService.getBalanceAt(accountId, LocalDateTime.now()));
+        assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
+        verifyNoInteractions(ledgerPort, balanceCheckpointPort);
+    }
 }
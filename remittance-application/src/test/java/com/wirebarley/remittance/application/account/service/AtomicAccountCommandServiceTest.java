@@ -0,0 +1,160 @@
+package com.wirebarley.remittance.application.account.service;
+
+import com.wirebarley.remittance.application.account.command.DepositCommand;
+import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AtomicAccountCommandServiceTest {
+
+    @Mock
+    private AccountPort accountPort;
+
+    @Mock
+    private AccountCommandService accountCommandService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @InjectMocks
+    private AtomicAccountCommandService atomicAccountCommandService;
+
+    @Test
+    @DisplayName("조건부 UPDATE 입금 테스트")
+    void deposit() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        DepositCommand command = DepositCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(500))
+                .description("테스트 입금")
+                .build();
+
+        when(accountPort.increaseBalance(accountId, command.getAmount())).thenReturn(true);
+
+        // when
+        UUID result = atomicAccountCommandService.deposit(command);
+
+        // then
+        assertEquals(accountId, result);
+        verify(accountPort, never()).findById(any(UUID.class));
+        verify(accountPort, never()).save(any(Account.class));
+        verify(ledgerService).recordDeposit(accountId, command.getAmount(), "테스트 입금");
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 출금 잔액 부족 테스트")
+    void withdrawWithInsufficientBalance() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        WithdrawCommand command = WithdrawCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(2000))
+                .description("테스트 출금")
+                .build();
+
+        Account account = Account.builder()
+                .id(accountId)
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+
+        when(accountPort.decreaseBalance(accountId, command.getAmount())).thenReturn(false);
+        when(accountPort.findById(accountId)).thenReturn(Optional.of(account));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> atomicAccountCommandService.withdraw(command));
+        assertEquals(ErrorCode.INSUFFICIENT_BALANCE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 출금 비활성 계좌 테스트")
+    void withdrawFromInactiveAccount() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        WithdrawCommand command = WithdrawCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(500))
+                .description("테스트 출금")
+                .build();
+
+        Account account = Account.builder()
+                .id(accountId)
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .status(AccountStatus.INACTIVE)
+                .build();
+
+        when(accountPort.decreaseBalance(accountId, command.getAmount())).thenReturn(false);
+        when(accountPort.findById(accountId)).thenReturn(Optional.of(account));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> atomicAccountCommandService.withdraw(command));
+        assertEquals(ErrorCode.INACTIVE_ACCOUNT, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 입금 계좌 없음 테스트")
+    void depositToMissingAccount() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        DepositCommand command = DepositCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(500))
+                .description("테스트 입금")
+                .build();
+
+        when(accountPort.increaseBalance(accountId, command.getAmount())).thenReturn(false);
+        when(accountPort.findById(accountId)).thenReturn(Optional.empty());
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> atomicAccountCommandService.deposit(command));
+        assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 유효하지 않은 금액 테스트")
+    void depositWithInvalidAmount() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        DepositCommand command = DepositCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.ZERO)
+                .description("테스트 입금")
+                .build();
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> atomicAccountCommandService.deposit(command));
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+        verify(accountPort, never()).increaseBalance(any(UUID.class), any(BigDecimal.class));
+    }
+}
@@ -0,0 +1,137 @@
+package com.wirebarley.remittance.application.account.service;
+
+import com.wirebarley.remittance.application.account.command.DepositCommand;
+import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.application.common.retry.OptimisticRetryTemplate;
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticAccountCommandServiceTest {
+
+    @Mock
+    private AccountPort accountPort;
+
+    @Mock
+    private AccountCommandService accountCommandService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OptimisticAccountCommandService optimisticAccountCommandService;
+
+    @BeforeEach
+    void setUp() {
+        optimisticAccountCommandService = new OptimisticAccountCommandService(
+                accountPort, accountCommandService, ledgerService, new OptimisticRetryTemplate(transactionTemplate, 3, 0L));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("버전 충돌 후 재시도하여 입금 성공 테스트")
+    void depositRetriesOnConflict() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        DepositCommand command = DepositCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(500))
+                .description("테스트 입금")
+                .build();
+
+        when(accountPort.findById(accountId)).thenAnswer(invocation -> Optional.of(account(accountId, 1000)));
+        when(accountPort.save(any(Account.class)))
+                .thenThrow(new OptimisticLockingFailureException("충돌"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        UUID result = optimisticAccountCommandService.deposit(command);
+
+        // then
+        assertEquals(accountId, result);
+        verify(accountPort, times(2)).findById(accountId);
+        verify(accountPort, times(2)).save(any(Account.class));
+        // 충돌한 시도는 롤백되므로 원장은 성공한 시도에서 한 번만 기록
+        verify(ledgerService, times(1)).recordDeposit(accountId, command.getAmount(), "테스트 입금");
+    }
+
+    @Test
+    @DisplayName("버전 충돌 재시도 초과 시 실패 테스트")
+    void depositFailsAfterMaxAttempts() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        DepositCommand command = DepositCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(500))
+                .description("테스트 입금")
+                .build();
+
+        when(accountPort.findById(accountId)).thenAnswer(invocation -> Optional.of(account(accountId, 1000)));
+        when(accountPort.save(any(Account.class))).thenThrow(new OptimisticLockingFailureException("충돌"));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> optimisticAccountCommandService.deposit(command));
+        assertEquals(ErrorCode.CONCURRENT_MODIFICATION, exception.getErrorCode());
+        verify(accountPort, times(3)).save(any(Account.class));
+    }
+
+    @Test
+    @DisplayName("잔액 부족 시 재시도 없이 실패 테스트")
+    void withdrawWithInsufficientBalance() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        WithdrawCommand command = WithdrawCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(2000))
+                .description("테스트 출금")
+                .build();
+
+        when(accountPort.findById(accountId)).thenReturn(Optional.of(account(accountId, 1000)));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> optimisticAccountCommandService.withdraw(command));
+        assertEquals(ErrorCode.INSUFFICIENT_BALANCE, exception.getErrorCode());
+        verify(accountPort, times(1)).findById(accountId);
+    }
+
+    private Account account(UUID accountId, long balance) {
+        return Account.builder()
+                .id(accountId)
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(balance))
+                .version(0L)
+                .build();
+    }
+}
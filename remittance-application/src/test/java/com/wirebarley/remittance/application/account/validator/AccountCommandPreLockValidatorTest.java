@@ -0,0 +1,81 @@
+package com.wirebarley.remittance.application.account.validator;
+
+import com.wirebarley.remittance.application.account.command.DepositCommand;
+import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.port.AccountStatusPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountCommandPreLockValidatorTest {
+
+    @Mock
+    private AccountStatusPort accountStatusPort;
+
+    private AccountCommandPreLockValidator validator;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        validator = new AccountCommandPreLockValidator(new AccountPreconditions(accountStatusPort));
+        accountId = TimeBasedUuidGenerator.generate();
+    }
+
+    @Test
+    @DisplayName("활성 계좌 입금 사전 검증 통과 테스트")
+    void depositToActiveAccountPasses() {
+        // given
+        when(accountStatusPort.findStatusById(accountId)).thenReturn(Optional.of(AccountStatus.ACTIVE));
+        DepositCommand command = DepositCommand.builder().accountId(accountId).amount(BigDecimal.valueOf(100)).build();
+
+        // when & then
+        assertDoesNotThrow(() -> validator.validate(new Object[]{command}));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 계좌 출금 사전 거절 테스트")
+    void withdrawFromMissingAccountRejected() {
+        // given
+        when(accountStatusPort.findStatusById(accountId)).thenReturn(Optional.empty());
+        WithdrawCommand command = WithdrawCommand.builder().accountId(accountId).amount(BigDecimal.valueOf(100)).build();
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> validator.validate(new Object[]{command}));
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("음수 금액 출금 사전 거절 테스트")
+    void negativeAmountRejected() {
+        // given
+        WithdrawCommand command = WithdrawCommand.builder().accountId(accountId).amount(BigDecimal.valueOf(-1)).build();
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> validator.validate(new Object[]{command}));
+
+        // then
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+        verify(accountStatusPort, never()).findStatusById(any());
+    }
+}
@@ -0,0 +1,336 @@
+package com.wirebarley.remittance.application.idempotency.service;
+
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.domain.idempotency.IdempotencyRecord;
+import com.wirebarley.remittance.domain.idempotency.port.IdempotencyPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+    private static final String KEY = "retry-key-1";
+    private static final List<Object> REQUEST = List.of(UUID.fromString("00000000-0000-0000-0000-000000000001"), BigDecimal.valueOf(500));
+
+    @Mock
+    private IdempotencyPort idempotencyPort;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyPort, Duration.ofHours(24), 1_000L, 10L);
+    }
+
+    @Test
+    @DisplayName("처리된 키 재전송 시 작업 없이 최초 결과 반환 테스트")
+    void replaysCompletedResult() {
+        // given
+        UUID resultId = UUID.randomUUID();
+        when(idempotencyPort.findByKey(KEY)).thenReturn(Optional.of(record(resultId, "deposit", REQUEST)));
+
+        // when
+        UUID replayed = idempotencyService.execute(KEY, "deposit", REQUEST, () -> fail("작업이 다시 실행되면 안 됩니다."));
+
+        // then
+        assertEquals(resultId, replayed);
+        verify(idempotencyPort, never()).claim(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 요청에 사용된 키 거절 테스트")
+    void rejectsKeyReusedForDifferentRequest() {
+        // given
+        when(idempotencyPort.findByKey(KEY)).thenReturn(Optional.of(record(UUID.randomUUID(), "deposit", REQUEST)));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> idempotencyService.execute(KEY, "withdraw", REQUEST, UUID::randomUUID));
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("선점 후 실행 결과 기록 테스트")
+    void claimsExecutesAndCompletes() {
+        // given
+        UUID resultId = UUID.randomUUID();
+        when(idempotencyPort.findByKey(KEY)).thenReturn(Optional.empty());
+        when(idempotencyPort.claim(eq(KEY), anyString(), any())).thenReturn(true);
+
+        // when
+        UUID executed = idempotencyService.execute(KEY, "deposit", REQUEST, () -> resultId);
+
+        // then
+        assertEquals(resultId, executed);
+        verify(idempotencyPort).complete(eq(KEY), anyString(), any(), eq(resultId));
+    }
+
+    @Test
+    @DisplayName("작업 실패 시 키 해제 테스트")
+    void releasesKeyOnFailure() {
+        // given
+        when(idempotencyPort.findByKey(KEY)).thenReturn(Optional.empty());
+        when(idempotencyPort.claim(eq(KEY), anyString(), any())).thenReturn(true);
+
+        // when & then
+        assertThrows(BusinessException.class, () -> idempotencyService.execute(KEY, "deposit", REQUEST, () -> {
+            throw new BusinessException(ErrorCode.LOCK_ACQUISITION_FAILURE);
+        }));
+        verify(idempotencyPort).release(eq(KEY), anyString(), any());
+        verify(idempotencyPort, never()).complete(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 노드의 동시 중복 요청은 최초 실행 결과 대기 테스트")
+    void concurrentDuplicateWaitsForFirstExecution() throws Exception {
+        // given
+        UUID resultId = UUID.randomUUID();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        AtomicReference<UUID> stored = new AtomicReference<>();
+        when(idempotencyPort.findByKey(KEY)).thenAnswer(invocation ->
+                Optional.ofNullable(stored.get()).map(id -> record(id, "deposit", REQUEST)));
+        when(idempotencyPort.claim(eq(KEY), anyString(), any())).thenReturn(true);
+        when(idempotencyPort.complete(eq(KEY), anyString(), any(), any())).thenAnswer(invocation -> {
+            stored.set(invocation.getArgument(3));
+            return true;
+        });
+
+        CompletableFuture<UUID> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(KEY, "deposit", REQUEST, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return resultId;
+                }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<UUID> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(KEY, "deposit", REQUEST, () -> {
+                    executions.incrementAndGet();
+                    return UUID.randomUUID();
+                }));
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertEquals(resultId, first.get(1, TimeUnit.SECONDS));
+        assertEquals(resultId, duplicate.get(1, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        verify(idempotencyPort, times(1)).claim(eq(KEY), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 처리 중인 키는 결과 기록까지 대기 테스트")
+    void waitsForOtherNode() {
+        // given
+        UUID resultId = UUID.randomUUID();
+        when(idempotencyPort.findByKey(KEY)).thenReturn(
+                Optional.of(record(null, "deposit", REQUEST)),
+                Optional.of(record(resultId, "deposit", REQUEST)));
+
+        // when
+        UUID awaited = idempotencyService.execute(KEY, "deposit", REQUEST, () -> fail("작업이 실행되면 안 됩니다."));
+
+        // then
+        assertEquals(resultId, awaited);
+    }
+
+    @Test
+    @DisplayName("만료된 키를 두 노드가 동시에 다시 선점해도 한 번만 실행 테스트")
+    void expiredKeyRaceExecutesOnce() throws Exception {
+        // given: 두 노드가 공유하는 저장소에 만료된 처리 중 기록, 두 노드 모두 만료 기록을 본 뒤에 삭제 시도
+        SharedIdempotencyStore store = new SharedIdempotencyStore(new CyclicBarrier(2));
+        store.records.put(KEY, IdempotencyRecord.builder()
+                .key(KEY)
+                .fingerprint(IdempotencyService.fingerprint("deposit", REQUEST))
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+        IdempotencyService nodeA = new IdempotencyService(store, Duration.ofHours(24), 1_000L, 10L);
+        IdempotencyService nodeB = new IdempotencyService(store, Duration.ofHours(24), 1_000L, 10L);
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<UUID> action = () -> {
+            executions.incrementAndGet();
+            sleep(50);
+            return UUID.randomUUID();
+        };
+
+        // when
+        CompletableFuture<UUID> first = CompletableFuture.supplyAsync(() -> nodeA.execute(KEY, "deposit", REQUEST, action));
+        CompletableFuture<UUID> second = CompletableFuture.supplyAsync(() -> nodeB.execute(KEY, "deposit", REQUEST, action));
+
+        // then
+        assertEquals(first.get(2, TimeUnit.SECONDS), second.get(2, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        assertEquals(1, store.expiredReleases.get());
+    }
+
+    @Test
+    @DisplayName("선점이 만료된 뒤 실패한 요청은 다른 요청의 선점을 해제하지 않음 테스트")
+    void staleClaimDoesNotReleaseNewClaim() {
+        // given: 처리 중 선점이 만료되어 다른 노드가 같은 키를 다시 선점
+        SharedIdempotencyStore store = new SharedIdempotencyStore(null);
+        IdempotencyService service = new IdempotencyService(store, Duration.ofMillis(1), 1_000L, 10L);
+        AtomicReference<IdempotencyRecord> reclaimed = new AtomicReference<>();
+
+        // when
+        assertThrows(BusinessException.class, () -> service.execute(KEY, "deposit", REQUEST, () -> {
+            sleep(20);
+            store.releaseExpired(KEY, LocalDateTime.now());
+            store.claim(KEY, IdempotencyService.fingerprint("deposit", REQUEST), LocalDateTime.now().plusHours(1));
+            reclaimed.set(store.records.get(KEY));
+            throw new BusinessException(ErrorCode.LOCK_ACQUISITION_FAILURE);
+        }));
+
+        // then
+        assertNotNull(reclaimed.get());
+        assertSame(reclaimed.get(), store.records.get(KEY));
+    }
+
+    @Test
+    @DisplayName("금액 표기와 무관한 요청 지문 테스트")
+    void fingerprintNormalizesAmount() {
+        assertEquals(
+                IdempotencyService.fingerprint("deposit", List.of(new BigDecimal("100"))),
+                IdempotencyService.fingerprint("deposit", List.of(new BigDecimal("100.00"))));
+        assertNotEquals(
+                IdempotencyService.fingerprint("deposit", List.of(new BigDecimal("100"))),
+                IdempotencyService.fingerprint("withdraw", List.of(new BigDecimal("100"))));
+    }
+
+    private static IdempotencyRecord record(UUID resultId, String operation, List<?> request) {
+        return IdempotencyRecord.builder()
+                .key(KEY)
+                .fingerprint(IdempotencyService.fingerprint(operation, request))
+                .resultId(resultId)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 여러 노드가 공유하는 저장소 대역
+     * 데이터베이스의 기본 키 제약과 조건부 UPDATE/DELETE를 흉내 냅니다.
+     */
+    private static final class SharedIdempotencyStore implements IdempotencyPort {
+        private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+        private final AtomicInteger expiredReleases = new AtomicInteger();
+        private final CyclicBarrier expiredBarrier;
+
+        private SharedIdempotencyStore(CyclicBarrier expiredBarrier) {
+            this.expiredBarrier = expiredBarrier;
+        }
+
+        @Override
+        public Optional<IdempotencyRecord> findByKey(String key) {
+            return Optional.ofNullable(records.get(key));
+        }
+
+        @Override
+        public boolean claim(String key, String fingerprint, LocalDateTime expiresAt) {
+            return records.putIfAbsent(key, IdempotencyRecord.builder()
+                    .key(key)
+                    .fingerprint(fingerprint)
+                    .expiresAt(expiresAt)
+                    .build()) == null;
+        }
+
+        @Override
+        public synchronized boolean complete(String key, String fingerprint, LocalDateTime expiresAt, UUID resultId) {
+            IdempotencyRecord record = records.get(key);
+            if (!isClaim(record, fingerprint, expiresAt)) {
+                return false;
+            }
+            records.put(key, IdempotencyRecord.builder()
+                    .key(key)
+                    .fingerprint(fingerprint)
+                    .resultId(resultId)
+                    .expiresAt(expiresAt)
+                    .build());
+            return true;
+        }
+
+        @Override
+        public synchronized void release(String key, String fingerprint, LocalDateTime expiresAt) {
+            if (isClaim(records.get(key), fingerprint, expiresAt)) {
+                records.remove(key);
+            }
+        }
+
+        @Override
+        public boolean releaseExpired(String key, LocalDateTime now) {
+            if (expiredBarrier != null) {
+                try {
+                    expiredBarrier.await(1, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            synchronized (this) {
+                IdempotencyRecord record = records.get(key);
+                if (record == null || !record.isExpired(now)) {
+                    return false;
+                }
+                records.remove(key);
+                expiredReleases.incrementAndGet();
+                return true;
+            }
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now) {
+            return 0;
+        }
+
+        private static boolean isClaim(IdempotencyRecord record, String fingerprint, LocalDateTime expiresAt) {
+            return record != null && !record.isCompleted()
+                    && record.matches(fingerprint) && record.getExpiresAt().equals(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.wirebarley.remittance.application.ledger.service;
+
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import com.wirebarley.remittance.domain.ledger.BalanceCheckpoint;
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+import com.wirebarley.remittance.domain.ledger.port.BalanceCheckpointPort;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceCheckpointServiceTest {
+
+    @Mock
+    private LedgerPort ledgerPort;
+
+    @Mock
+    private BalanceCheckpointPort balanceCheckpointPort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @BeforeEach
+    void setUp() {
+        balanceCheckpointService = new BalanceCheckpointService(
+                ledgerPort, balanceCheckpointPort, transactionTemplate, true, 2, Duration.ofSeconds(60));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("체크포인트 작성 테스트 - 직전 체크포인트에 이후 분개 합을 더함")
+    void writeCheckpoints() {
+        // given
+        UUID accountId1 = TimeBasedUuidGenerator.generate();
+        UUID accountId2 = TimeBasedUuidGenerator.generate();
+        LocalDateTime previousAsOf = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime asOf = LocalDateTime.of(2026, 1, 2, 0, 0);
+        BalanceCheckpoint previous = BalanceCheckpoint.builder()
+                .accountId(accountId1)
+                .balance(BigDecimal.valueOf(1000))
+                .asOf(previousAsOf)
+                .build();
+
+        when(ledgerPort.findAccountIdsAfter(LedgerEntry.EXTERNAL_ACCOUNT_ID, 2)).thenReturn(List.of(accountId1, accountId2));
+        when(ledgerPort.findAccountIdsAfter(accountId2, 2)).thenReturn(List.of());
+        when(balanceCheckpointPort.findLatest(List.of(accountId1, accountId2), asOf))
+                .thenReturn(Map.of(accountId1, previous));
+        when(ledgerPort.sumByAccount(List.of(accountId1), previousAsOf, asOf))
+                .thenReturn(Map.of(accountId1, BigDecimal.valueOf(-200)));
+        when(ledgerPort.sumByAccount(List.of(accountId2), null, asOf))
+                .thenReturn(Map.of(accountId2, BigDecimal.valueOf(500)));
+
+        // when
+        int written = balanceCheckpointService.writeCheckpoints(asOf);
+
+        // then
+        assertEquals(2, written);
+        ArgumentCaptor<List<BalanceCheckpoint>> captor = ArgumentCaptor.forClass(List.class);
+        verify(balanceCheckpointPort).saveAll(captor.capture());
+        Map<UUID, BalanceCheckpoint> saved = captor.getValue().stream()
+                .collect(Collectors.toMap(BalanceCheckpoint::getAccountId, Function.identity()));
+        assertEquals(BigDecimal.valueOf(800), saved.get(accountId1).getBalance());
+        assertEquals(BigDecimal.valueOf(500), saved.get(accountId2).getBalance());
+        assertEquals(asOf, saved.get(accountId1).getAsOf());
+        assertEquals(asOf, saved.get(accountId2).getAsOf());
+    }
+
+    @Test
+    @DisplayName("체크포인트 작성 테스트 - 분개가 없는 계좌는 건너뛰고 마지막 ID 이후로 다음 배치 조회")
+    void writeCheckpointsSkipsIdleAccounts() {
+        // given
+        UUID accountId1 = TimeBasedUuidGenerator.generate();
+        UUID accountId2 = TimeBasedUuidGenerator.generate();
+        UUID accountId3 = TimeBasedUuidGenerator.generate();
+        LocalDateTime asOf = LocalDateTime.of(2026, 1, 2, 0, 0);
+
+        when(ledgerPort.findAccountIdsAfter(LedgerEntry.EXTERNAL_ACCOUNT_ID, 2)).thenReturn(List.of(accountId1, accountId2));
+        when(ledgerPort.findAccountIdsAfter(accountId2, 2)).thenReturn(List.of(accountId3));
+        when(balanceCheckpointPort.findLatest(anyCollection(), eq(asOf))).thenReturn(Map.of());
+        when(ledgerPort.sumByAccount(anyCollection(), isNull(), eq(asOf))).thenReturn(Map.of());
+
+        // when
+        int written = balanceCheckpointService.writeCheckpoints(asOf);
+
+        // then
+        assertEquals(0, written);
+        verify(ledgerPort, times(2)).findAccountIdsAfter(any(UUID.class), eq(2));
+        verify(balanceCheckpointPort, times(2)).saveAll(anyList());
+        verify(balanceCheckpointPort, never()).saveAll(argThat(checkpoints -> !checkpoints.isEmpty()));
+    }
+
+    @Test
+    @DisplayName("체크포인트 비활성화 테스트")
+    void scheduledCheckpointDisabled() {
+        // given
+        BalanceCheckpointService disabled = new BalanceCheckpointService(
+                ledgerPort, balanceCheckpointPort, transactionTemplate, false, 2, Duration.ofSeconds(60));
+
+        // when
+        disabled.scheduledCheckpoint();
+
+        // then
+        verifyNoInteractions(ledgerPort, balanceCheckpointPort, transactionTemplate);
+    }
+}
@@ -0,0 +1,205 @@
+package com.wirebarley.remittance.application.ledger.service;
+
+import com.wirebarley.remittance.application.account.command.CreateAccountCommand;
+import com.wirebarley.remittance.application.account.command.DepositCommand;
+import com.wirebarley.remittance.application.account.command.WithdrawCommand;
+import com.wirebarley.remittance.application.account.service.AccountCommandService;
+import com.wirebarley.remittance.application.account.service.AtomicAccountCommandService;
+import com.wirebarley.remittance.application.account.service.OptimisticAccountCommandService;
+import com.wirebarley.remittance.application.account.usecase.AccountCommandUseCase;
+import com.wirebarley.remittance.application.common.retry.OptimisticRetryTemplate;
+import com.wirebarley.remittance.application.transaction.command.TransferCommand;
+import com.wirebarley.remittance.application.transaction.service.AtomicTransactionCommandService;
+import com.wirebarley.remittance.application.transaction.service.OptimisticTransactionCommandService;
+import com.wirebarley.remittance.application.transaction.service.TransactionCommandService;
+import com.wirebarley.remittance.application.transaction.usecase.TransactionCommandUseCase;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import com.wirebarley.remittance.domain.transaction.port.TransferPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * 원장 대사 테스트
+ * 잔액 갱신 방식(lock/atomic/optimistic)마다 입금/출금/이체 후 계좌별 분개 합이 잔액과 같은지 확인합니다.
+ * 포트는 메모리 저장소로 대신합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class LedgerReconciliationTest {
+
+    @Mock
+    private AccountPort accountPort;
+
+    @Mock
+    private TransferPort transferPort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private LedgerPort ledgerPort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<UUID, Account> accounts = new HashMap<>();
+    private final List<LedgerEntry> ledger = new ArrayList<>();
+
+    private AccountCommandService accountCommandService;
+    private TransactionCommandService transactionCommandService;
+    private LedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerService = new LedgerService(ledgerPort, transactionPort);
+        accountCommandService = new AccountCommandService(accountPort, ledgerService);
+        transactionCommandService = new TransactionCommandService(transactionPort, transferPort, ledgerService);
+
+        lenient().when(accountPort.existsByAccountNumber(any())).thenReturn(false);
+        lenient().when(accountPort.create(any(Account.class))).thenAnswer(invocation -> store(invocation.getArgument(0)));
+        lenient().when(accountPort.save(any(Account.class))).thenAnswer(invocation -> store(invocation.getArgument(0)));
+        lenient().when(accountPort.findById(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.ofNullable(accounts.get(invocation.<UUID>getArgument(0))));
+        lenient().when(accountPort.increaseBalance(any(UUID.class), any(BigDecimal.class)))
+                .thenAnswer(invocation -> guardedUpdate(invocation.getArgument(0), invocation.getArgument(1), true));
+        lenient().when(accountPort.decreaseBalance(any(UUID.class), any(BigDecimal.class)))
+                .thenAnswer(invocation -> guardedUpdate(invocation.getArgument(0), invocation.getArgument(1), false));
+        lenient().when(transferPort.findAccounts(any(UUID.class), any(UUID.class))).thenAnswer(invocation -> {
+            Map<UUID, Account> found = new HashMap<>();
+            for (Object id : invocation.getArguments()) {
+                Optional.ofNullable(accounts.get((UUID) id)).ifPresent(account -> found.put((UUID) id, account));
+            }
+            return found;
+        });
+        lenient().when(transferPort.save(any(Account.class), any(Account.class), any(Transaction.class)))
+                .thenAnswer(invocation -> {
+                    store(invocation.getArgument(0));
+                    store(invocation.getArgument(1));
+                    return invocation.getArgument(2);
+                });
+        lenient().when(transactionPort.create(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().doAnswer(invocation -> ledger.addAll(invocation.getArgument(0))).when(ledgerPort).append(anyList());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("원장 대사 테스트 - 분산 락 방식")
+    void reconcileLockMode() {
+        runScenarioAndReconcile(accountCommandService, transactionCommandService);
+    }
+
+    @Test
+    @DisplayName("원장 대사 테스트 - 조건부 단일 UPDATE 방식")
+    void reconcileAtomicMode() {
+        runScenarioAndReconcile(
+                new AtomicAccountCommandService(accountPort, accountCommandService, ledgerService),
+                new AtomicTransactionCommandService(accountPort, transactionPort, ledgerService));
+    }
+
+    @Test
+    @DisplayName("원장 대사 테스트 - 낙관적 잠금 방식")
+    void reconcileOptimisticMode() {
+        OptimisticRetryTemplate retryTemplate = new OptimisticRetryTemplate(transactionTemplate, 3, 0L);
+        runScenarioAndReconcile(
+                new OptimisticAccountCommandService(accountPort, accountCommandService, ledgerService, retryTemplate),
+                new OptimisticTransactionCommandService(transactionCommandService, retryTemplate));
+    }
+
+    private void runScenarioAndReconcile(AccountCommandUseCase accountCommandUseCase,
+                                         TransactionCommandUseCase transactionCommandUseCase) {
+        // given: 초기 잔액이 있는 계좌와 없는 계좌
+        UUID sourceAccountId = accountCommandUseCase.createAccount(CreateAccountCommand.builder()
+                .accountNumber("1234567890")
+                .accountName("출금 계좌")
+                .initialBalance(BigDecimal.valueOf(1000))
+                .build());
+        UUID targetAccountId = accountCommandUseCase.createAccount(CreateAccountCommand.builder()
+                .accountNumber("0987654321")
+                .accountName("입금 계좌")
+                .initialBalance(BigDecimal.ZERO)
+                .build());
+
+        // when: 입금, 출금, 양방향 이체
+        accountCommandUseCase.deposit(DepositCommand.builder()
+                .accountId(sourceAccountId).amount(BigDecimal.valueOf(500)).description("입금").build());
+        accountCommandUseCase.withdraw(WithdrawCommand.builder()
+                .accountId(sourceAccountId).amount(BigDecimal.valueOf(200)).description("출금").build());
+        transactionCommandUseCase.transfer(TransferCommand.builder()
+                .sourceAccountId(sourceAccountId).targetAccountId(targetAccountId)
+                .amount(BigDecimal.valueOf(700)).description("이체").build());
+        transactionCommandUseCase.transfer(TransferCommand.builder()
+                .sourceAccountId(targetAccountId).targetAccountId(sourceAccountId)
+                .amount(BigDecimal.valueOf(150)).description("반환 이체").build());
+        accountCommandUseCase.withdraw(WithdrawCommand.builder()
+                .accountId(targetAccountId).amount(BigDecimal.valueOf(50)).description("출금").build());
+
+        // then: 계좌별 분개 합 = 잔액, 전체 분개 합 = 0 (외부 정산 계좌 포함)
+        assertEquals(0, BigDecimal.valueOf(750).compareTo(accounts.get(sourceAccountId).getBalance()));
+        assertEquals(0, BigDecimal.valueOf(500).compareTo(accounts.get(targetAccountId).getBalance()));
+        for (Account account : accounts.values()) {
+            assertEquals(0, account.getBalance().compareTo(ledgerSum(account.getId())),
+                    "분개 합과 잔액이 다른 계좌: " + account.getId());
+        }
+        assertEquals(0, BigDecimal.ZERO.compareTo(ledger.stream()
+                .map(LedgerEntry::signedAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)));
+    }
+
+    private Account store(Account account) {
+        accounts.put(account.getId(), account);
+        return account;
+    }
+
+    /**
+     * 조건부 UPDATE 대역 (활성 계좌이고 출금 시 잔액이 충분할 때만 반영)
+     */
+    private boolean guardedUpdate(UUID accountId, BigDecimal amount, boolean increase) {
+        Account account = accounts.get(accountId);
+        if (account == null) {
+            return false;
+        }
+        try {
+            if (increase) {
+                account.deposit(amount);
+            } else {
+                account.withdraw(amount);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private BigDecimal ledgerSum(UUID accountId) {
+        return ledger.stream()
+                .filter(entry -> entry.getAccountId().equals(accountId))
+                .map(LedgerEntry::signedAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
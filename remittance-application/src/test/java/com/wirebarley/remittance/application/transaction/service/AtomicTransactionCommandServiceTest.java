@@ -0,0 +1,120 @@
+package com.wirebarley.remittance.application.transaction.service;
+
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
+import com.wirebarley.remittance.application.transaction.command.TransferCommand;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.TransactionStatus;
+import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AtomicTransactionCommandServiceTest {
+
+    @Mock
+    private AccountPort accountPort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @InjectMocks
+    private AtomicTransactionCommandService atomicTransactionCommandService;
+
+    @Test
+    @DisplayName("조건부 UPDATE 이체 테스트 - 잔액을 읽어 다시 쓰지 않고 계좌 ID 순으로 갱신")
+    void transfer() {
+        // given
+        UUID sourceAccountId = TimeBasedUuidGenerator.generate();
+        UUID targetAccountId = TimeBasedUuidGenerator.generate();
+        BigDecimal amount = BigDecimal.valueOf(300);
+        TransferCommand command = TransferCommand.builder()
+                .sourceAccountId(sourceAccountId)
+                .targetAccountId(targetAccountId)
+                .amount(amount)
+                .description("테스트 이체")
+                .build();
+
+        when(accountPort.decreaseBalance(sourceAccountId, amount)).thenReturn(true);
+        when(accountPort.increaseBalance(targetAccountId, amount)).thenReturn(true);
+        when(transactionPort.create(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        UUID transactionId = atomicTransactionCommandService.transfer(command);
+
+        // then
+        InOrder order = inOrder(accountPort);
+        if (sourceAccountId.compareTo(targetAccountId) < 0) {
+            order.verify(accountPort).decreaseBalance(sourceAccountId, amount);
+            order.verify(accountPort).increaseBalance(targetAccountId, amount);
+        } else {
+            order.verify(accountPort).increaseBalance(targetAccountId, amount);
+            order.verify(accountPort).decreaseBalance(sourceAccountId, amount);
+        }
+        verify(accountPort, never()).findById(any(UUID.class));
+        verify(accountPort, never()).save(any(Account.class));
+        verify(transactionPort).create(argThat(transaction -> transaction.getStatus() == TransactionStatus.COMPLETED
+                && transaction.getId().equals(transactionId)));
+        verify(ledgerService).recordTransfer(argThat(transaction -> transaction.getId().equals(transactionId)));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 이체 실패 테스트 - 잔액 부족")
+    void transferInsufficientBalance() {
+        // given
+        UUID sourceAccountId = TimeBasedUuidGenerator.generate();
+        UUID targetAccountId = TimeBasedUuidGenerator.generate();
+        BigDecimal amount = BigDecimal.valueOf(5000);
+        TransferCommand command = TransferCommand.builder()
+                .sourceAccountId(sourceAccountId)
+                .targetAccountId(targetAccountId)
+                .amount(amount)
+                .build();
+        Account source = Account.builder()
+                .id(sourceAccountId)
+                .accountNumber("1234567890")
+                .accountName("출금 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .status(AccountStatus.ACTIVE)
+                .build();
+
+        when(accountPort.decreaseBalance(sourceAccountId, amount)).thenReturn(false);
+        // 계좌 ID 순서에 따라 입금 계좌 갱신이 먼저 실행될 수 있음 (이후 롤백)
+        lenient().when(accountPort.increaseBalance(targetAccountId, amount)).thenReturn(true);
+        when(accountPort.findById(sourceAccountId)).thenReturn(Optional.of(source));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> atomicTransactionCommandService.transfer(command));
+        assertEquals(ErrorCode.INSUFFICIENT_BALANCE, exception.getErrorCode());
+        verify(transactionPort, never()).create(any(Transaction.class));
+        verify(ledgerService, never()).recordTransfer(any(Transaction.class));
+    }
+}
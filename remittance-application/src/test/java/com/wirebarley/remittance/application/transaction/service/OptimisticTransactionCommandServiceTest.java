@@ -0,0 +1,128 @@
+package com.wirebarley.remittance.application.transaction.service;
+
+import com.wirebarley.remittance.application.common.retry.OptimisticRetryTemplate;
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
+import com.wirebarley.remittance.application.transaction.command.TransferCommand;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import com.wirebarley.remittance.domain.transaction.port.TransferPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticTransactionCommandServiceTest {
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private TransferPort transferPort;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OptimisticTransactionCommandService optimisticTransactionCommandService;
+
+    private UUID sourceAccountId;
+    private UUID targetAccountId;
+    private TransferCommand command;
+
+    @BeforeEach
+    void setUp() {
+        TransactionCommandService transactionCommandService =
+                new TransactionCommandService(transactionPort, transferPort, ledgerService);
+        optimisticTransactionCommandService = new OptimisticTransactionCommandService(
+                transactionCommandService, new OptimisticRetryTemplate(transactionTemplate, 3, 0L));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+
+        sourceAccountId = TimeBasedUuidGenerator.generate();
+        targetAccountId = TimeBasedUuidGenerator.generate();
+        command = TransferCommand.builder()
+                .sourceAccountId(sourceAccountId)
+                .targetAccountId(targetAccountId)
+                .amount(BigDecimal.valueOf(500))
+                .description("테스트 이체")
+                .build();
+        // 시도마다 계좌를 새로 조회 (동시 입금이 반영된 최신 버전)
+        when(transferPort.findAccounts(sourceAccountId, targetAccountId))
+                .thenAnswer(invocation -> Map.of(
+                        sourceAccountId, account(sourceAccountId, "1234567890", 1000),
+                        targetAccountId, account(targetAccountId, "0987654321", 2000)));
+    }
+
+    @Test
+    @DisplayName("동시 입금과 충돌한 이체 재시도 테스트")
+    void transferRetriesAfterConcurrentDeposit() {
+        // given: 첫 시도는 입금 계좌에 동시 입금이 커밋되어 버전 충돌
+        when(transferPort.save(any(Account.class), any(Account.class), any(Transaction.class)))
+                .thenThrow(new OptimisticLockingFailureException("충돌"))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+
+        // when
+        UUID transactionId = optimisticTransactionCommandService.transfer(command);
+
+        // then
+        assertNotNull(transactionId);
+        verify(transferPort, times(2)).findAccounts(sourceAccountId, targetAccountId);
+        verify(transferPort, times(2)).save(any(Account.class), any(Account.class), any(Transaction.class));
+        // 충돌한 시도는 롤백되므로 원장은 성공한 시도에서 한 번만 기록하고, 실패 트랜잭션은 남기지 않음
+        verify(ledgerService, times(1)).recordTransfer(any(Transaction.class));
+        verifyNoInteractions(transactionPort);
+    }
+
+    @Test
+    @DisplayName("재시도 초과 시 동시 변경 충돌 예외 테스트")
+    void transferFailsAfterMaxAttempts() {
+        // given
+        when(transferPort.save(any(Account.class), any(Account.class), any(Transaction.class)))
+                .thenThrow(new OptimisticLockingFailureException("충돌"));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> optimisticTransactionCommandService.transfer(command));
+        assertEquals(ErrorCode.CONCURRENT_MODIFICATION, exception.getErrorCode());
+        verify(transferPort, times(3)).findAccounts(sourceAccountId, targetAccountId);
+        verify(ledgerService, never()).recordTransfer(any(Transaction.class));
+    }
+
+    private static Account account(UUID id, String accountNumber, long balance) {
+        return Account.builder()
+                .id(id)
+                .accountNumber(accountNumber)
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(balance))
+                .version(0L)
+                .build();
+    }
+}
@@ -1,13 +1,13 @@
 package com.wirebarley.remittance.application.transaction.service;
 
+import com.wirebarley.remittance.application.ledger.service.LedgerService;
 import com.wirebarley.remittance.application.transaction.command.TransferCommand;
 import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
 import com.wirebarley.remittance.domain.account.Account;
-import com.wirebarley.remittance.domain.account.port.AccountPort;
 import com.wirebarley.remittance.domain.transaction.Transaction;
 import com.wirebarley.remittance.domain.transaction.TransactionStatus;
-import com.wirebarley.remittance.domain.transaction.TransactionType;
 import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import com.wirebarley.remittance.domain.transaction.port.TransferPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,14 +16,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +35,10 @@ class TransactionReadCommandServiceTest {
     private TransactionPort transactionPort;
 
     @Mock
-    private AccountPort accountPort;
+    private TransferPort transferPort;
+
+    @Mock
+    private LedgerService ledgerService;
 
     @InjectMocks
     private TransactionCommandService transactionCommandService;
@@ -65,39 +70,23 @@ class TransactionReadCommandServiceTest {
                 .balance(BigDecimal.valueOf(2000))
                 .build();
 
-        Transaction pendingTransaction = Transaction.builder()
-                .id(TimeBasedUuidGenerator.generate())
-                .sourceAccountId(sourceAccountId)
-                .targetAccountId(targetAccountId)
-                .amount(BigDecimal.valueOf(500))
-                .type(TransactionType.TRANSFER)
-                .status(TransactionStatus.PENDING)
-                .description("테스트 이체")
-                .build();
-
-        Transaction completedTransaction = Transaction.builder()
-                .id(pendingTransaction.getId())
-                .sourceAccountId(sourceAccountId)
-                .targetAccountId(targetAccountId)
-                .amount(BigDecimal.valueOf(500))
-                .type(TransactionType.TRANSFER)
-                .status(TransactionStatus.COMPLETED)
-                .description("테스트 이체")
-                .build();
-
-        when(accountPort.findById(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
-        when(accountPort.findById(targetAccountId)).thenReturn(Optional.of(targetAccount));
-        when(transactionPort.save(any(Transaction.class))).thenReturn(pendingTransaction, completedTransaction);
+        when(transferPort.findAccounts(sourceAccountId, targetAccountId))
+                .thenReturn(Map.of(sourceAccountId, sourceAccount, targetAccountId, targetAccount));
+        when(transferPort.save(any(Account.class), any(Account.class), any(Transaction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(2));
 
         // when
         UUID transactionId = transactionCommandService.transfer(command);
 
         // then
         assertNotNull(transactionId);
-        assertEquals(pendingTransaction.getId(), transactionId);
-        verify(accountPort).findById(sourceAccountId);
-        verify(accountPort).findById(targetAccountId);
-        verify(accountPort, times(2)).save(any(Account.class));
-        verify(transactionPort, times(2)).save(any(Transaction.class));
+        assertEquals(BigDecimal.valueOf(500), sourceAccount.getBalance());
+        assertEquals(BigDecimal.valueOf(2500), targetAccount.getBalance());
+        verify(transferPort).findAccounts(sourceAccountId, targetAccountId);
+        verify(transferPort).save(eq(sourceAccount), eq(targetAccount),
+                argThat(transaction -> transaction.getStatus() == TransactionStatus.COMPLETED
+                        && transaction.getId().equals(transactionId)));
+        verify(ledgerService).recordTransfer(argThat(transaction -> transaction.getId().equals(transactionId)));
+        verifyNoInteractions(transactionPort);
     }
 }
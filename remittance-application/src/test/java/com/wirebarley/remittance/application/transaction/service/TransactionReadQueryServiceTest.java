@@ -1,9 +1,14 @@
 package com.wirebarley.remittance.application.transaction.service;
 
+import com.wirebarley.remittance.application.transaction.read.TransactionCursorCodec;
+import com.wirebarley.remittance.application.transaction.read.TransactionPage;
 import com.wirebarley.remittance.application.transaction.read.TransactionRead;
+import com.wirebarley.remittance.common.error.BusinessException;
 import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
 import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.MaskedAccount;
 import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.domain.transaction.TransactionCursor;
 import com.wirebarley.remittance.domain.transaction.TransactionStatus;
 import com.wirebarley.remittance.domain.transaction.TransactionType;
 import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
@@ -15,13 +20,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,8 +78,8 @@ class TransactionReadQueryServiceTest {
                 .build();
 
         when(transactionPort.findById(transactionId)).thenReturn(Optional.of(transaction));
-        when(accountPort.findById(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
-        when(accountPort.findById(targetAccountId)).thenReturn(Optional.of(targetAccount));
+        when(accountPort.findAllByIds(Set.of(sourceAccountId, targetAccountId)))
+                .thenReturn(Arrays.asList(sourceAccount, targetAccount));
 
         // when
         TransactionRead transactionReadDto = transactionQueryService.getTransaction(transactionId);
@@ -87,83 +96,100 @@ class TransactionReadQueryServiceTest {
         assertEquals("COMPLETED", transactionReadDto.getStatus());
         assertEquals("테스트 이체", transactionReadDto.getDescription());
         verify(transactionPort).findById(transactionId);
-        verify(accountPort).findById(sourceAccountId);
-        verify(accountPort).findById(targetAccountId);
+        verify(accountPort).findAllByIds(Set.of(sourceAccountId, targetAccountId));
+        verify(accountPort, never()).findById(any(UUID.class));
     }
 
     @Test
-    @DisplayName("출금 계좌 기준 트랜잭션 조회 테스트")
-    void getTransactionsBySourceAccount() {
+    @DisplayName("마스킹 전용 트랜잭션 페이지 조회 테스트 - 계좌번호 복호화 없이 마스킹된 계좌번호만 반환")
+    void getTransactionsMaskedPage() {
         // given
         UUID sourceAccountId = TimeBasedUuidGenerator.generate();
-        
-        com.wirebarley.remittance.domain.transaction.Transaction transaction1 = com.wirebarley.remittance.domain.transaction.Transaction.builder()
+        UUID targetAccountId = TimeBasedUuidGenerator.generate();
+        com.wirebarley.remittance.domain.transaction.Transaction transaction = com.wirebarley.remittance.domain.transaction.Transaction.builder()
                 .id(TimeBasedUuidGenerator.generate())
                 .sourceAccountId(sourceAccountId)
-                .targetAccountId(TimeBasedUuidGenerator.generate())
-                .amount(BigDecimal.valueOf(500))
+                .targetAccountId(targetAccountId)
+                .amount(BigDecimal.valueOf(100))
                 .type(TransactionType.TRANSFER)
                 .status(TransactionStatus.COMPLETED)
-                .description("테스트 이체 1")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0, 0))
                 .build();
+        when(transactionPort.findBySourceAccountId(sourceAccountId, null, 3)).thenReturn(List.of(transaction));
+        when(accountPort.findAllMaskedByIds(Set.of(sourceAccountId, targetAccountId))).thenReturn(List.of(
+                MaskedAccount.builder().id(sourceAccountId).maskedAccountNumber("1234**7890").build(),
+                MaskedAccount.builder().id(targetAccountId).maskedAccountNumber("0987**4321").build()));
 
-        com.wirebarley.remittance.domain.transaction.Transaction transaction2 = com.wirebarley.remittance.domain.transaction.Transaction.builder()
-                .id(TimeBasedUuidGenerator.generate())
-                .sourceAccountId(sourceAccountId)
-                .targetAccountId(TimeBasedUuidGenerator.generate())
-                .amount(BigDecimal.valueOf(300))
-                .type(TransactionType.TRANSFER)
-                .status(TransactionStatus.COMPLETED)
-                .description("테스트 이체 2")
-                .build();
+        // when
+        TransactionPage page = transactionQueryService.getTransactionsBySourceAccount(sourceAccountId, null, 2, true);
+
+        // then
+        TransactionRead item = page.getItems().get(0);
+        assertNull(item.getSourceAccountNumber());
+        assertEquals("1234**7890", item.getSourceMaskedAccountNumber());
+        assertNull(item.getTargetAccountNumber());
+        assertEquals("0987**4321", item.getTargetMaskedAccountNumber());
+        verify(accountPort, never()).findAllByIds(anyCollection());
+    }
 
-        when(transactionPort.findBySourceAccountId(sourceAccountId)).thenReturn(Arrays.asList(transaction1, transaction2));
-        when(accountPort.findById(any(UUID.class))).thenReturn(Optional.empty());
+    @Test
+    @DisplayName("출금 계좌 기준 트랜잭션 페이지 조회 테스트")
+    void getTransactionsBySourceAccountPage() {
+        // given
+        UUID sourceAccountId = TimeBasedUuidGenerator.generate();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+        List<com.wirebarley.remittance.domain.transaction.Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            transactions.add(com.wirebarley.remittance.domain.transaction.Transaction.builder()
+                    .id(TimeBasedUuidGenerator.generate())
+                    .sourceAccountId(sourceAccountId)
+                    .targetAccountId(TimeBasedUuidGenerator.generate())
+                    .amount(BigDecimal.valueOf(100))
+                    .type(TransactionType.TRANSFER)
+                    .status(TransactionStatus.COMPLETED)
+                    .createdAt(now.minusMinutes(i))
+                    .build());
+        }
+
+        // 페이지 크기 2 요청 시 다음 페이지 확인을 위해 3건 조회
+        when(transactionPort.findBySourceAccountId(sourceAccountId, null, 3)).thenReturn(transactions);
+        when(accountPort.findAllByIds(anyCollection())).thenReturn(List.of());
 
         // when
-        List<TransactionRead> transactionReads = transactionQueryService.getTransactionsBySourceAccount(sourceAccountId);
+        TransactionPage page = transactionQueryService.getTransactionsBySourceAccount(sourceAccountId, null, 2, false);
 
         // then
-        assertNotNull(transactionReads);
-        assertEquals(2, transactionReads.size());
-        verify(transactionPort).findBySourceAccountId(sourceAccountId);
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+        TransactionCursor cursor = TransactionCursorCodec.decode(page.getNextCursor());
+        assertEquals(transactions.get(1).getId(), cursor.getId());
+        assertEquals(transactions.get(1).getCreatedAt(), cursor.getCreatedAt());
     }
 
     @Test
-    @DisplayName("입금 계좌 기준 트랜잭션 조회 테스트")
-    void getTransactionsByTargetAccount() {
+    @DisplayName("트랜잭션 페이지 크기 상한 테스트")
+    void getTransactionsByTargetAccountPageSizeCap() {
         // given
         UUID targetAccountId = TimeBasedUuidGenerator.generate();
-        
-        com.wirebarley.remittance.domain.transaction.Transaction transaction1 = com.wirebarley.remittance.domain.transaction.Transaction.builder()
-                .id(TimeBasedUuidGenerator.generate())
-                .sourceAccountId(TimeBasedUuidGenerator.generate())
-                .targetAccountId(targetAccountId)
-                .amount(BigDecimal.valueOf(500))
-                .type(TransactionType.TRANSFER)
-                .status(TransactionStatus.COMPLETED)
-                .description("테스트 이체 1")
-                .build();
-
-        com.wirebarley.remittance.domain.transaction.Transaction transaction2 = com.wirebarley.remittance.domain.transaction.Transaction.builder()
-                .id(TimeBasedUuidGenerator.generate())
-                .sourceAccountId(TimeBasedUuidGenerator.generate())
-                .targetAccountId(targetAccountId)
-                .amount(BigDecimal.valueOf(300))
-                .type(TransactionType.TRANSFER)
-                .status(TransactionStatus.COMPLETED)
-                .description("테스트 이체 2")
-                .build();
-
-        when(transactionPort.findByTargetAccountId(targetAccountId)).thenReturn(Arrays.asList(transaction1, transaction2));
-        when(accountPort.findById(any(UUID.class))).thenReturn(Optional.empty());
+        when(transactionPort.findByTargetAccountId(targetAccountId, null, TransactionQueryService.MAX_PAGE_SIZE + 1))
+                .thenReturn(List.of());
 
         // when
-        List<TransactionRead> transactionReads = transactionQueryService.getTransactionsByTargetAccount(targetAccountId);
+        TransactionPage page = transactionQueryService.getTransactionsByTargetAccount(targetAccountId, null, 10_000, false);
 
         // then
-        assertNotNull(transactionReads);
-        assertEquals(2, transactionReads.size());
-        verify(transactionPort).findByTargetAccountId(targetAccountId);
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        verify(accountPort, never()).findAllByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 커서로 트랜잭션 페이지 조회 실패 테스트")
+    void getTransactionsPageWithInvalidCursor() {
+        // when & then
+        assertThrows(BusinessException.class, () -> transactionQueryService.getTransactionsBySourceAccount(
+                TimeBasedUuidGenerator.generate(), "not-a-cursor", 20, false));
     }
 }
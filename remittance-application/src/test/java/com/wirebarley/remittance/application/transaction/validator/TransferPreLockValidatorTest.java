@@ -0,0 +1,115 @@
+package com.wirebarley.remittance.application.transaction.validator;
+
+import com.wirebarley.remittance.application.account.validator.AccountPreconditions;
+import com.wirebarley.remittance.application.transaction.command.TransferCommand;
+import com.wirebarley.remittance.common.error.BusinessException;
+import com.wirebarley.remittance.common.error.ErrorCode;
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.port.AccountStatusPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferPreLockValidatorTest {
+
+    @Mock
+    private AccountStatusPort accountStatusPort;
+
+    private TransferPreLockValidator validator;
+
+    private UUID sourceAccountId;
+    private UUID targetAccountId;
+
+    @BeforeEach
+    void setUp() {
+        validator = new TransferPreLockValidator(new AccountPreconditions(accountStatusPort));
+        sourceAccountId = TimeBasedUuidGenerator.generate();
+        targetAccountId = TimeBasedUuidGenerator.generate();
+    }
+
+    private Object[] args(UUID source, UUID target, BigDecimal amount) {
+        return new Object[]{TransferCommand.builder()
+                .sourceAccountId(source)
+                .targetAccountId(target)
+                .amount(amount)
+                .build()};
+    }
+
+    @Test
+    @DisplayName("정상 이체 사전 검증 통과 테스트")
+    void validTransferPasses() {
+        // given
+        when(accountStatusPort.findStatusById(sourceAccountId)).thenReturn(Optional.of(AccountStatus.ACTIVE));
+        when(accountStatusPort.findStatusById(targetAccountId)).thenReturn(Optional.of(AccountStatus.ACTIVE));
+
+        // when & then
+        assertDoesNotThrow(() -> validator.validate(args(sourceAccountId, targetAccountId, BigDecimal.valueOf(500))));
+    }
+
+    @Test
+    @DisplayName("동일 계좌 이체 사전 거절 테스트")
+    void sameAccountRejectedWithoutLookup() {
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> validator.validate(args(sourceAccountId, sourceAccountId, BigDecimal.valueOf(500))));
+
+        // then
+        assertEquals(ErrorCode.SAME_ACCOUNT_TRANSFER, exception.getErrorCode());
+        verify(accountStatusPort, never()).findStatusById(any());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 금액 사전 거절 테스트")
+    void invalidAmountRejected() {
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> validator.validate(args(sourceAccountId, targetAccountId, BigDecimal.ZERO)));
+
+        // then
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+        verify(accountStatusPort, never()).findStatusById(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 입금 계좌 사전 거절 테스트")
+    void missingTargetRejected() {
+        // given
+        when(accountStatusPort.findStatusById(sourceAccountId)).thenReturn(Optional.of(AccountStatus.ACTIVE));
+        when(accountStatusPort.findStatusById(targetAccountId)).thenReturn(Optional.empty());
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> validator.validate(args(sourceAccountId, targetAccountId, BigDecimal.valueOf(500))));
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("비활성 출금 계좌 사전 거절 테스트")
+    void inactiveSourceRejected() {
+        // given
+        when(accountStatusPort.findStatusById(sourceAccountId)).thenReturn(Optional.of(AccountStatus.BLOCKED));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> validator.validate(args(sourceAccountId, targetAccountId, BigDecimal.valueOf(500))));
+
+        // then
+        assertEquals(ErrorCode.INACTIVE_ACCOUNT, exception.getErrorCode());
+        verify(accountStatusPort, never()).findStatusById(targetAccountId);
+    }
+}
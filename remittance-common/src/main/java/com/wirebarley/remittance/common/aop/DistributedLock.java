@@ -21,11 +21,13 @@ public @interface DistributedLock {
     
     /**
      * 락을 획득하기 위해 대기할 최대 시간
+     * 적응형 정책이 켜져 있으면 관측된 보유 시간으로 정한 대기 시간의 상한으로 사용됩니다.
      */
     long waitTime() default 5L;
     
     /**
      * 락 유지 시간
+     * 정책에서 watchdog 갱신을 쓰는 경우 무시됩니다.
      */
     long leaseTime() default 10L;
     
@@ -38,4 +40,18 @@ public @interface DistributedLock {
      * 락 키를 생성할 때 사용할 파라미터 이름들
      */
     String[] paramNames() default {};
-} 
\ No newline at end of file
+    
+    /**
+     * 다중 락 여부
+     * true이면 paramNames의 각 값마다 "key:값" 형태의 락을 따로 만들고,
+     * 중복을 제거해 정렬된 순서로 한 번에 획득합니다.
+     * 같은 자원을 다루는 메서드가 같은 키 체계를 쓰면 서로 배제되며, 획득 순서가 같아 교착 상태가 생기지 않습니다.
+     */
+    boolean multiLock() default false;
+    
+    /**
+     * 락 획득 전에 실행할 검증기
+     * 락 키 생성과 락 획득보다 먼저 선언 순서대로 실행되며, 검증에 실패한 요청은 락을 잡지 않고 거절됩니다.
+     */
+    Class<? extends PreLockValidator>[] validators() default {};
+}
@@ -1,36 +1,64 @@
 package com.wirebarley.remittance.common.aop;
 
 import com.wirebarley.remittance.common.error.LockAcquisitionException;
-import com.wirebarley.remittance.common.lock.RedissonLockService;
-import lombok.RequiredArgsConstructor;
+import com.wirebarley.remittance.common.lock.LocalLockStripes;
+import com.wirebarley.remittance.common.lock.LockHandle;
+import com.wirebarley.remittance.common.lock.LockMetrics;
+import com.wirebarley.remittance.common.lock.LockPolicyRegistry;
+import com.wirebarley.remittance.common.lock.LockProvider;
+import com.wirebarley.remittance.common.lock.LockRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.redisson.api.RLock;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
-import java.util.StringJoiner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 분산락 AOP 구현
  * DistributedLock 어노테이션이 붙은 메서드에 분산락 적용
+ * 분산 락 백엔드를 쓰는 경우 로컬 스트라이프 락을 먼저 획득한 뒤 남은 대기 시간 안에서 백엔드 락을 획득합니다.
+ * 대기/보유 중인 요청은 진단을 위해 LockRegistry에 등록됩니다.
+ * 대기 시간과 유지 방식은 LockPolicyRegistry가 관측된 보유 시간과 운영 정책으로 정합니다.
  */
 @Aspect
 @Component
-@RequiredArgsConstructor
 @Slf4j
 @Order(Ordered.HIGHEST_PRECEDENCE) // 트랜잭션보다 먼저 실행되도록 순서 지정
 public class DistributedLockAspect {
-    private final RedissonLockService lockService;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private static final String TIER_LOCAL = "local";
+
+    private final LockProvider lockProvider;
+    private final LocalLockStripes localLockStripes;
+    private final LockKeyResolverRegistry lockKeyResolverRegistry;
+    private final LockMetrics lockMetrics;
+    private final LockRegistry lockRegistry;
+    private final LockPolicyRegistry lockPolicyRegistry;
+    private final PreLockValidatorRegistry preLockValidatorRegistry;
+    
+    public DistributedLockAspect(LockProvider lockProvider,
+                                 LocalLockStripes localLockStripes,
+                                 LockKeyResolverRegistry lockKeyResolverRegistry,
+                                 PreLockValidatorRegistry preLockValidatorRegistry,
+                                 LockMetrics lockMetrics,
+                                 LockRegistry lockRegistry,
+                                 LockPolicyRegistry lockPolicyRegistry) {
+        this.lockProvider = lockProvider;
+        this.localLockStripes = localLockStripes;
+        this.lockKeyResolverRegistry = lockKeyResolverRegistry;
+        this.preLockValidatorRegistry = preLockValidatorRegistry;
+        this.lockMetrics = lockMetrics;
+        this.lockRegistry = lockRegistry;
+        this.lockPolicyRegistry = lockPolicyRegistry;
+        log.info("분산락 백엔드: {}", lockProvider.name());
+    }
     
     /**
      * DistributedLock 어노테이션이 붙은 메서드 실행 시 분산락 적용
@@ -41,20 +69,85 @@ public class DistributedLockAspect {
         Method method = signature.getMethod();
         DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
         
-        String lockKey = generateLockKey(distributedLock, joinPoint, method);
+        // 잘못되었거나 실패가 확실한 요청은 락과 데이터베이스 비용 없이 거절
+        preLockValidatorRegistry.validate(method, joinPoint.getArgs());
+        
+        List<String> lockKeys = lockKeyResolverRegistry.resolve(method, joinPoint.getArgs());
+        String lockKey = String.join(",", lockKeys);
+        // 지표 태그는 전체 키 대신 키 접두사와 메서드 이름만 사용
+        String keyTag = distributedLock.key().isEmpty() ? method.getName() : distributedLock.key();
+        String operation = method.getName();
         log.debug("분산락 시도: {}, 메서드: {}", lockKey, method.getName());
         
-        RLock lock = null;
+        // 어노테이션 값은 상한으로만 쓰고, 실제 대기/유지 시간은 운영 중 변경 가능한 정책으로 결정
+        int queued = Math.max(lockProvider.distributed() ? localLockStripes.queueDepth(lockKeys) : 0,
+                lockProvider.queueDepth(lockKeys));
+        LockPolicyRegistry.LockPlan plan = lockPolicyRegistry.plan(
+                operation,
+                distributedLock.timeUnit().toMillis(distributedLock.waitTime()),
+                distributedLock.timeUnit().toMillis(distributedLock.leaseTime()),
+                queued
+        );
+        LockRegistry.Entry entry = lockRegistry.register(lockKeys, operation);
+        try {
+            if (plan.rejected()) {
+                // 앞선 요청들이 끝나기를 기다려도 대기 시간 안에 획득할 수 없으므로 바로 거절
+                lockMetrics.recordFailure(TIER_LOCAL, keyTag, operation, LockMetrics.REASON_REJECTED);
+                lockRegistry.failed(entry);
+                log.warn("분산락 조기 거절: {}, 메서드: {}, 대기 요청: {}, 예상 대기: {}ms, 대기 한도: {}ms",
+                        lockKey, method.getName(), queued, plan.expectedWaitMillis(), plan.waitMillis());
+                throw new LockAcquisitionException("예상 대기 시간이 길어 락 획득을 거절했습니다: " + lockKey);
+            }
+            return lockAndProceed(joinPoint, method, lockKeys, lockKey, keyTag, operation, plan, entry);
+        } finally {
+            lockRegistry.deregister(entry);
+        }
+    }
+    
+    private Object lockAndProceed(ProceedingJoinPoint joinPoint, Method method,
+                                  List<String> lockKeys, String lockKey, String keyTag, String operation,
+                                  LockPolicyRegistry.LockPlan plan, LockRegistry.Entry entry) throws Throwable {
+        long waitNanos = TimeUnit.MILLISECONDS.toNanos(plan.waitMillis());
+        long startedAt = System.nanoTime();
+        
+        // 1단계: 같은 노드의 경쟁 요청은 로컬에서 대기 (백엔드 자체가 로컬이면 생략)
+        List<ReentrantLock> localLocks;
+        try {
+            localLocks = lockProvider.distributed()
+                    ? localLockStripes.acquire(lockKeys, waitNanos, TimeUnit.NANOSECONDS)
+                    : List.of();
+        } catch (LockAcquisitionException e) {
+            lockMetrics.recordFailure(TIER_LOCAL, keyTag, operation, e);
+            lockRegistry.failed(entry);
+            log.error("분산락 획득 실패: {}, 메서드: {}", lockKey, method.getName(), e);
+            throw e;
+        }
+        long localAcquiredAt = System.nanoTime();
+        if (!localLocks.isEmpty()) {
+            lockMetrics.recordWait(TIER_LOCAL, keyTag, operation, localAcquiredAt - startedAt);
+        }
+        
+        LockHandle handle = null;
+        long acquiredAt = 0L;
+        boolean completed = false;
         try {
-            lock = lockService.tryLock(
-                    lockKey, 
-                    distributedLock.waitTime(), 
-                    distributedLock.leaseTime(), 
-                    distributedLock.timeUnit()
-            );
+            // 2단계: 로컬 대기열의 선두만 남은 대기 시간으로 백엔드 락 경쟁
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0L, waitNanos - (localAcquiredAt - startedAt)));
+            try {
+                handle = lockProvider.acquire(lockKeys, remainingMillis, plan.leaseMillis(), TimeUnit.MILLISECONDS);
+            } catch (LockAcquisitionException e) {
+                lockMetrics.recordFailure(lockProvider.name(), keyTag, operation, e);
+                lockRegistry.failed(entry);
+                throw e;
+            }
+            acquiredAt = System.nanoTime();
+            lockMetrics.recordWait(lockProvider.name(), keyTag, operation, acquiredAt - localAcquiredAt);
+            lockRegistry.acquired(entry, acquiredAt - startedAt);
             
             log.debug("메서드 실행: {}, 락 키: {}", method.getName(), lockKey);
-            return joinPoint.proceed();
+            Object result = joinPoint.proceed();
+            completed = true;
+            return result;
         } catch (LockAcquisitionException e) {
             log.error("분산락 획득 실패: {}, 메서드: {}", lockKey, method.getName(), e);
             throw e;
@@ -62,53 +155,36 @@ public class DistributedLockAspect {
             log.error("메서드 실행 중 예외 발생: {}, 메서드: {}", lockKey, method.getName(), e);
             throw e;
         } finally {
-            if (lock != null) {
-                try {
-                    lockService.unlock(lock, lockKey);
-                    log.debug("분산락 해제: {}, 메서드: {}", lockKey, method.getName());
-                } catch (Exception e) {
-                    log.error("분산락 해제 중 예외 발생: {}, 메서드: {}", lockKey, method.getName(), e);
+            try {
+                if (handle != null) {
+                    release(handle, lockKey, method, completed);
+                    long heldNanos = System.nanoTime() - acquiredAt;
+                    lockMetrics.recordHold(lockProvider.name(), keyTag, operation, heldNanos);
+                    lockPolicyRegistry.recordHold(operation, heldNanos);
+                }
+            } finally {
+                localLockStripes.release(localLocks);
+                if (!localLocks.isEmpty()) {
+                    lockMetrics.recordHold(TIER_LOCAL, keyTag, operation, System.nanoTime() - localAcquiredAt);
                 }
             }
         }
     }
     
     /**
-     * 락 키 생성
+     * 락 해제
+     * 메서드가 정상 종료된 경우 해제 실패(예: 데이터베이스 백엔드의 커밋 실패)는 호출자에게 전파하고,
+     * 메서드가 이미 예외로 끝난 경우에는 원래 예외를 유지하기 위해 기록만 합니다.
      */
-    private String generateLockKey(DistributedLock distributedLock, ProceedingJoinPoint joinPoint, Method method) {
-        String key = distributedLock.key();
-        if (key.isEmpty()) {
-            key = method.getName();
-        }
-        
-        // 파라미터 이름으로 동적 키 생성
-        String[] paramNames = distributedLock.paramNames();
-        if (paramNames.length > 0) {
-            StringJoiner joiner = new StringJoiner(":");
-            joiner.add(key);
-            
-            String[] parameterNames = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
-            Object[] args = joinPoint.getArgs();
-            StandardEvaluationContext context = new StandardEvaluationContext();
-            
-            for (int i = 0; i < parameterNames.length; i++) {
-                context.setVariable(parameterNames[i], args[i]);
-            }
-            
-            for (String paramName : paramNames) {
-                try {
-                    String value = parser.parseExpression("#" + paramName).getValue(context, String.class);
-                    joiner.add(value != null ? value : "null");
-                } catch (Exception e) {
-                    log.warn("락 키 생성 중 파라미터 값 추출 실패: {}", paramName, e);
-                    joiner.add("unknown");
-                }
+    private void release(LockHandle handle, String lockKey, Method method, boolean completed) {
+        try {
+            handle.release();
+            log.debug("분산락 해제: {}, 메서드: {}", lockKey, method.getName());
+        } catch (RuntimeException e) {
+            log.error("분산락 해제 중 예외 발생: {}, 메서드: {}", lockKey, method.getName(), e);
+            if (completed) {
+                throw e;
             }
-            
-            return joiner.toString();
         }
-        
-        return key;
     }
-} 
\ No newline at end of file
+}
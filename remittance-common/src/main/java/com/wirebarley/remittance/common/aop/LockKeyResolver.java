@@ -0,0 +1,167 @@
+package com.wirebarley.remittance.common.aop;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.util.ClassUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 메서드별로 미리 컴파일된 락 키 생성기
+ * paramNames의 "파라미터.프로퍼티" 경로를 파라미터 인덱스와 getter MethodHandle 체인으로 한 번만 해석해 두고,
+ * 호출 시에는 리플렉션이나 SpEL 파싱 없이 인자에서 값을 꺼내 키를 만듭니다.
+ */
+@Slf4j
+final class LockKeyResolver {
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String key;
+    private final boolean multiLock;
+    private final ValueExtractor[] extractors;
+
+    private LockKeyResolver(String key, boolean multiLock, ValueExtractor[] extractors) {
+        this.key = key;
+        this.multiLock = multiLock;
+        this.extractors = extractors;
+    }
+
+    /**
+     * 메서드의 DistributedLock 설정을 해석하여 키 생성기 생성
+     * @param method DistributedLock 어노테이션이 붙은 메서드
+     * @return 락 키 생성기
+     * @throws IllegalStateException paramNames가 존재하지 않는 파라미터나 프로퍼티를 가리키는 경우
+     */
+    static LockKeyResolver compile(Method method) {
+        DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+        if (distributedLock == null) {
+            throw new IllegalStateException("DistributedLock 어노테이션이 없는 메서드입니다: " + method);
+        }
+
+        String key = distributedLock.key().isEmpty() ? method.getName() : distributedLock.key();
+        String[] paramNames = distributedLock.paramNames();
+        ValueExtractor[] extractors = new ValueExtractor[paramNames.length];
+        if (paramNames.length > 0) {
+            String[] parameterNames = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+            if (parameterNames == null) {
+                throw new IllegalStateException("파라미터 이름을 확인할 수 없습니다. -parameters 옵션으로 컴파일하세요: " + method);
+            }
+            for (int i = 0; i < paramNames.length; i++) {
+                extractors[i] = ValueExtractor.compile(method, parameterNames, paramNames[i]);
+            }
+        }
+        return new LockKeyResolver(key, distributedLock.multiLock(), extractors);
+    }
+
+    /**
+     * 락 키 목록 생성
+     * 다중 락이면 파라미터 값마다 키를 만들어 중복 제거 후 정렬하고, 아니면 값들을 이어 붙인 키 하나를 만듭니다.
+     * @param args 메서드 인자
+     * @return 획득 순서대로 정렬된 락 키 목록
+     */
+    List<String> resolve(Object[] args) {
+        if (extractors.length == 0) {
+            return List.of(key);
+        }
+
+        if (!multiLock) {
+            StringBuilder builder = new StringBuilder(key.length() + extractors.length * 37);
+            builder.append(key);
+            for (ValueExtractor extractor : extractors) {
+                builder.append(':').append(extractor.extract(args));
+            }
+            return List.of(builder.toString());
+        }
+
+        String[] keys = new String[extractors.length];
+        for (int i = 0; i < extractors.length; i++) {
+            keys[i] = key + ":" + extractors[i].extract(args);
+        }
+        if (keys.length == 1) {
+            return List.of(keys[0]);
+        }
+
+        // 정렬된 순서로 획득해야 서로 다른 요청이 같은 키를 반대 순서로 잡지 않음
+        Arrays.sort(keys);
+        int distinct = 1;
+        for (int i = 1; i < keys.length; i++) {
+            if (!keys[i].equals(keys[distinct - 1])) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return List.of(distinct == keys.length ? keys : Arrays.copyOf(keys, distinct));
+    }
+
+    /**
+     * 인자 하나에서 값을 꺼내는 접근자
+     */
+    private static final class ValueExtractor {
+        private final String path;
+        private final int parameterIndex;
+        private final MethodHandle[] getters;
+
+        private ValueExtractor(String path, int parameterIndex, MethodHandle[] getters) {
+            this.path = path;
+            this.parameterIndex = parameterIndex;
+            this.getters = getters;
+        }
+
+        static ValueExtractor compile(Method method, String[] parameterNames, String path) {
+            String[] segments = path.split("\\.");
+            int parameterIndex = Arrays.asList(parameterNames).indexOf(segments[0]);
+            if (parameterIndex < 0) {
+                throw new IllegalStateException("존재하지 않는 파라미터입니다: " + path + ", 메서드: " + method);
+            }
+
+            Class<?> type = method.getParameterTypes()[parameterIndex];
+            MethodHandle[] getters = new MethodHandle[segments.length - 1];
+            for (int i = 1; i < segments.length; i++) {
+                Method getter = findGetter(type, segments[i]);
+                if (getter == null) {
+                    throw new IllegalStateException("읽을 수 없는 프로퍼티입니다: " + path + ", 메서드: " + method);
+                }
+                try {
+                    getters[i - 1] = LOOKUP.unreflect(getter).asType(GETTER_TYPE);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("프로퍼티에 접근할 수 없습니다: " + path + ", 메서드: " + method, e);
+                }
+                type = getter.getReturnType();
+            }
+            return new ValueExtractor(path, parameterIndex, getters);
+        }
+
+        private static Method findGetter(Class<?> type, String property) {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+            if (descriptor != null && descriptor.getReadMethod() != null) {
+                return descriptor.getReadMethod();
+            }
+            // record 등 getter 접두사가 없는 접근자
+            return ClassUtils.getMethodIfAvailable(type, property);
+        }
+
+        String extract(Object[] args) {
+            Object value = args[parameterIndex];
+            try {
+                for (MethodHandle getter : getters) {
+                    if (value == null) {
+                        break;
+                    }
+                    value = (Object) getter.invokeExact(value);
+                }
+            } catch (Throwable e) {
+                log.warn("락 키 생성 중 파라미터 값 추출 실패: {}", path, e);
+                return "unknown";
+            }
+            return String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.wirebarley.remittance.common.aop;
+
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 락 키 생성기 캐시
+ * 빈 초기화 시점에 DistributedLock 메서드의 paramNames를 검증하고 키 생성기를 미리 컴파일해 둡니다.
+ * 잘못된 paramNames는 첫 호출이 아니라 애플리케이션 기동 시점에 실패합니다.
+ */
+@Component
+public class LockKeyResolverRegistry implements BeanPostProcessor {
+    private final ConcurrentMap<Method, LockKeyResolver> resolvers = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopProxyUtils.ultimateTargetClass(bean);
+        ReflectionUtils.doWithMethods(targetClass, method -> {
+            try {
+                resolvers.computeIfAbsent(method, LockKeyResolver::compile);
+            } catch (IllegalStateException e) {
+                throw new BeanInitializationException("분산락 설정이 올바르지 않습니다. 빈: " + beanName, e);
+            }
+        }, method -> method.isAnnotationPresent(DistributedLock.class));
+        return bean;
+    }
+
+    /**
+     * 락 키 목록 생성
+     * @param method DistributedLock 어노테이션이 붙은 메서드
+     * @param args 메서드 인자
+     * @return 획득 순서대로 정렬된 락 키 목록
+     */
+    public List<String> resolve(Method method, Object[] args) {
+        // 기동 시 등록되지 않은 메서드(프록시 인터페이스 메서드 등)는 처음 호출될 때 컴파일
+        return resolvers.computeIfAbsent(method, LockKeyResolver::compile).resolve(args);
+    }
+}
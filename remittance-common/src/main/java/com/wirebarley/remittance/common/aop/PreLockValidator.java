@@ -0,0 +1,17 @@
+package com.wirebarley.remittance.common.aop;
+
+/**
+ * 락 획득 전 검증기
+ * DistributedLock의 validators에 지정하면 락 키 생성과 락 획득보다 먼저 실행됩니다.
+ * 락 없이도 판단할 수 있는 가벼운 검증(입력값, 캐시된 계좌 상태 등)만 수행해야 하며,
+ * 위반 시 BusinessException을 던져 락과 데이터베이스 비용 없이 요청을 거절합니다.
+ * 구현체는 스프링 빈으로 등록되어야 합니다.
+ */
+@FunctionalInterface
+public interface PreLockValidator {
+    /**
+     * 검증
+     * @param args 대상 메서드 인자
+     */
+    void validate(Object[] args);
+}
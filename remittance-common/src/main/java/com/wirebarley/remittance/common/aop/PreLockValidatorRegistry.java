@@ -0,0 +1,46 @@
+package com.wirebarley.remittance.common.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메서드별 락 획득 전 검증기 레지스트리
+ * DistributedLock의 validators에 지정된 검증기 빈을 메서드마다 한 번만 찾아 보관합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PreLockValidatorRegistry {
+    private static final PreLockValidator[] NONE = new PreLockValidator[0];
+
+    private final BeanFactory beanFactory;
+    private final Map<Method, PreLockValidator[]> validators = new ConcurrentHashMap<>();
+
+    /**
+     * 메서드에 지정된 검증기를 선언 순서대로 실행
+     * @param method DistributedLock 어노테이션이 붙은 메서드
+     * @param args 메서드 인자
+     */
+    public void validate(Method method, Object[] args) {
+        for (PreLockValidator validator : validators.computeIfAbsent(method, this::resolve)) {
+            validator.validate(args);
+        }
+    }
+
+    private PreLockValidator[] resolve(Method method) {
+        DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+        if (distributedLock == null || distributedLock.validators().length == 0) {
+            return NONE;
+        }
+        Class<? extends PreLockValidator>[] types = distributedLock.validators();
+        PreLockValidator[] resolved = new PreLockValidator[types.length];
+        for (int i = 0; i < types.length; i++) {
+            resolved[i] = beanFactory.getBean(types[i]);
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,72 @@
+package com.wirebarley.remittance.common.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 계좌 소유 노드 판별
+ * 정적 피어 목록(remittance.cluster.peers)으로 일관된 해시 링을 만들어 계좌마다 소유 노드 하나를 정합니다.
+ * 소유하지 않은 계좌의 입출금/이체 요청은 API 단에서 소유 노드로 보내, 한 계좌의 경합이 한 노드의 로컬 스트라이프에서 줄을 서게 합니다.
+ * 라우팅만 담당하며 락은 항상 기존 락 백엔드를 사용합니다. (이체 입금 계좌는 다른 노드 소유일 수 있어 노드 간 배제가 필요)
+ * 비활성화 시 모든 계좌를 소유한 것으로 봅니다.
+ */
+@Slf4j
+@Component
+public class AccountOwnership {
+
+    private final boolean enabled;
+    private final String self;
+    private final ConsistentHashRing ring;
+
+    public AccountOwnership(
+            @Value("${remittance.cluster.ownership.enabled:false}") boolean enabled,
+            @Value("${remittance.cluster.self:}") String self,
+            @Value("${remittance.cluster.peers:}") String[] peers,
+            @Value("${remittance.cluster.virtual-nodes:160}") int virtualNodes) {
+        this.enabled = enabled;
+        this.self = self;
+        if (!enabled) {
+            this.ring = null;
+            return;
+        }
+
+        List<String> members = Arrays.stream(peers)
+                .map(String::trim)
+                .filter(peer -> !peer.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+        if (!members.contains(self)) {
+            throw new IllegalStateException("remittance.cluster.peers에 자기 자신(" + self + ")이 포함되어야 합니다.");
+        }
+        this.ring = new ConsistentHashRing(members, virtualNodes);
+        log.info("계좌 소유 노드 분배 활성화: 자신: {}, 피어: {}", self, members);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 계좌 소유 노드 조회
+     * @param accountId 계좌 ID
+     * @return 소유 노드 (비활성화 시 자기 자신)
+     */
+    public String ownerOf(UUID accountId) {
+        return enabled ? ring.ownerOf(accountId) : self;
+    }
+
+    /**
+     * 이 노드가 계좌를 소유하는지 여부
+     * @param accountId 계좌 ID
+     * @return 소유 여부 (비활성화 시 항상 true)
+     */
+    public boolean isOwner(UUID accountId) {
+        return !enabled || self.equals(ring.ownerOf(accountId));
+    }
+}
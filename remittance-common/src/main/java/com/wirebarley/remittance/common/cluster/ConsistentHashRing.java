@@ -0,0 +1,71 @@
+package com.wirebarley.remittance.common.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 일관된 해시 링
+ * 노드마다 가상 노드를 여러 개 배치하여 계좌 UUID를 고르게 나누고,
+ * 노드가 추가/제거될 때 약 1/N의 계좌만 소유 노드가 바뀌도록 합니다.
+ * 생성 후 변경되지 않으므로 여러 스레드에서 잠금 없이 조회할 수 있습니다.
+ */
+public final class ConsistentHashRing {
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    /**
+     * @param nodes 노드 식별자 목록 (모든 노드에서 같은 값이어야 함)
+     * @param virtualNodes 노드당 가상 노드 수
+     */
+    public ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("해시 링에는 노드가 하나 이상 있어야 합니다.");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다.");
+        }
+        MessageDigest md5 = md5();
+        for (String node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                byte[] digest = md5.digest((node + "#" + i).getBytes(StandardCharsets.UTF_8));
+                ring.put(ByteBuffer.wrap(digest).getLong(), node);
+            }
+        }
+    }
+
+    /**
+     * 계좌 소유 노드 조회
+     * @param accountId 계좌 ID
+     * @return 소유 노드 식별자
+     */
+    public String ownerOf(UUID accountId) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(accountId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * UUID 해시 (시간 기반 UUID의 상위 비트 편향을 없애기 위해 두 절반을 섞은 뒤 비트 확산)
+     */
+    static long hash(UUID id) {
+        long h = id.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ id.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -24,6 +24,7 @@ public enum ErrorCode {
     DUPLICATE_ACCOUNT_NUMBER(HttpStatus.CONFLICT, "A002", "이미 존재하는 계좌번호입니다."),
     INSUFFICIENT_BALANCE(HttpStatus.BAD_REQUEST, "A003", "잔액이 부족합니다."),
     INACTIVE_ACCOUNT(HttpStatus.BAD_REQUEST, "A004", "비활성화된 계좌입니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "A005", "다른 요청과 동시에 변경되었습니다. 잠시 후 다시 시도해주세요."),
     
     // 트랜잭션 관련 에러
     TRANSACTION_NOT_FOUND(HttpStatus.NOT_FOUND, "T001", "트랜잭션을 찾을 수 없습니다."),
@@ -32,7 +33,12 @@ public enum ErrorCode {
     SAME_ACCOUNT_TRANSFER(HttpStatus.BAD_REQUEST, "T004", "동일한 계좌 간 이체는 불가능합니다."),
     
     // 분산 락 관련 에러
-    LOCK_ACQUISITION_FAILURE(HttpStatus.SERVICE_UNAVAILABLE, "L001", "락 획득에 실패했습니다. 잠시 후 다시 시도해주세요.");
+    LOCK_ACQUISITION_FAILURE(HttpStatus.SERVICE_UNAVAILABLE, "L001", "락 획득에 실패했습니다. 잠시 후 다시 시도해주세요."),
+    
+    // 멱등성 키 관련 에러
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "I001", "유효하지 않은 Idempotency-Key 입니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "I002", "다른 요청에 이미 사용된 Idempotency-Key 입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "I003", "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
     
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,254 @@
+package com.wirebarley.remittance.common.lock;
+
+import com.wirebarley.remittance.common.error.LockAcquisitionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redisson 락 백엔드 앞단의 서킷 브레이커
+ * Redis 연결/응답 오류가 연속으로 failure-threshold 번 발생하면 열린 상태가 되어 Redis로 요청을 보내지 않고,
+ * 설정된 대체 백엔드(remittance.lock.fallback)로 락을 획득하거나 대체 백엔드가 없으면 즉시 실패합니다.
+ * 열린 동안에는 백그라운드 프로브가 주기적으로 프로브 키를 잠갔다 풀어 회복을 확인하고, 성공하면 다시 닫힙니다.
+ * 경합으로 인한 대기 시간 초과는 Redis 장애로 보지 않습니다.
+ * 상태가 바뀌는 순간에는 서로 다른 백엔드에서 락을 보유한 요청 사이의 배제가 보장되지 않습니다.
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnExpression("'${remittance.lock.provider:redisson}' == 'redisson' and ${remittance.lock.circuit-breaker.enabled:true}")
+public class CircuitBreakerLockProvider implements LockProvider, DisposableBean {
+    static final String PROBE_KEY = "circuit-breaker:probe";
+    private static final String NO_FALLBACK = "none";
+
+    public enum State {
+        CLOSED, OPEN
+    }
+
+    private final RedissonLockProvider primary;
+    private final ObjectProvider<LockProvider> lockProviders;
+    private final String fallbackName;
+    private final int failureThreshold;
+    private final long probeIntervalMillis;
+    private final ScheduledExecutorService prober;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final Counter openedCounter;
+    private final Counter closedCounter;
+    private final Counter rejectedCounter;
+    private final Counter fallbackCounter;
+
+    private volatile LockProvider fallback;
+    private volatile ScheduledFuture<?> probeTask;
+
+    public CircuitBreakerLockProvider(
+            RedissonLockProvider primary,
+            ObjectProvider<LockProvider> lockProviders,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${remittance.lock.fallback:none}") String fallbackName,
+            @Value("${remittance.lock.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${remittance.lock.circuit-breaker.probe-interval-millis:1000}") long probeIntervalMillis) {
+        if (failureThreshold < 1 || probeIntervalMillis < 1) {
+            throw new IllegalArgumentException("서킷 브레이커 설정 값은 1 이상이어야 합니다.");
+        }
+        this.primary = primary;
+        this.lockProviders = lockProviders;
+        this.fallbackName = fallbackName;
+        this.failureThreshold = failureThreshold;
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.prober = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "lock-circuit-breaker-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("distributed.lock.circuit.state", state, s -> s.get() == State.OPEN ? 1 : 0)
+                .description("락 백엔드 서킷 상태 (0: 닫힘, 1: 열림)")
+                .tag("backend", primary.name())
+                .register(meterRegistry);
+        this.openedCounter = transitions(meterRegistry, State.OPEN);
+        this.closedCounter = transitions(meterRegistry, State.CLOSED);
+        this.rejectedCounter = Counter.builder("distributed.lock.circuit.calls")
+                .description("서킷이 열려 처리된 락 요청 수")
+                .tags("backend", primary.name(), "outcome", "rejected")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("distributed.lock.circuit.calls")
+                .description("서킷이 열려 처리된 락 요청 수")
+                .tags("backend", primary.name(), "outcome", "fallback")
+                .register(meterRegistry);
+        log.info("락 서킷 브레이커 활성화: 실패 임계치 {}, 대체 백엔드 {}", failureThreshold, fallbackName);
+    }
+
+    @Override
+    public LockHandle acquire(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        if (state.get() == State.OPEN) {
+            return acquireWhileOpen(keys, waitTime, leaseTime, timeUnit);
+        }
+
+        try {
+            LockHandle handle = primary.acquire(keys, waitTime, leaseTime, timeUnit);
+            if (consecutiveFailures.get() != 0) {
+                consecutiveFailures.set(0);
+            }
+            return handle;
+        } catch (LockAcquisitionException e) {
+            if (isBackendFailure(e) && consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                open();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String name() {
+        return active().name();
+    }
+
+    /**
+     * 현재 사용 중인 백엔드의 분산 락 여부
+     * 서킷이 열려 JVM 내부 락으로 대체 중이면 false가 되어 앞단의 로컬 스트라이프 단계를 생략합니다.
+     */
+    @Override
+    public boolean distributed() {
+        return active().distributed();
+    }
+
+    @Override
+    public int queueDepth(List<String> keys) {
+        return active().queueDepth(keys);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public String getPrimaryName() {
+        return primary.name();
+    }
+
+    /**
+     * 서킷이 열렸을 때 사용할 대체 백엔드 이름 (없으면 none)
+     */
+    public String getFallbackName() {
+        return fallbackName;
+    }
+
+    public boolean hasFallback() {
+        return fallback() != null;
+    }
+
+    @Override
+    public void destroy() {
+        prober.shutdownNow();
+    }
+
+    private LockHandle acquireWhileOpen(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        LockProvider current = fallback();
+        if (current == null) {
+            rejectedCounter.increment();
+            throw new LockAcquisitionException("락 서비스를 일시적으로 사용할 수 없습니다: " + String.join(",", keys));
+        }
+        fallbackCounter.increment();
+        return current.acquire(keys, waitTime, leaseTime, timeUnit);
+    }
+
+    private void open() {
+        if (!state.compareAndSet(State.CLOSED, State.OPEN)) {
+            return;
+        }
+        openedCounter.increment();
+        log.error("락 백엔드 서킷 열림: {} 연속 실패, 대체 백엔드: {}", failureThreshold, fallbackName);
+        probeTask = prober.scheduleWithFixedDelay(this::probe, probeIntervalMillis, probeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void close() {
+        if (!state.compareAndSet(State.OPEN, State.CLOSED)) {
+            return;
+        }
+        consecutiveFailures.set(0);
+        closedCounter.increment();
+        ScheduledFuture<?> task = probeTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+        log.info("락 백엔드 서킷 닫힘: {} 회복", primary.name());
+    }
+
+    /**
+     * 회복 확인: 프로브 키를 기다리지 않고 잠갔다가 바로 해제
+     */
+    void probe() {
+        try {
+            primary.acquire(List.of(PROBE_KEY), 0L, probeIntervalMillis, TimeUnit.MILLISECONDS).release();
+            close();
+        } catch (LockAcquisitionException e) {
+            if (isBackendFailure(e)) {
+                log.debug("락 백엔드 회복 확인 실패: {}", primary.name(), e);
+            } else {
+                // 다른 노드의 프로브가 잡고 있는 경우: 백엔드는 응답하고 있으므로 회복으로 판단
+                close();
+            }
+        } catch (RuntimeException e) {
+            log.debug("락 백엔드 회복 확인 실패: {}", primary.name(), e);
+        }
+    }
+
+    /**
+     * 현재 사용 중인 백엔드 (서킷이 열렸고 대체 백엔드가 있으면 대체 백엔드)
+     */
+    private LockProvider active() {
+        LockProvider current = state.get() == State.OPEN ? fallback() : null;
+        return current != null ? current : primary;
+    }
+
+    private LockProvider fallback() {
+        if (NO_FALLBACK.equals(fallbackName)) {
+            return null;
+        }
+        LockProvider resolved = fallback;
+        if (resolved == null) {
+            // 자기 자신도 LockProvider이므로 생성 시점이 아닌 첫 사용 시점에 찾음
+            resolved = lockProviders.stream()
+                    .filter(provider -> provider != this && fallbackName.equals(provider.name()))
+                    .findFirst()
+                    .orElse(null);
+            if (resolved == null) {
+                log.error("대체 락 백엔드를 찾을 수 없습니다: {}", fallbackName);
+            }
+            fallback = resolved;
+        }
+        return resolved;
+    }
+
+    private Counter transitions(MeterRegistry meterRegistry, State to) {
+        return Counter.builder("distributed.lock.circuit.transitions")
+                .description("락 백엔드 서킷 상태 전이 횟수")
+                .tags("backend", primary.name(), "state", to.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 시간 초과(원인 없음)나 인터럽트가 아닌, 백엔드 연결/응답 오류인지 여부
+     */
+    private static boolean isBackendFailure(LockAcquisitionException e) {
+        return e.getCause() != null && !(e.getCause() instanceof InterruptedException);
+    }
+}
@@ -0,0 +1,131 @@
+package com.wirebarley.remittance.common.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 락 보유 시간 분포
+ * 마이크로초 단위 값을 2의 거듭제곱 구간마다 4개로 나눈 로그 버킷(상대 오차 약 25%)에 기록합니다.
+ * 최근 두 구간(현재, 직전)만 유지하여 오래된 관측값은 자연스럽게 버려지며, 기록은 CAS만 사용합니다.
+ */
+class HoldTimeHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 64 * SUB_BUCKETS;
+    private static final long PERCENTILE_CACHE_MILLIS = 1_000L;
+
+    private final long windowMillis;
+    private final AtomicReference<Window> current;
+    private volatile Window previous;
+
+    private volatile long cachedAtMillis;
+    private volatile long cachedCount;
+    private volatile long cachedP99Micros;
+
+    HoldTimeHistogram(long windowMillis) {
+        this.windowMillis = windowMillis;
+        this.current = new AtomicReference<>(new Window(System.currentTimeMillis() / windowMillis));
+    }
+
+    /**
+     * 보유 시간 기록
+     * @param nanos 보유 시간 (나노초)
+     */
+    void record(long nanos) {
+        long micros = Math.max(1L, TimeUnit.NANOSECONDS.toMicros(nanos));
+        window(System.currentTimeMillis()).counts.incrementAndGet(indexOf(micros));
+    }
+
+    /**
+     * 최근 두 구간의 관측 수
+     */
+    long count() {
+        refresh();
+        return cachedCount;
+    }
+
+    /**
+     * 최근 두 구간의 99번째 백분위 보유 시간 (밀리초, 올림)
+     */
+    long p99Millis() {
+        refresh();
+        return (cachedP99Micros + 999L) / 1_000L;
+    }
+
+    private void refresh() {
+        long now = System.currentTimeMillis();
+        if (now - cachedAtMillis < PERCENTILE_CACHE_MILLIS) {
+            return;
+        }
+        Window latest = window(now);
+        Window older = previous;
+        long[] merged = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = latest.counts.get(i);
+            if (older != null && older.epoch == latest.epoch - 1) {
+                count += older.counts.get(i);
+            }
+            merged[i] = count;
+            total += count;
+        }
+
+        long p99 = 0L;
+        if (total > 0) {
+            long rank = (long) Math.ceil(total * 0.99);
+            long seen = 0L;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += merged[i];
+                if (seen >= rank) {
+                    p99 = upperBoundOf(i);
+                    break;
+                }
+            }
+        }
+        cachedCount = total;
+        cachedP99Micros = p99;
+        cachedAtMillis = now;
+    }
+
+    private Window window(long nowMillis) {
+        long epoch = nowMillis / windowMillis;
+        Window window = current.get();
+        while (window.epoch < epoch) {
+            Window fresh = new Window(epoch);
+            if (current.compareAndSet(window, fresh)) {
+                previous = window;
+                return fresh;
+            }
+            window = current.get();
+        }
+        return window;
+    }
+
+    static int indexOf(long micros) {
+        int msb = 63 - Long.numberOfLeadingZeros(micros);
+        if (msb < SUB_BUCKET_BITS) {
+            return (int) micros;
+        }
+        int sub = (int) (micros >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (msb - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int msb = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (msb - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private static final class Window {
+        private final long epoch;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+        private Window(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
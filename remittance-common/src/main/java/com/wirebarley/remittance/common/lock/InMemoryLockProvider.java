@@ -0,0 +1,47 @@
+package com.wirebarley.remittance.common.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 내부 스트라이프 락 백엔드
+ * 단일 노드 배포와 테스트에서 Redis 없이 사용합니다. 여러 노드 사이의 배제는 보장하지 않습니다.
+ */
+@Component
+// 주 백엔드이거나 서킷 브레이커의 대체 백엔드로 지정된 경우 등록
+@ConditionalOnExpression("'${remittance.lock.provider:redisson}' == 'in-memory' or ("
+        + "'${remittance.lock.provider:redisson}' == 'redisson' and ${remittance.lock.circuit-breaker.enabled:true} "
+        + "and '${remittance.lock.fallback:none}' == 'in-memory')")
+public class InMemoryLockProvider implements LockProvider {
+    private final LocalLockStripes stripes;
+
+    public InMemoryLockProvider(@Value("${remittance.lock.local.stripes:1024}") int stripeCount) {
+        this.stripes = new LocalLockStripes(true, stripeCount);
+    }
+
+    @Override
+    public LockHandle acquire(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        List<ReentrantLock> acquired = stripes.acquire(keys, waitTime, timeUnit);
+        return () -> stripes.release(acquired);
+    }
+
+    @Override
+    public String name() {
+        return "in-memory";
+    }
+
+    @Override
+    public boolean distributed() {
+        return false;
+    }
+
+    @Override
+    public int queueDepth(List<String> keys) {
+        return stripes.queueDepth(keys);
+    }
+}
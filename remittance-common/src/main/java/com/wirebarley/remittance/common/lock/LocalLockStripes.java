@@ -0,0 +1,123 @@
+package com.wirebarley.remittance.common.lock;
+
+import com.wirebarley.remittance.common.error.LockAcquisitionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 내부 스트라이프 락
+ * 분산 락 앞단에서 같은 노드의 경쟁 요청을 먼저 로컬에서 줄 세워,
+ * 로컬 대기열의 선두 요청만 Redis 락을 두고 경쟁하도록 합니다.
+ * 키는 해시로 고정 개수의 공정(fair) 락 중 하나에 대응되며, 여러 키는 스트라이프 번호 순으로 획득합니다.
+ */
+@Slf4j
+@Component
+public class LocalLockStripes {
+    private final boolean enabled;
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public LocalLockStripes(
+            @Value("${remittance.lock.local.enabled:true}") boolean enabled,
+            @Value("${remittance.lock.local.stripes:1024}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("로컬 락 스트라이프 수는 1 이상이어야 합니다.");
+        }
+        // 비트 마스크로 인덱스를 구하기 위해 2의 거듭제곱으로 올림
+        int size = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+
+        this.enabled = enabled;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+        this.mask = size - 1;
+        log.info("로컬 락 스트라이프 {}: {}개", enabled ? "활성화" : "비활성화", size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 키 목록에 해당하는 스트라이프를 모두 획득
+     * 서로 다른 키가 같은 스트라이프에 대응되면 한 번만 획득하며, 실패 시 이미 획득한 스트라이프는 해제합니다.
+     * @param keys 락 키 목록
+     * @param timeout 최대 대기 시간
+     * @param timeUnit 시간 단위
+     * @return 획득한 스트라이프 (비활성화 시 빈 목록)
+     * @throws LockAcquisitionException 대기 시간 안에 획득하지 못한 경우
+     */
+    public List<ReentrantLock> acquire(List<String> keys, long timeout, TimeUnit timeUnit) {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (String key : keys) {
+            indexes.add(indexOf(key));
+        }
+
+        long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        List<ReentrantLock> acquired = new ArrayList<>(indexes.size());
+        try {
+            for (int index : indexes) {
+                ReentrantLock stripe = stripes[index];
+                if (!stripe.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    release(acquired);
+                    log.error("로컬 락 획득에 실패했습니다: {}", keys);
+                    throw new LockAcquisitionException("락 획득에 실패했습니다: " + String.join(",", keys));
+                }
+                acquired.add(stripe);
+            }
+            return acquired;
+        } catch (InterruptedException e) {
+            release(acquired);
+            Thread.currentThread().interrupt();
+            log.error("로컬 락 획득 중 인터럽트 발생: {}", keys, e);
+            throw new LockAcquisitionException("락 획득 중 인터럽트 발생: " + String.join(",", keys), e);
+        }
+    }
+
+    /**
+     * 키 목록에 해당하는 스트라이프의 대기열 길이 (보유 중인 요청 포함, 스트라이프 중 최대값)
+     * 조회 시점의 추정값으로, 조기 거절 판단에만 사용합니다.
+     * @param keys 락 키 목록
+     * @return 앞선 요청 수 (비활성화 시 0)
+     */
+    public int queueDepth(List<String> keys) {
+        if (!enabled) {
+            return 0;
+        }
+        int depth = 0;
+        for (String key : keys) {
+            ReentrantLock stripe = stripes[indexOf(key)];
+            depth = Math.max(depth, stripe.getQueueLength() + (stripe.isLocked() ? 1 : 0));
+        }
+        return depth;
+    }
+
+    /**
+     * 획득한 스트라이프 해제 (획득 역순)
+     * @param acquired 획득한 스트라이프
+     */
+    public void release(List<ReentrantLock> acquired) {
+        for (int i = acquired.size() - 1; i >= 0; i--) {
+            acquired.get(i).unlock();
+        }
+    }
+
+    private int indexOf(String key) {
+        int h = key.hashCode();
+        // 상위 비트를 섞어 하위 비트만 쓰는 마스크에서도 고르게 분산
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,13 @@
+package com.wirebarley.remittance.common.lock;
+
+/**
+ * 획득한 락 핸들
+ * 획득한 스레드에서 한 번만 해제해야 합니다.
+ */
+@FunctionalInterface
+public interface LockHandle {
+    /**
+     * 락 해제
+     */
+    void release();
+}
@@ -0,0 +1,118 @@
+package com.wirebarley.remittance.common.lock;
+
+import com.wirebarley.remittance.common.error.LockAcquisitionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 경합 지표
+ * 락 대기/보유 시간 타이머(히스토그램 포함)와 획득 실패 카운터를 기록합니다.
+ * 카디널리티를 낮게 유지하기 위해 전체 락 키 대신 키 접두사(key)와 대상 메서드(operation)로만 태그를 붙입니다.
+ */
+@Component
+public class LockMetrics {
+    public static final String WAIT = "distributed.lock.wait";
+    public static final String HOLD = "distributed.lock.hold";
+    public static final String FAILURES = "distributed.lock.failures";
+
+    public static final String REASON_TIMEOUT = "timeout";
+    public static final String REASON_INTERRUPTED = "interrupted";
+    public static final String REASON_ERROR = "error";
+    public static final String REASON_REJECTED = "rejected";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public LockMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    LockMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 락 대기 시간 기록
+     * @param tier 락 단계 (local 또는 락 백엔드 이름)
+     * @param key 락 키 접두사
+     * @param operation 대상 메서드 이름
+     * @param nanos 대기 시간 (나노초)
+     */
+    public void recordWait(String tier, String key, String operation, long nanos) {
+        timer(WAIT, tier, key, operation).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 락 보유 시간 기록
+     * @param tier 락 단계 (local 또는 락 백엔드 이름)
+     * @param key 락 키 접두사
+     * @param operation 대상 메서드 이름
+     * @param nanos 보유 시간 (나노초)
+     */
+    public void recordHold(String tier, String key, String operation, long nanos) {
+        timer(HOLD, tier, key, operation).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 락 획득 실패 기록
+     * 원인은 대기 시간 초과(timeout), 인터럽트(interrupted), 그 외 백엔드 오류(error)로 구분합니다.
+     * 예상 대기 시간 초과로 기다리지 않고 거절한 경우는 rejected로 따로 기록합니다.
+     * @param tier 락 단계 (local 또는 락 백엔드 이름)
+     * @param key 락 키 접두사
+     * @param operation 대상 메서드 이름
+     * @param e 락 획득 예외
+     */
+    public void recordFailure(String tier, String key, String operation, LockAcquisitionException e) {
+        recordFailure(tier, key, operation, reasonOf(e));
+    }
+
+    /**
+     * 락 획득 실패 기록
+     * @param tier 락 단계 (local 또는 락 백엔드 이름)
+     * @param key 락 키 접두사
+     * @param operation 대상 메서드 이름
+     * @param reason 실패 원인
+     */
+    public void recordFailure(String tier, String key, String operation, String reason) {
+        counters.computeIfAbsent(new MeterKey(FAILURES, tier, key, operation, reason),
+                        id -> Counter.builder(FAILURES)
+                                .description("락 획득 실패 횟수")
+                                .tags("tier", tier, "key", key, "operation", operation, "reason", id.reason())
+                                .register(meterRegistry))
+                .increment();
+    }
+
+    private Timer timer(String name, String tier, String key, String operation) {
+        return timers.computeIfAbsent(new MeterKey(name, tier, key, operation, null),
+                id -> Timer.builder(name)
+                        .description(WAIT.equals(name) ? "락 획득 대기 시간" : "락 보유 시간")
+                        .tags("tier", tier, "key", key, "operation", operation)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(MIN_EXPECTED)
+                        .maximumExpectedValue(MAX_EXPECTED)
+                        .register(meterRegistry));
+    }
+
+    private static String reasonOf(LockAcquisitionException e) {
+        if (e.getCause() instanceof InterruptedException) {
+            return REASON_INTERRUPTED;
+        }
+        return e.getCause() == null ? REASON_TIMEOUT : REASON_ERROR;
+    }
+
+    private record MeterKey(String name, String tier, String key, String operation, String reason) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.wirebarley.remittance.common.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 락 대기/유지 정책
+ * DistributedLock의 waitTime은 상한으로만 사용하고, 실제 대기 시간과 조기 거절 여부는 이 정책으로 결정합니다.
+ * 운영 중 LockPolicyRegistry를 통해 기본값 또는 메서드별로 변경할 수 있습니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class LockPolicy {
+    /**
+     * 관측된 보유 시간 p99로 대기 시간을 정할지 여부 (false이면 어노테이션 waitTime 그대로 사용)
+     */
+    private boolean adaptive;
+    /**
+     * 대기 시간 = p99 보유 시간 x holdMultiplier (최소 minWaitMillis, 최대 어노테이션 waitTime)
+     */
+    private double holdMultiplier;
+    private long minWaitMillis;
+    /**
+     * 적응형 대기를 적용하기 위한 최소 관측 수
+     */
+    private long minSamples;
+    /**
+     * 앞선 대기 요청 수 x p99 보유 시간이 대기 시간을 넘으면 기다리지 않고 즉시 거절
+     */
+    private boolean earlyRejection;
+    /**
+     * 고정 leaseTime 대신 락 백엔드의 감시(watchdog) 갱신으로 유지할지 여부
+     */
+    private boolean watchdogLease;
+}
@@ -0,0 +1,151 @@
+package com.wirebarley.remittance.common.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 정책 레지스트리
+ * 메서드(operation)별 보유 시간 분포를 관측하고, 운영 중 변경 가능한 정책에 따라 락 획득 계획을 세웁니다.
+ */
+@Slf4j
+@Component
+public class LockPolicyRegistry {
+    /**
+     * 감시(watchdog) 갱신을 요청하는 leaseTime 값 (Redisson 규약)
+     */
+    public static final long WATCHDOG_LEASE = -1L;
+
+    private final long windowMillis;
+    private final Map<String, HoldTimeHistogram> holdTimes = new ConcurrentHashMap<>();
+    private final Map<String, LockPolicy> overrides = new ConcurrentHashMap<>();
+    private volatile LockPolicy defaultPolicy;
+
+    public LockPolicyRegistry(
+            @Value("${remittance.lock.policy.adaptive:true}") boolean adaptive,
+            @Value("${remittance.lock.policy.hold-multiplier:4}") double holdMultiplier,
+            @Value("${remittance.lock.policy.min-wait-millis:200}") long minWaitMillis,
+            @Value("${remittance.lock.policy.min-samples:100}") long minSamples,
+            @Value("${remittance.lock.policy.early-rejection:true}") boolean earlyRejection,
+            @Value("${remittance.lock.policy.watchdog-lease:true}") boolean watchdogLease,
+            @Value("${remittance.lock.policy.window-seconds:60}") long windowSeconds) {
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.defaultPolicy = validate(LockPolicy.builder()
+                .adaptive(adaptive)
+                .holdMultiplier(holdMultiplier)
+                .minWaitMillis(minWaitMillis)
+                .minSamples(minSamples)
+                .earlyRejection(earlyRejection)
+                .watchdogLease(watchdogLease)
+                .build());
+    }
+
+    /**
+     * 락 획득 계획 수립
+     * @param operation 대상 메서드 이름
+     * @param maxWaitMillis 어노테이션의 최대 대기 시간
+     * @param leaseMillis 어노테이션의 락 유지 시간
+     * @param queued 이 노드에서 같은 키를 먼저 기다리거나 보유 중인 요청 수
+     * @return 락 획득 계획
+     */
+    public LockPlan plan(String operation, long maxWaitMillis, long leaseMillis, int queued) {
+        LockPolicy policy = getPolicy(operation);
+        long lease = policy.isWatchdogLease() ? WATCHDOG_LEASE : leaseMillis;
+
+        HoldTimeHistogram histogram = holdTimes.get(operation);
+        if (!policy.isAdaptive() || histogram == null || histogram.count() < policy.getMinSamples()) {
+            return new LockPlan(maxWaitMillis, lease, false, 0L);
+        }
+
+        long p99 = histogram.p99Millis();
+        long wait = (long) Math.ceil(p99 * policy.getHoldMultiplier());
+        wait = Math.min(maxWaitMillis, Math.max(policy.getMinWaitMillis(), wait));
+        long expectedWait = queued * p99;
+        boolean rejected = policy.isEarlyRejection() && expectedWait > wait;
+        return new LockPlan(wait, lease, rejected, expectedWait);
+    }
+
+    /**
+     * 락 보유 시간 기록
+     * @param operation 대상 메서드 이름
+     * @param nanos 보유 시간 (나노초)
+     */
+    public void recordHold(String operation, long nanos) {
+        holdTimes.computeIfAbsent(operation, o -> new HoldTimeHistogram(windowMillis)).record(nanos);
+    }
+
+    /**
+     * 적용 중인 정책 조회 (메서드별 정책이 없으면 기본 정책)
+     * @param operation 대상 메서드 이름
+     * @return 락 정책
+     */
+    public LockPolicy getPolicy(String operation) {
+        return overrides.getOrDefault(operation, defaultPolicy);
+    }
+
+    public LockPolicy getDefaultPolicy() {
+        return defaultPolicy;
+    }
+
+    /**
+     * 메서드별 정책 조회
+     * @return 메서드 이름 -> 정책
+     */
+    public Map<String, LockPolicy> getOverrides() {
+        return new TreeMap<>(overrides);
+    }
+
+    /**
+     * 기본 정책 변경
+     * @param policy 새 정책
+     */
+    public void updateDefaultPolicy(LockPolicy policy) {
+        defaultPolicy = validate(policy);
+        log.info("기본 락 정책 변경: adaptive={}, holdMultiplier={}, minWaitMillis={}, earlyRejection={}, watchdogLease={}",
+                policy.isAdaptive(), policy.getHoldMultiplier(), policy.getMinWaitMillis(),
+                policy.isEarlyRejection(), policy.isWatchdogLease());
+    }
+
+    /**
+     * 메서드별 정책 변경
+     * @param operation 대상 메서드 이름
+     * @param policy 새 정책
+     */
+    public void updatePolicy(String operation, LockPolicy policy) {
+        overrides.put(operation, validate(policy));
+        log.info("락 정책 변경: {}, adaptive={}, holdMultiplier={}, minWaitMillis={}, earlyRejection={}, watchdogLease={}",
+                operation, policy.isAdaptive(), policy.getHoldMultiplier(), policy.getMinWaitMillis(),
+                policy.isEarlyRejection(), policy.isWatchdogLease());
+    }
+
+    /**
+     * 메서드별 정책 제거 (기본 정책으로 복귀)
+     * @param operation 대상 메서드 이름
+     */
+    public void resetPolicy(String operation) {
+        overrides.remove(operation);
+        log.info("락 정책 초기화: {}", operation);
+    }
+
+    private static LockPolicy validate(LockPolicy policy) {
+        if (policy.getHoldMultiplier() <= 0 || policy.getMinWaitMillis() < 0 || policy.getMinSamples() < 0) {
+            throw new IllegalArgumentException("락 정책 값이 올바르지 않습니다.");
+        }
+        return policy;
+    }
+
+    /**
+     * 락 획득 계획
+     * @param waitMillis 대기 시간
+     * @param leaseMillis 유지 시간 (WATCHDOG_LEASE이면 감시 갱신)
+     * @param rejected 조기 거절 여부
+     * @param expectedWaitMillis 예상 대기 시간
+     */
+    public record LockPlan(long waitMillis, long leaseMillis, boolean rejected, long expectedWaitMillis) {
+    }
+}
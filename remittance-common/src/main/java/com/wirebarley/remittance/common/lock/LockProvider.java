@@ -0,0 +1,50 @@
+package com.wirebarley.remittance.common.lock;
+
+import com.wirebarley.remittance.common.error.LockAcquisitionException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 백엔드 SPI
+ * DistributedLock이 사용하는 락 저장소를 추상화합니다.
+ * remittance.lock.provider 속성(redisson | database | in-memory)으로 구현체를 선택합니다.
+ */
+public interface LockProvider {
+    /**
+     * 여러 락을 한 번에 획득
+     * 키는 정렬된 순서로 전달되며, 구현체는 모두 획득하거나 하나도 획득하지 않아야 합니다.
+     * @param keys 획득 순서대로 정렬된 락 키 목록
+     * @param waitTime 락 획득 대기 시간
+     * @param leaseTime 락 유지 시간 (지원하지 않는 구현체는 무시)
+     * @param timeUnit 시간 단위
+     * @return 해제에 사용할 락 핸들
+     * @throws LockAcquisitionException 대기 시간 안에 획득하지 못한 경우
+     */
+    LockHandle acquire(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit);
+    
+    /**
+     * 메트릭/로그에 사용할 구현체 이름
+     * @return 구현체 이름
+     */
+    String name();
+    
+    /**
+     * 여러 노드 사이에서 배제가 보장되는지 여부
+     * false이면 앞단의 로컬 스트라이프 락 단계를 생략합니다.
+     * @return 분산 락 여부
+     */
+    default boolean distributed() {
+        return true;
+    }
+    
+    /**
+     * 이 노드에서 같은 키를 먼저 기다리거나 보유 중인 요청 수 추정값
+     * 조기 거절 판단에 사용하며, 알 수 없는 구현체는 0을 반환합니다.
+     * @param keys 락 키 목록
+     * @return 앞선 요청 수
+     */
+    default int queueDepth(List<String> keys) {
+        return 0;
+    }
+}
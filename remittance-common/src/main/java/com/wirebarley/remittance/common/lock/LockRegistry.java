@@ -0,0 +1,219 @@
+package com.wirebarley.remittance.common.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 노드 내 락 진단 레지스트리
+ * DistributedLockAspect가 락을 기다리거나 보유 중인 요청을 등록하고, 최근 구간의 키별 경합 횟수를 집계합니다.
+ * 등록/해제는 락 없는 자료구조(ConcurrentSkipListMap, CAS)만 사용해 락 경로에 대기를 추가하지 않으며,
+ * 보유/대기 관계 계산은 조회 시점에만 수행합니다.
+ */
+@Component
+public class LockRegistry {
+    private static final int BUCKET_COUNT = 6;
+    private static final int MAX_KEYS_PER_BUCKET = 10_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, Entry> entries = new ConcurrentSkipListMap<>();
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+    private final long bucketMillis;
+    private final long contentionThresholdNanos;
+
+    public LockRegistry(
+            @Value("${remittance.lock.diagnostics.window-seconds:60}") long windowSeconds,
+            @Value("${remittance.lock.diagnostics.contention-threshold-millis:1}") long contentionThresholdMillis) {
+        if (windowSeconds < BUCKET_COUNT) {
+            throw new IllegalArgumentException("경합 집계 구간은 " + BUCKET_COUNT + "초 이상이어야 합니다.");
+        }
+        this.bucketMillis = TimeUnit.SECONDS.toMillis(windowSeconds) / BUCKET_COUNT;
+        this.contentionThresholdNanos = TimeUnit.MILLISECONDS.toNanos(contentionThresholdMillis);
+    }
+
+    /**
+     * 락 대기 시작 등록
+     * @param keys 락 키 목록
+     * @param method 대상 메서드 이름
+     * @return 등록 항목 (해제 시 전달)
+     */
+    public Entry register(List<String> keys, String method) {
+        Entry entry = new Entry(sequence.incrementAndGet(), keys, Thread.currentThread().getName(), method);
+        entries.put(entry.id, entry);
+        return entry;
+    }
+
+    /**
+     * 락 획득 완료 표시
+     * @param entry 등록 항목
+     * @param waitNanos 락 획득까지 기다린 시간
+     */
+    public void acquired(Entry entry, long waitNanos) {
+        entry.acquiredAt = Instant.now();
+        if (waitNanos >= contentionThresholdNanos) {
+            recordContention(entry.keys);
+        }
+    }
+
+    /**
+     * 락 획득 실패 기록
+     * 대기 시간 안에 획득하지 못한 요청은 경합으로 집계합니다.
+     * @param entry 등록 항목
+     */
+    public void failed(Entry entry) {
+        recordContention(entry.keys);
+    }
+
+    /**
+     * 등록 해제 (락 해제 또는 획득 실패 후)
+     * @param entry 등록 항목
+     */
+    public void deregister(Entry entry) {
+        entries.remove(entry.id);
+    }
+
+    /**
+     * 현재 노드의 락 상태 조회
+     * @param topN 경합 상위 키 개수
+     * @return 락 상태 스냅샷
+     */
+    public LockSnapshot snapshot(int topN) {
+        Instant now = Instant.now();
+        List<Entry> active = new ArrayList<>(entries.values());
+
+        List<LockSnapshot.HeldLock> heldLocks = new ArrayList<>();
+        for (Entry held : active) {
+            Instant acquiredAt = held.acquiredAt;
+            if (acquiredAt == null) {
+                continue;
+            }
+            int waiters = 0;
+            long longestWaitMillis = 0L;
+            for (Entry waiting : active) {
+                if (waiting.acquiredAt == null && sharesKey(held, waiting)) {
+                    waiters++;
+                    longestWaitMillis = Math.max(longestWaitMillis, now.toEpochMilli() - waiting.registeredAt.toEpochMilli());
+                }
+            }
+            heldLocks.add(LockSnapshot.HeldLock.builder()
+                    .keys(held.keys)
+                    .holderThread(held.thread)
+                    .method(held.method)
+                    .acquiredAt(acquiredAt)
+                    .heldMillis(now.toEpochMilli() - acquiredAt.toEpochMilli())
+                    .waiters(waiters)
+                    .longestWaitMillis(longestWaitMillis)
+                    .build());
+        }
+        heldLocks.sort(Comparator.comparing(LockSnapshot.HeldLock::getAcquiredAt));
+
+        return LockSnapshot.builder()
+                .capturedAt(now)
+                .heldLocks(heldLocks)
+                .topContendedKeys(topContendedKeys(now.toEpochMilli(), topN))
+                .windowSeconds(TimeUnit.MILLISECONDS.toSeconds(bucketMillis * BUCKET_COUNT))
+                .build();
+    }
+
+    private void recordContention(List<String> keys) {
+        long epoch = System.currentTimeMillis() / bucketMillis;
+        int index = (int) (epoch % BUCKET_COUNT);
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.epoch != epoch) {
+            if (bucket != null && bucket.epoch > epoch) {
+                return;
+            }
+            // 오래된 구간은 CAS로 새 구간으로 교체 (경쟁에서 진 스레드는 교체된 구간을 사용)
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+            } else {
+                bucket = buckets.get(index);
+            }
+        }
+        for (String key : keys) {
+            bucket.increment(key);
+        }
+    }
+
+    private List<LockSnapshot.ContendedKey> topContendedKeys(long nowMillis, int topN) {
+        long currentEpoch = nowMillis / bucketMillis;
+        Map<String, Long> totals = new HashMap<>();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket == null || bucket.epoch <= currentEpoch - BUCKET_COUNT) {
+                continue;
+            }
+            bucket.counts.forEach((key, count) -> totals.merge(key, count.sum(), Long::sum));
+        }
+        return totals.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(Math.max(topN, 0))
+                .map(e -> LockSnapshot.ContendedKey.builder().key(e.getKey()).contentions(e.getValue()).build())
+                .toList();
+    }
+
+    private static boolean sharesKey(Entry a, Entry b) {
+        for (String key : a.keys) {
+            if (b.keys.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 락을 기다리거나 보유 중인 요청
+     */
+    public static final class Entry {
+        private final long id;
+        private final List<String> keys;
+        private final String thread;
+        private final String method;
+        private final Instant registeredAt = Instant.now();
+        private volatile Instant acquiredAt;
+
+        private Entry(long id, List<String> keys, String thread, String method) {
+            this.id = id;
+            this.keys = keys;
+            this.thread = thread;
+            this.method = method;
+        }
+    }
+
+    /**
+     * 경합 집계 구간 하나
+     */
+    private static final class Bucket {
+        private final long epoch;
+        private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+
+        void increment(String key) {
+            LongAdder count = counts.get(key);
+            if (count == null) {
+                if (counts.size() >= MAX_KEYS_PER_BUCKET) {
+                    // 키 폭증 시 메모리 보호: 이 구간에서 새 키는 집계하지 않음
+                    return;
+                }
+                count = counts.computeIfAbsent(key, k -> new LongAdder());
+            }
+            count.increment();
+        }
+    }
+}
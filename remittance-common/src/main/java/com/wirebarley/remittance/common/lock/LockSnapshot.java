@@ -0,0 +1,62 @@
+package com.wirebarley.remittance.common.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 현재 노드의 락 상태 스냅샷
+ * 진단용 조회 모델로, 조회 시점의 보유 락과 최근 경합 상위 키를 담습니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LockSnapshot {
+    private Instant capturedAt;
+    private List<HeldLock> heldLocks;
+    /**
+     * 최근 구간에서 경합이 많았던 키 (많은 순)
+     */
+    private List<ContendedKey> topContendedKeys;
+    private long windowSeconds;
+
+    /**
+     * 보유 중인 락
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HeldLock {
+        private List<String> keys;
+        private String holderThread;
+        private String method;
+        private Instant acquiredAt;
+        private long heldMillis;
+        /**
+         * 같은 키를 기다리는 이 노드의 대기 요청 수
+         */
+        private int waiters;
+        /**
+         * 가장 오래 기다린 대기 요청의 대기 시간
+         */
+        private long longestWaitMillis;
+    }
+
+    /**
+     * 경합이 발생한 키
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ContendedKey {
+        private String key;
+        private long contentions;
+    }
+}
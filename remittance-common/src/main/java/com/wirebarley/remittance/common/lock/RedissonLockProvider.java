@@ -0,0 +1,32 @@
+package com.wirebarley.remittance.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redisson 락 백엔드 (기본값)
+ * 여러 노드가 같은 Redis를 바라보는 배포에서 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "remittance.lock.provider", havingValue = "redisson", matchIfMissing = true)
+public class RedissonLockProvider implements LockProvider {
+    private final RedissonLockService lockService;
+
+    @Override
+    public LockHandle acquire(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        RLock lock = lockService.tryLock(keys, waitTime, leaseTime, timeUnit);
+        String lockKey = String.join(",", keys);
+        return () -> lockService.unlock(lock, lockKey);
+    }
+
+    @Override
+    public String name() {
+        return "redisson";
+    }
+}
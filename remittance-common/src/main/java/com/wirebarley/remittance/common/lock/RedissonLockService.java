@@ -3,10 +3,12 @@ package com.wirebarley.remittance.common.lock;
 import com.wirebarley.remittance.common.error.LockAcquisitionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.RedissonMultiLock;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -28,8 +30,31 @@ public class RedissonLockService {
      * @throws LockAcquisitionException 락 획득 실패 시
      */
     public RLock tryLock(String key, long waitTime, long leaseTime, TimeUnit timeUnit) {
-        RLock lock = redissonClient.getLock(key);
+        return acquire(redissonClient.getLock(key), key, waitTime, leaseTime, timeUnit);
+    }
+    
+    /**
+     * 여러 락을 한 번에 획득 시도
+     * 키가 둘 이상이면 주어진 순서대로 Redisson 멀티 락으로 묶어 모두 획득하거나 모두 놓습니다.
+     * @param keys 획득 순서대로 정렬된 락 키 목록
+     * @param waitTime 락 획득 대기 시간
+     * @param leaseTime 락 유지 시간
+     * @param timeUnit 시간 단위
+     * @return 락 객체
+     * @throws LockAcquisitionException 락 획득 실패 시
+     */
+    public RLock tryLock(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        if (keys.size() == 1) {
+            return tryLock(keys.get(0), waitTime, leaseTime, timeUnit);
+        }
         
+        RLock[] locks = keys.stream()
+                .map(redissonClient::getLock)
+                .toArray(RLock[]::new);
+        return acquire(redissonClient.getMultiLock(locks), String.join(",", keys), waitTime, leaseTime, timeUnit);
+    }
+    
+    private RLock acquire(RLock lock, String key, long waitTime, long leaseTime, TimeUnit timeUnit) {
         try {
             boolean isLocked = lock.tryLock(waitTime, leaseTime, timeUnit);
             
@@ -40,6 +65,8 @@ public class RedissonLockService {
             
             log.debug("락 획득 성공: {}", key);
             return lock;
+        } catch (LockAcquisitionException e) {
+            throw e;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("락 획득 중 인터럽트 발생: {}", key, e);
@@ -57,7 +84,11 @@ public class RedissonLockService {
      */
     public void unlock(RLock lock, String key) {
         try {
-            if (lock != null && lock.isLocked() && lock.isHeldByCurrentThread()) {
+            if (lock instanceof RedissonMultiLock) {
+                // 멀티 락은 보유 여부 조회를 지원하지 않으므로 바로 해제
+                lock.unlock();
+                log.debug("락 해제 성공: {}", key);
+            } else if (lock != null && lock.isLocked() && lock.isHeldByCurrentThread()) {
                 lock.unlock();
                 log.debug("락 해제 성공: {}", key);
             }
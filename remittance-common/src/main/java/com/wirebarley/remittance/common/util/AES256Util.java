@@ -7,23 +7,42 @@ import org.springframework.stereotype.Component;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.UnaryOperator;
 
 /**
  * AES256 암호화/복호화 유틸리티
+ * Cipher 인스턴스는 스레드별로 재사용하고, IV 생성에는 공유 SecureRandom을 사용합니다.
  */
 @Slf4j
 @Component
 public class AES256Util {
 
-    private final SecretKey key;
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 16 * 8; // 128 bits
+    private static final int GCM_TAG_BYTES = GCM_TAG_LENGTH / 8;
+
+    /**
+     * 일괄 처리 시 ForkJoin 작업을 나누는 기준 크기
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getEncoder();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final SecretKey key;
+    private final ThreadLocal<Cipher> cipherHolder = ThreadLocal.withInitial(AES256Util::createCipher);
 
     public AES256Util(@Value("${security.encryption.key}") String configKey) {
         try {
@@ -55,22 +74,18 @@ public class AES256Util {
 
         try {
             byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom random = new SecureRandom();
-            random.nextBytes(iv);
-
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, key, parameterSpec);
+            SECURE_RANDOM.nextBytes(iv);
 
-            byte[] cipherText = cipher.doFinal(text.getBytes(StandardCharsets.UTF_8));
+            Cipher cipher = cipherHolder.get();
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
 
-            // IV와 암호문 결합
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(cipherText);
-            byte[] encrypted = byteBuffer.array();
+            // IV 뒤에 암호문을 바로 기록하여 중간 버퍼 복사를 피함
+            byte[] plainText = text.getBytes(StandardCharsets.UTF_8);
+            byte[] encrypted = new byte[GCM_IV_LENGTH + plainText.length + GCM_TAG_BYTES];
+            System.arraycopy(iv, 0, encrypted, 0, GCM_IV_LENGTH);
+            cipher.doFinal(plainText, 0, plainText.length, encrypted, GCM_IV_LENGTH);
 
-            return Base64.getEncoder().encodeToString(encrypted);
+            return ENCODER.encodeToString(encrypted);
         } catch (Exception e) {
             log.error("암호화 실패", e);
             throw new RuntimeException("암호화에 실패했습니다.", e);
@@ -88,24 +103,99 @@ public class AES256Util {
         }
 
         try {
-            byte[] decoded = Base64.getDecoder().decode(encryptedText);
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
-
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-
-            byte[] cipherText = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherText);
+            byte[] decoded = DECODER.decode(encryptedText);
+            if (decoded.length < GCM_IV_LENGTH + GCM_TAG_BYTES) {
+                throw new IllegalArgumentException("암호문 길이가 올바르지 않습니다.");
+            }
 
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, key, parameterSpec);
+            Cipher cipher = cipherHolder.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, decoded, 0, GCM_IV_LENGTH));
 
-            byte[] plainText = cipher.doFinal(cipherText);
+            byte[] plainText = cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
             return new String(plainText, StandardCharsets.UTF_8);
         } catch (Exception e) {
             log.error("복호화 실패", e);
             throw new RuntimeException("복호화에 실패했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 암호화
+     * 목록이 큰 경우 ForkJoin 풀에서 분할하여 병렬로 처리합니다.
+     * @param texts 암호화할 문자열 목록
+     * @return 입력 순서와 같은 순서의 암호문 목록
+     */
+    public List<String> encryptAll(List<String> texts) {
+        return transformAll(texts, this::encrypt);
+    }
+
+    /**
+     * 일괄 복호화
+     * 목록이 큰 경우 ForkJoin 풀에서 분할하여 병렬로 처리합니다.
+     * @param encryptedTexts 복호화할 암호문 목록
+     * @return 입력 순서와 같은 순서의 원본 문자열 목록
+     */
+    public List<String> decryptAll(List<String> encryptedTexts) {
+        return transformAll(encryptedTexts, this::decrypt);
+    }
+
+    private List<String> transformAll(List<String> values, UnaryOperator<String> transformer) {
+        if (values == null || values.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String[] results = new String[values.size()];
+        if (values.size() <= PARALLEL_THRESHOLD) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = transformer.apply(values.get(i));
+            }
+        } else {
+            ForkJoinPool.commonPool().invoke(new TransformTask(values, results, 0, results.length, transformer));
+        }
+        return Arrays.asList(results);
+    }
+
+    private static Cipher createCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            log.error("Cipher 생성 실패", e);
+            throw new IllegalStateException("Cipher 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 목록을 반으로 나누어 처리하는 ForkJoin 작업
+     */
+    private static final class TransformTask extends RecursiveAction {
+        private final List<String> values;
+        private final String[] results;
+        private final int from;
+        private final int to;
+        private final UnaryOperator<String> transformer;
+
+        private TransformTask(List<String> values, String[] results, int from, int to, UnaryOperator<String> transformer) {
+            this.values = values;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.transformer = transformer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = transformer.apply(values.get(i));
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new TransformTask(values, results, from, mid, transformer),
+                    new TransformTask(values, results, mid, to, transformer)
+            );
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.wirebarley.remittance.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 블라인드 인덱스 유틸리티
+ * 암호화된 컬럼을 동등 비교로 조회할 수 있도록 키 기반 HMAC-SHA256 해시를 생성합니다.
+ * 같은 입력은 항상 같은 해시를 만들기 때문에 유니크 인덱스로 단건 조회가 가능합니다.
+ */
+@Slf4j
+@Component
+public class BlindIndexUtil {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Pattern ACCOUNT_NUMBER_SEPARATORS = Pattern.compile("[\\s-]");
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macHolder;
+
+    public BlindIndexUtil(@Value("${security.blind-index.key}") String configKey) {
+        // 키가 제공되지 않은 경우 예외 발생 (기본값 사용 방지)
+        if (configKey == null || configKey.isEmpty()) {
+            throw new IllegalArgumentException("블라인드 인덱스 키가 설정되지 않았습니다. security.blind-index.key 속성을 설정하세요.");
+        }
+
+        this.key = new SecretKeySpec(configKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.macHolder = ThreadLocal.withInitial(this::createMac);
+        // 설정 오류를 기동 시점에 드러내기 위해 한 번 초기화
+        this.macHolder.get();
+    }
+
+    /**
+     * 블라인드 인덱스 생성
+     * @param value 원본 문자열
+     * @return 16진수로 인코딩된 HMAC-SHA256 해시 (64자)
+     */
+    public String hash(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+
+        Mac mac = macHolder.get();
+        byte[] digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    /**
+     * 계좌번호 블라인드 인덱스 생성
+     * 공백과 하이픈을 제거한 뒤 해시하여 표기만 다른 같은 계좌번호는 같은 인덱스가 됩니다.
+     * @param accountNumber 계좌번호
+     * @return 16진수로 인코딩된 HMAC-SHA256 해시 (64자)
+     */
+    public String hashAccountNumber(String accountNumber) {
+        return hash(normalizeAccountNumber(accountNumber));
+    }
+
+    /**
+     * 계좌번호 정규화 (공백, 하이픈 제거)
+     * @param accountNumber 계좌번호
+     * @return 정규화된 계좌번호
+     */
+    static String normalizeAccountNumber(String accountNumber) {
+        if (accountNumber == null) {
+            return null;
+        }
+        return ACCOUNT_NUMBER_SEPARATORS.matcher(accountNumber).replaceAll("");
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            log.error("BlindIndexUtil 초기화 실패", e);
+            throw new IllegalStateException("블라인드 인덱스 유틸리티 초기화에 실패했습니다.", e);
+        }
+    }
+}
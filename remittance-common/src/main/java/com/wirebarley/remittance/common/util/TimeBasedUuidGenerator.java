@@ -3,21 +3,75 @@ package com.wirebarley.remittance.common.util;
 
 import com.fasterxml.uuid.Generators;
 import com.fasterxml.uuid.impl.TimeBasedGenerator;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 시간 기반 UUID 생성기
+ * 기본 전략은 UUID 버전 7로, 상위 48비트에 밀리초 타임스탬프를 두어 생성 순서대로 정렬됩니다.
+ * 인덱스 끝에 순차적으로 삽입되므로 BINARY(16) 기본 키의 페이지 분할이 줄어듭니다.
+ * 전략은 시스템 속성 remittance.uuid.strategy(v7 | v1)로 선택하며, 클래스 로딩 시점에 한 번 결정됩니다.
+ * 알 수 없는 값이면 경고 로그를 남기고 기본 전략(v7)을 사용합니다.
+ */
+@Slf4j
 public final class TimeBasedUuidGenerator {
+    /**
+     * 생성 전략을 지정하는 시스템 속성 이름
+     */
+    public static final String STRATEGY_PROPERTY = "remittance.uuid.strategy";
+
+    private static final Strategy STRATEGY = Strategy.fromOrDefault(System.getProperty(STRATEGY_PROPERTY));
     private static final TimeBasedGenerator TIME_BASED_GENERATOR = Generators.timeBasedGenerator();
 
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC4122 = 0x8000000000000000L;
+
+    /**
+     * 마지막으로 발급한 (밀리초 타임스탬프 << 12 | 카운터) 값
+     */
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
     private TimeBasedUuidGenerator() {
         // 유틸리티 클래스 인스턴스화 방지
     }
 
+    /**
+     * 시간 기반 UUID 생성
+     * @return 설정된 전략(기본 버전 7)의 시간 기반 UUID
+     */
+    public static UUID generate() {
+        return STRATEGY == Strategy.V1 ? generateV1() : generateV7();
+    }
+
+    /**
+     * 시간 순서 UUID(버전 7) 생성
+     * 락 없이 CAS로 상태를 갱신하며, 같은 밀리초 안에서는 12비트 카운터를 증가시켜 단조 증가를 보장합니다.
+     * 카운터가 넘치거나 시계가 뒤로 가면 마지막 타임스탬프를 이어서 사용합니다.
+     * @return 버전 7 UUID
+     */
+    public static UUID generateV7() {
+        long state = nextState(System.currentTimeMillis());
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+
+        long mostSigBits = (timestamp << 16) | VERSION_7 | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC4122;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
     /**
      * 시간 기반 UUID(버전 1) 생성
-     * @return 시간 기반 UUID
+     * @return 버전 1 UUID
      */
-    public static synchronized UUID generate() {
+    public static UUID generateV1() {
+        // 생성기 내부에서 타이머 동기화를 처리하므로 별도의 잠금이 필요 없음
         return TIME_BASED_GENERATOR.generate();
     }
 
@@ -28,4 +82,46 @@ public final class TimeBasedUuidGenerator {
     public static UUID generateRandom() {
         return Generators.randomBasedGenerator().generate();
     }
-}
\ No newline at end of file
+
+    private static long nextState(long currentMillis) {
+        long candidate = currentMillis << COUNTER_BITS;
+        while (true) {
+            long last = LAST_STATE.get();
+            // 새 밀리초이면 카운터를 0부터, 아니면 마지막 값 + 1 (카운터 초과 시 다음 밀리초로 넘어감)
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST_STATE.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * UUID 생성 전략
+     */
+    public enum Strategy {
+        V1,
+        V7;
+
+        static Strategy from(String value) {
+            if (value == null || value.isBlank()) {
+                return V7;
+            }
+            return Strategy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+
+        /**
+         * 전략 결정 (알 수 없는 값이면 기본 전략)
+         * 정적 초기화 중에 예외가 나면 클래스를 쓸 수 없게 되므로(ExceptionInInitializerError) 예외 대신 기본값을 사용합니다.
+         * @param value 시스템 속성 값
+         * @return 생성 전략
+         */
+        static Strategy fromOrDefault(String value) {
+            try {
+                return from(value);
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 UUID 생성 전략: {}={}, 기본 전략 {}을 사용합니다.", STRATEGY_PROPERTY, value, V7);
+                return V7;
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.wirebarley.remittance.common.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LockKeyResolverTest {
+
+    @Test
+    @DisplayName("다중 락 키 정렬 테스트")
+    void resolveMultiLockKeysSorted() throws Exception {
+        // given
+        UUID first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        LockKeyResolver resolver = LockKeyResolver.compile(method("transfer", UUID.class, UUID.class));
+
+        // when
+        List<String> forward = resolver.resolve(new Object[]{first, second});
+        List<String> backward = resolver.resolve(new Object[]{second, first});
+
+        // then
+        assertEquals(List.of("account:" + first, "account:" + second), forward);
+        assertEquals(forward, backward);
+    }
+
+    @Test
+    @DisplayName("다중 락 키 중복 제거 테스트")
+    void resolveMultiLockKeysDeduplicated() throws Exception {
+        // given
+        UUID accountId = UUID.randomUUID();
+        LockKeyResolver resolver = LockKeyResolver.compile(method("transfer", UUID.class, UUID.class));
+
+        // when
+        List<String> keys = resolver.resolve(new Object[]{accountId, accountId});
+
+        // then
+        assertEquals(List.of("account:" + accountId), keys);
+    }
+
+    @Test
+    @DisplayName("프로퍼티 경로 락 키 생성 테스트")
+    void resolveNestedPropertyKey() throws Exception {
+        // given
+        UUID accountId = UUID.randomUUID();
+        LockKeyResolver resolver = LockKeyResolver.compile(method("deposit", Command.class));
+
+        // when
+        List<String> keys = resolver.resolve(new Object[]{new Command(accountId)});
+
+        // then
+        assertEquals(List.of("account:" + accountId), keys);
+    }
+
+    @Test
+    @DisplayName("단일 락 키 생성 테스트")
+    void resolveSingleLockKey() throws Exception {
+        // given
+        LockKeyResolver resolver = LockKeyResolver.compile(method("create", String.class));
+
+        // when
+        List<String> keys = resolver.resolve(new Object[]{"1234567890"});
+
+        // then
+        assertEquals(List.of("account-number:1234567890"), keys);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 프로퍼티 경로 컴파일 실패 테스트")
+    void compileWithInvalidPath() throws Exception {
+        // given
+        Method method = method("invalid", Command.class);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> LockKeyResolver.compile(method));
+    }
+
+    private Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return LockTarget.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+    public static class Command {
+        private final UUID accountId;
+
+        public Command(UUID accountId) {
+            this.accountId = accountId;
+        }
+
+        public UUID getAccountId() {
+            return accountId;
+        }
+    }
+
+    static class LockTarget {
+        @DistributedLock(key = "account", paramNames = {"source", "target"}, multiLock = true)
+        void transfer(UUID source, UUID target) {
+        }
+
+        @DistributedLock(key = "account", paramNames = {"command.accountId"}, multiLock = true)
+        void deposit(Command command) {
+        }
+
+        @DistributedLock(key = "account-number", paramNames = {"accountNumber"})
+        void create(String accountNumber) {
+        }
+
+        @DistributedLock(key = "account", paramNames = {"command.missing"})
+        void invalid(Command command) {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.wirebarley.remittance.common.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountOwnershipTest {
+    private static final String[] PEERS = {"node-a", "node-b"};
+
+    @Test
+    @DisplayName("계좌 소유 노드 판별 테스트 - 노드마다 같은 소유 노드를 계산")
+    void ownerIsConsistentAcrossNodes() {
+        // given
+        AccountOwnership nodeA = new AccountOwnership(true, "node-a", PEERS, 160);
+        AccountOwnership nodeB = new AccountOwnership(true, "node-b", PEERS, 160);
+
+        // when & then
+        for (UUID id : accounts(1_000)) {
+            assertEquals(nodeA.ownerOf(id), nodeB.ownerOf(id));
+            assertNotEquals(nodeA.isOwner(id), nodeB.isOwner(id));
+        }
+    }
+
+    @Test
+    @DisplayName("피어 목록 공백/중복/순서와 무관한 소유 노드 테스트")
+    void normalizesPeers() {
+        // given
+        AccountOwnership ownership = new AccountOwnership(true, "node-a", PEERS, 160);
+        AccountOwnership shuffled = new AccountOwnership(true, "node-a",
+                new String[]{" node-b", "node-a ", "node-b", ""}, 160);
+
+        // when & then
+        for (UUID id : accounts(1_000)) {
+            assertEquals(ownership.ownerOf(id), shuffled.ownerOf(id));
+        }
+    }
+
+    @Test
+    @DisplayName("피어 목록에 자기 자신이 없으면 기동 실패 테스트")
+    void rejectsSelfMissingFromPeers() {
+        assertThrows(IllegalStateException.class, () -> new AccountOwnership(true, "node-c", PEERS, 160));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 모든 계좌를 자기 자신이 소유 테스트")
+    void disabledOwnsEveryAccount() {
+        // given
+        AccountOwnership ownership = new AccountOwnership(false, "node-a", new String[0], 160);
+        UUID id = UUID.randomUUID();
+
+        // when & then
+        assertFalse(ownership.isEnabled());
+        assertTrue(ownership.isOwner(id));
+        assertEquals("node-a", ownership.ownerOf(id));
+    }
+
+    private static List<UUID> accounts(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.nameUUIDFromBytes(("account-" + i).getBytes()));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,65 @@
+package com.wirebarley.remittance.common.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+    private static final int ACCOUNTS = 30_000;
+
+    @Test
+    @DisplayName("계좌 소유 노드 균등 분배 테스트")
+    void distributesAccountsEvenly() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 160);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (UUID id : accounts()) {
+            counts.merge(ring.ownerOf(id), 1, Integer::sum);
+        }
+
+        // then
+        assertEquals(3, counts.size());
+        counts.values().forEach(count ->
+                assertTrue(Math.abs(count - ACCOUNTS / 3) < ACCOUNTS / 3 * 0.2, "노드별 계좌 수: " + counts));
+    }
+
+    @Test
+    @DisplayName("노드 추가 시 약 1/N 계좌만 이동 테스트")
+    void movesAboutOneNthOnNodeAddition() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 160);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"), 160);
+
+        // when
+        int moved = 0;
+        for (UUID id : accounts()) {
+            String owner = after.ownerOf(id);
+            if (!owner.equals(before.ownerOf(id))) {
+                // 이동한 계좌는 모두 새 노드로만 이동
+                assertEquals("node-d", owner);
+                moved++;
+            }
+        }
+
+        // then
+        double ratio = (double) moved / ACCOUNTS;
+        assertTrue(ratio > 0.15 && ratio < 0.35, "이동 비율: " + ratio);
+    }
+
+    private static List<UUID> accounts() {
+        List<UUID> ids = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            ids.add(UUID.nameUUIDFromBytes(("account-" + i).getBytes()));
+        }
+        return ids;
+    }
+}
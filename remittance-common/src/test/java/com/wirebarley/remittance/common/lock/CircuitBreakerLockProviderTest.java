@@ -0,0 +1,164 @@
+package com.wirebarley.remittance.common.lock;
+
+import com.wirebarley.remittance.common.error.LockAcquisitionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerLockProviderTest {
+
+    private static final List<String> KEYS = List.of("account:1");
+
+    @Mock
+    private RedissonLockProvider primary;
+
+    @Mock
+    private LockProvider fallback;
+
+    @Mock
+    private ObjectProvider<LockProvider> lockProviders;
+
+    private CircuitBreakerLockProvider circuitBreaker;
+
+    private CircuitBreakerLockProvider create(String fallbackName) {
+        when(primary.name()).thenReturn("redisson");
+        ObjectProvider<MeterRegistry> meterRegistry = new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class);
+        circuitBreaker = new CircuitBreakerLockProvider(primary, lockProviders, meterRegistry, fallbackName, 2, 60_000);
+        return circuitBreaker;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (circuitBreaker != null) {
+            circuitBreaker.destroy();
+        }
+    }
+
+    private LockAcquisitionException backendFailure() {
+        return new LockAcquisitionException("락 획득 중 예외 발생", new IllegalStateException("connection refused"));
+    }
+
+    @Test
+    @DisplayName("연속 백엔드 오류 시 서킷 열림 및 즉시 실패 테스트")
+    void opensAfterConsecutiveFailuresAndFailsFast() {
+        // given
+        CircuitBreakerLockProvider provider = create("none");
+        when(primary.acquire(anyList(), anyLong(), anyLong(), any())).thenThrow(backendFailure());
+
+        // when
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+
+        // then
+        assertEquals(CircuitBreakerLockProvider.State.OPEN, provider.getState());
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+        verify(primary, times(2)).acquire(anyList(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("경합으로 인한 대기 시간 초과는 서킷에 반영하지 않음 테스트")
+    void contentionTimeoutDoesNotOpen() {
+        // given
+        CircuitBreakerLockProvider provider = create("none");
+        when(primary.acquire(anyList(), anyLong(), anyLong(), any()))
+                .thenThrow(new LockAcquisitionException("락 획득에 실패했습니다"));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+        }
+
+        // then
+        assertEquals(CircuitBreakerLockProvider.State.CLOSED, provider.getState());
+    }
+
+    @Test
+    @DisplayName("서킷 열림 시 대체 백엔드 사용 테스트")
+    void usesFallbackWhileOpen() {
+        // given
+        CircuitBreakerLockProvider provider = create("database");
+        when(fallback.name()).thenReturn("database");
+        when(lockProviders.stream()).thenAnswer(invocation -> Stream.of(primary, fallback));
+        LockHandle handle = () -> { };
+        when(fallback.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS)).thenReturn(handle);
+        when(primary.acquire(anyList(), anyLong(), anyLong(), any())).thenThrow(backendFailure());
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+
+        // when
+        LockHandle result = provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS);
+
+        // then
+        assertSame(handle, result);
+        assertEquals("database", provider.name());
+        assertTrue(provider.hasFallback());
+    }
+
+    @Test
+    @DisplayName("서킷 상태에 따라 실제 사용 중인 백엔드의 분산 락 여부 반환 테스트")
+    void reportsActiveBackendDistributed() {
+        // given: JVM 내부 락 대체 백엔드
+        CircuitBreakerLockProvider provider = create("in-memory");
+        when(primary.distributed()).thenReturn(true);
+        when(fallback.name()).thenReturn("in-memory");
+        when(fallback.distributed()).thenReturn(false);
+        when(lockProviders.stream()).thenAnswer(invocation -> Stream.of(primary, fallback));
+        when(primary.acquire(anyList(), anyLong(), anyLong(), any()))
+                .thenThrow(backendFailure())
+                .thenThrow(backendFailure())
+                .thenReturn(() -> { });
+        assertTrue(provider.distributed());
+
+        // when: 서킷 열림
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+
+        // then
+        assertEquals(CircuitBreakerLockProvider.State.OPEN, provider.getState());
+        assertFalse(provider.distributed());
+
+        // when: 회복
+        provider.probe();
+
+        // then
+        assertEquals(CircuitBreakerLockProvider.State.CLOSED, provider.getState());
+        assertTrue(provider.distributed());
+    }
+
+    @Test
+    @DisplayName("프로브 성공 시 서킷 닫힘 테스트")
+    void probeClosesCircuit() {
+        // given
+        CircuitBreakerLockProvider provider = create("none");
+        when(primary.acquire(anyList(), anyLong(), anyLong(), any()))
+                .thenThrow(backendFailure())
+                .thenThrow(backendFailure())
+                .thenReturn(() -> { });
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+        assertThrows(LockAcquisitionException.class, () -> provider.acquire(KEYS, 100, 1000, TimeUnit.MILLISECONDS));
+        assertEquals(CircuitBreakerLockProvider.State.OPEN, provider.getState());
+
+        // when
+        provider.probe();
+
+        // then
+        assertEquals(CircuitBreakerLockProvider.State.CLOSED, provider.getState());
+        verify(primary).acquire(eq(List.of(CircuitBreakerLockProvider.PROBE_KEY)), eq(0L), anyLong(), any());
+    }
+}
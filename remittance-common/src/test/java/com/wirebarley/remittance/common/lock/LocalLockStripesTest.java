@@ -0,0 +1,66 @@
+package com.wirebarley.remittance.common.lock;
+
+import com.wirebarley.remittance.common.error.LockAcquisitionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalLockStripesTest {
+
+    @Test
+    @DisplayName("같은 키 로컬 락 배제 테스트")
+    void sameKeyExcludesOtherThreads() throws Exception {
+        // given
+        LocalLockStripes stripes = new LocalLockStripes(true, 16);
+        List<ReentrantLock> held = stripes.acquire(List.of("account:1"), 1, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<Throwable> other = CompletableFuture.supplyAsync(() -> {
+            try {
+                stripes.acquire(List.of("account:1"), 50, TimeUnit.MILLISECONDS);
+                return null;
+            } catch (Throwable e) {
+                return e;
+            }
+        });
+
+        // then
+        assertInstanceOf(LockAcquisitionException.class, other.get(5, TimeUnit.SECONDS));
+        stripes.release(held);
+    }
+
+    @Test
+    @DisplayName("해제 후 로컬 락 재획득 테스트")
+    void acquireAfterRelease() throws Exception {
+        // given
+        LocalLockStripes stripes = new LocalLockStripes(true, 16);
+        stripes.release(stripes.acquire(List.of("account:1", "account:2"), 1, TimeUnit.SECONDS));
+
+        // when
+        List<ReentrantLock> acquired = CompletableFuture
+                .supplyAsync(() -> stripes.acquire(List.of("account:2", "account:1"), 1, TimeUnit.SECONDS))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertFalse(acquired.isEmpty());
+    }
+
+    @Test
+    @DisplayName("로컬 락 비활성화 테스트")
+    void disabled() {
+        // given
+        LocalLockStripes stripes = new LocalLockStripes(false, 16);
+
+        // when
+        List<ReentrantLock> acquired = stripes.acquire(List.of("account:1"), 1, TimeUnit.SECONDS);
+
+        // then
+        assertTrue(acquired.isEmpty());
+    }
+}
@@ -0,0 +1,59 @@
+package com.wirebarley.remittance.common.lock;
+
+import com.wirebarley.remittance.common.error.LockAcquisitionException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockMetricsTest {
+
+    @Test
+    @DisplayName("락 대기/보유 시간 키 접두사 태그 기록 테스트")
+    void recordsTimersByKeyPrefix() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LockMetrics metrics = new LockMetrics(registry);
+
+        // when
+        metrics.recordWait("redisson", "account", "transfer", TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordWait("redisson", "account", "transfer", TimeUnit.MILLISECONDS.toNanos(7));
+        metrics.recordHold("redisson", "account", "deposit", TimeUnit.MILLISECONDS.toNanos(3));
+
+        // then
+        Timer wait = registry.get(LockMetrics.WAIT)
+                .tags("tier", "redisson", "key", "account", "operation", "transfer")
+                .timer();
+        assertEquals(2, wait.count());
+        assertEquals(12, wait.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get(LockMetrics.HOLD).tag("operation", "deposit").timer().count());
+    }
+
+    @Test
+    @DisplayName("락 획득 실패 원인별 카운터 테스트")
+    void countsFailuresByReason() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LockMetrics metrics = new LockMetrics(registry);
+
+        // when
+        metrics.recordFailure("local", "account", "withdraw", new LockAcquisitionException("timeout"));
+        metrics.recordFailure("local", "account", "withdraw", new LockAcquisitionException("timeout"));
+        metrics.recordFailure("redisson", "account", "withdraw",
+                new LockAcquisitionException("interrupted", new InterruptedException()));
+        metrics.recordFailure("redisson", "account", "withdraw",
+                new LockAcquisitionException("error", new IllegalStateException()));
+
+        // then
+        assertEquals(2, registry.get(LockMetrics.FAILURES)
+                .tags("tier", "local", "reason", LockMetrics.REASON_TIMEOUT).counter().count());
+        assertEquals(1, registry.get(LockMetrics.FAILURES)
+                .tags("tier", "redisson", "reason", LockMetrics.REASON_INTERRUPTED).counter().count());
+        assertEquals(1, registry.get(LockMetrics.FAILURES)
+                .tags("tier", "redisson", "reason", LockMetrics.REASON_ERROR).counter().count());
+    }
+}
@@ -0,0 +1,112 @@
+package com.wirebarley.remittance.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockPolicyRegistryTest {
+
+    private LockPolicyRegistry registry(boolean watchdogLease) {
+        return new LockPolicyRegistry(true, 4, 200, 100, true, watchdogLease, 60);
+    }
+
+    private void recordHolds(LockPolicyRegistry registry, String operation, long millis, int count) {
+        for (int i = 0; i < count; i++) {
+            registry.recordHold(operation, TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+
+    @Test
+    @DisplayName("관측 수 부족 시 어노테이션 대기 시간 사용 테스트")
+    void usesAnnotationWaitUntilEnoughSamples() {
+        // given
+        LockPolicyRegistry registry = registry(false);
+        recordHolds(registry, "deposit", 50, 10);
+
+        // when
+        LockPolicyRegistry.LockPlan plan = registry.plan("deposit", 5_000, 10_000, 3);
+
+        // then
+        assertEquals(5_000, plan.waitMillis());
+        assertEquals(10_000, plan.leaseMillis());
+        assertFalse(plan.rejected());
+    }
+
+    @Test
+    @DisplayName("p99 보유 시간 기반 대기 시간 테스트")
+    void waitFollowsObservedP99() {
+        // given
+        LockPolicyRegistry registry = registry(true);
+        recordHolds(registry, "transfer", 100, 200);
+
+        // when
+        LockPolicyRegistry.LockPlan plan = registry.plan("transfer", 10_000, 15_000, 0);
+
+        // then: p99 약 100ms(버킷 상한 오차 25% 이내) x 4
+        assertTrue(plan.waitMillis() >= 400 && plan.waitMillis() <= 500, "waitMillis=" + plan.waitMillis());
+        assertEquals(LockPolicyRegistry.WATCHDOG_LEASE, plan.leaseMillis());
+        assertFalse(plan.rejected());
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간 초과 시 조기 거절 테스트")
+    void rejectsWhenQueueExceedsBudget() {
+        // given
+        LockPolicyRegistry registry = registry(true);
+        recordHolds(registry, "withdraw", 100, 200);
+
+        // when
+        LockPolicyRegistry.LockPlan accepted = registry.plan("withdraw", 5_000, 10_000, 2);
+        LockPolicyRegistry.LockPlan rejected = registry.plan("withdraw", 5_000, 10_000, 10);
+
+        // then
+        assertFalse(accepted.rejected());
+        assertTrue(rejected.rejected());
+        assertTrue(rejected.expectedWaitMillis() > rejected.waitMillis());
+    }
+
+    @Test
+    @DisplayName("메서드별 정책 변경 및 초기화 테스트")
+    void updateAndResetPolicy() {
+        // given
+        LockPolicyRegistry registry = registry(true);
+        recordHolds(registry, "withdraw", 100, 200);
+        LockPolicy fixed = registry.getDefaultPolicy().toBuilder()
+                .adaptive(false)
+                .watchdogLease(false)
+                .build();
+
+        // when
+        registry.updatePolicy("withdraw", fixed);
+        LockPolicyRegistry.LockPlan overridden = registry.plan("withdraw", 5_000, 10_000, 10);
+        registry.resetPolicy("withdraw");
+        LockPolicyRegistry.LockPlan reset = registry.plan("withdraw", 5_000, 10_000, 10);
+
+        // then
+        assertEquals(5_000, overridden.waitMillis());
+        assertEquals(10_000, overridden.leaseMillis());
+        assertFalse(overridden.rejected());
+        assertTrue(reset.rejected());
+    }
+
+    @Test
+    @DisplayName("잘못된 정책 거부 테스트")
+    void rejectsInvalidPolicy() {
+        LockPolicyRegistry registry = registry(true);
+        LockPolicy invalid = registry.getDefaultPolicy().toBuilder().holdMultiplier(0).build();
+
+        assertThrows(IllegalArgumentException.class, () -> registry.updateDefaultPolicy(invalid));
+    }
+
+    @Test
+    @DisplayName("보유 시간 버킷 경계 테스트")
+    void histogramBucketBounds() {
+        for (long micros = 1; micros < 1_000_000; micros = micros * 3 / 2 + 1) {
+            long upper = HoldTimeHistogram.upperBoundOf(HoldTimeHistogram.indexOf(micros));
+            assertTrue(upper >= micros && upper <= micros * 1.25 + 1, "micros=" + micros + ", upper=" + upper);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.wirebarley.remittance.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockRegistryTest {
+
+    @Test
+    @DisplayName("보유 락과 대기 요청 스냅샷 테스트")
+    void snapshotShowsHeldLocksWithWaiters() {
+        // given
+        LockRegistry registry = new LockRegistry(60, 1);
+        LockRegistry.Entry holder = registry.register(List.of("account:1", "account:2"), "transfer");
+        registry.acquired(holder, 0);
+        registry.register(List.of("account:2"), "deposit");
+        registry.register(List.of("account:3"), "withdraw");
+
+        // when
+        LockSnapshot snapshot = registry.snapshot(10);
+
+        // then
+        assertEquals(1, snapshot.getHeldLocks().size());
+        LockSnapshot.HeldLock held = snapshot.getHeldLocks().get(0);
+        assertEquals("transfer", held.getMethod());
+        assertEquals(Thread.currentThread().getName(), held.getHolderThread());
+        assertEquals(1, held.getWaiters());
+    }
+
+    @Test
+    @DisplayName("해제된 락 스냅샷 제외 테스트")
+    void deregisteredEntryIsRemoved() {
+        // given
+        LockRegistry registry = new LockRegistry(60, 1);
+        LockRegistry.Entry entry = registry.register(List.of("account:1"), "deposit");
+        registry.acquired(entry, 0);
+
+        // when
+        registry.deregister(entry);
+
+        // then
+        assertTrue(registry.snapshot(10).getHeldLocks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("경합 상위 키 집계 테스트")
+    void topContendedKeys() {
+        // given
+        LockRegistry registry = new LockRegistry(60, 1);
+        long contended = TimeUnit.MILLISECONDS.toNanos(5);
+        for (int i = 0; i < 3; i++) {
+            registry.acquired(registry.register(List.of("account:1"), "deposit"), contended);
+        }
+        registry.failed(registry.register(List.of("account:2"), "withdraw"));
+        registry.acquired(registry.register(List.of("account:3"), "withdraw"), 0);
+
+        // when
+        List<LockSnapshot.ContendedKey> top = registry.snapshot(1).getTopContendedKeys();
+
+        // then
+        assertEquals(1, top.size());
+        assertEquals("account:1", top.get(0).getKey());
+        assertEquals(3, top.get(0).getContentions());
+        assertEquals(2, registry.snapshot(10).getTopContendedKeys().size());
+    }
+}
@@ -0,0 +1,135 @@
+package com.wirebarley.remittance.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AES256UtilTest {
+
+    private static final String KEY = "wirebarleySecretKey1234567890wirebarleySecretKey1234";
+
+    private final AES256Util aes256Util = new AES256Util(KEY);
+
+    @Test
+    @DisplayName("암호화/복호화 왕복 테스트")
+    void roundTrip() {
+        // when
+        String encrypted = aes256Util.encrypt("1234567890");
+
+        // then
+        assertNotEquals("1234567890", encrypted);
+        assertEquals("1234567890", aes256Util.decrypt(encrypted));
+    }
+
+    @Test
+    @DisplayName("같은 평문도 IV가 달라 매번 다른 암호문 테스트")
+    void encryptUsesFreshIv() {
+        // when
+        String first = aes256Util.encrypt("1234567890");
+        String second = aes256Util.encrypt("1234567890");
+
+        // then
+        assertNotEquals(first, second);
+        assertEquals(aes256Util.decrypt(first), aes256Util.decrypt(second));
+    }
+
+    @Test
+    @DisplayName("일괄 암호화/복호화 테스트 - 병렬 처리 기준 이하")
+    void encryptAllBelowThreshold() {
+        assertBatchRoundTrip(100);
+    }
+
+    @Test
+    @DisplayName("일괄 암호화/복호화 테스트 - 병렬 처리 기준 초과 (입력 순서 유지)")
+    void encryptAllAboveThreshold() {
+        assertBatchRoundTrip(1_000);
+    }
+
+    @Test
+    @DisplayName("다중 스레드 동시 암호화/복호화 테스트")
+    void concurrentRoundTrip() throws Exception {
+        // given
+        int threadCount = 16;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int thread = t;
+            tasks.add(() -> {
+                int verified = 0;
+                for (int i = 0; i < perThread; i++) {
+                    String plainText = "account-" + thread + "-" + i;
+                    if (plainText.equals(aes256Util.decrypt(aes256Util.encrypt(plainText)))) {
+                        verified++;
+                    }
+                }
+                return verified;
+            });
+        }
+
+        // when
+        int total = 0;
+        try {
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                total += future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertEquals(threadCount * perThread, total);
+    }
+
+    @Test
+    @DisplayName("변조된 암호문 복호화 실패 테스트 - GCM 인증 태그 검증")
+    void decryptRejectsTamperedCiphertext() {
+        // given: 인증 태그 마지막 바이트 변조
+        byte[] bytes = Base64.getDecoder().decode(aes256Util.encrypt("1234567890"));
+        bytes[bytes.length - 1] ^= 0x01;
+        String tampered = Base64.getEncoder().encodeToString(bytes);
+
+        // when & then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> aes256Util.decrypt(tampered));
+        assertInstanceOf(AEADBadTagException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("다른 키로 복호화 실패 테스트")
+    void decryptRejectsOtherKey() {
+        // given
+        String encrypted = aes256Util.encrypt("1234567890");
+        AES256Util otherKeyUtil = new AES256Util("anotherSecretKey1234567890anotherSecretKey12345678");
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> otherKeyUtil.decrypt(encrypted));
+    }
+
+    private void assertBatchRoundTrip(int size) {
+        // given
+        List<String> plainTexts = IntStream.range(0, size)
+                .mapToObj(i -> String.format("%010d", i))
+                .collect(Collectors.toList());
+
+        // when
+        List<String> encrypted = aes256Util.encryptAll(plainTexts);
+        List<String> decrypted = aes256Util.decryptAll(encrypted);
+
+        // then
+        assertEquals(size, encrypted.size());
+        assertEquals(size, encrypted.stream().distinct().count());
+        assertEquals(plainTexts, decrypted);
+    }
+}
@@ -0,0 +1,67 @@
+package com.wirebarley.remittance.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlindIndexUtilTest {
+
+    private static final String KEY = "testBlindIndexKey1234567890testBlindIndexKey";
+
+    private final BlindIndexUtil blindIndexUtil = new BlindIndexUtil(KEY);
+
+    @Test
+    @DisplayName("같은 입력은 항상 같은 해시 테스트")
+    void deterministic() {
+        // when
+        String first = blindIndexUtil.hash("1234567890");
+        String second = new BlindIndexUtil(KEY).hash("1234567890");
+
+        // then
+        assertEquals(first, second);
+        assertEquals(64, first.length());
+        assertTrue(first.matches("[0-9a-f]{64}"));
+        assertNotEquals(first, blindIndexUtil.hash("1234567891"));
+    }
+
+    @Test
+    @DisplayName("키가 다르면 다른 해시 테스트")
+    void separatesKeys() {
+        // given
+        BlindIndexUtil otherKeyUtil = new BlindIndexUtil("anotherBlindIndexKey1234567890anotherBlindIndexKey");
+
+        // when & then
+        assertNotEquals(blindIndexUtil.hash("1234567890"), otherKeyUtil.hash("1234567890"));
+        assertNotEquals(blindIndexUtil.hashAccountNumber("1234567890"), otherKeyUtil.hashAccountNumber("1234567890"));
+    }
+
+    @Test
+    @DisplayName("계좌번호 표기(공백, 하이픈)와 무관한 해시 테스트")
+    void normalizesAccountNumber() {
+        // given
+        String expected = blindIndexUtil.hashAccountNumber("1234567890");
+
+        // when & then
+        assertEquals(expected, blindIndexUtil.hashAccountNumber("123-456-7890"));
+        assertEquals(expected, blindIndexUtil.hashAccountNumber(" 123 4567 890 "));
+        assertEquals(expected, blindIndexUtil.hash("1234567890"));
+        assertNotEquals(expected, blindIndexUtil.hashAccountNumber("123-456-7891"));
+        assertEquals("1234567890", BlindIndexUtil.normalizeAccountNumber("123-456\t7890"));
+    }
+
+    @Test
+    @DisplayName("빈 입력은 해시하지 않음 테스트")
+    void passesThroughEmptyInput() {
+        assertNull(blindIndexUtil.hash(null));
+        assertEquals("", blindIndexUtil.hash(""));
+        assertNull(blindIndexUtil.hashAccountNumber(null));
+    }
+
+    @Test
+    @DisplayName("키 미설정 시 생성 실패 테스트")
+    void rejectsMissingKey() {
+        assertThrows(IllegalArgumentException.class, () -> new BlindIndexUtil(""));
+        assertThrows(IllegalArgumentException.class, () -> new BlindIndexUtil(null));
+    }
+}
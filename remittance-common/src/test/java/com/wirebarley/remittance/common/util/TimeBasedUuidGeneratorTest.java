@@ -0,0 +1,96 @@
+package com.wirebarley.remittance.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeBasedUuidGeneratorTest {
+
+    @Test
+    @DisplayName("UUID 버전 7 형식 테스트")
+    void generateV7Format() {
+        // when
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeBasedUuidGenerator.generateV7();
+
+        // then
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue((uuid.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    @DisplayName("UUID 버전 7 단조 증가 테스트")
+    void generateV7Monotonic() {
+        // given
+        UUID previous = TimeBasedUuidGenerator.generateV7();
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = TimeBasedUuidGenerator.generateV7();
+            // 상위 64비트(타임스탬프 + 카운터)는 부호 없는 값으로 항상 증가
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("UUID 버전 7 동시 생성 중복 없음 테스트")
+    void generateV7Concurrently() throws Exception {
+        // given
+        int threadCount = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Callable<List<UUID>>> tasks = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            tasks.add(() -> {
+                List<UUID> uuids = new ArrayList<>(perThread);
+                for (int j = 0; j < perThread; j++) {
+                    uuids.add(TimeBasedUuidGenerator.generateV7());
+                }
+                return uuids;
+            });
+        }
+
+        // when
+        Set<UUID> unique = new HashSet<>();
+        try {
+            for (Future<List<UUID>> future : executor.invokeAll(tasks)) {
+                unique.addAll(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertEquals(threadCount * perThread, unique.size());
+    }
+
+    @Test
+    @DisplayName("UUID 생성 전략 파싱 테스트")
+    void strategyFrom() {
+        assertEquals(TimeBasedUuidGenerator.Strategy.V7, TimeBasedUuidGenerator.Strategy.from(null));
+        assertEquals(TimeBasedUuidGenerator.Strategy.V7, TimeBasedUuidGenerator.Strategy.from(" "));
+        assertEquals(TimeBasedUuidGenerator.Strategy.V1, TimeBasedUuidGenerator.Strategy.from("v1"));
+        assertThrows(IllegalArgumentException.class, () -> TimeBasedUuidGenerator.Strategy.from("v4"));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 UUID 생성 전략은 기본 전략으로 대체 테스트")
+    void strategyFromOrDefault() {
+        assertEquals(TimeBasedUuidGenerator.Strategy.V7, TimeBasedUuidGenerator.Strategy.fromOrDefault("v4"));
+        assertEquals(TimeBasedUuidGenerator.Strategy.V7, TimeBasedUuidGenerator.Strategy.fromOrDefault(null));
+        assertEquals(TimeBasedUuidGenerator.Strategy.V1, TimeBasedUuidGenerator.Strategy.fromOrDefault("V1"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.wirebarley.remittance.domain.account;
 
+import com.wirebarley.remittance.common.util.MaskUtil;
 import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -18,21 +19,33 @@ import java.util.UUID;
 public class Account {
     private UUID id;
     private String accountNumber;
+    private String maskedAccountNumber;
     private String accountName;
     private BigDecimal balance;
     private AccountStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    /**
+     * 낙관적 잠금 버전 (저장 전 신규 계좌는 null)
+     */
+    private Long version;
 
+    /**
+     * 계좌 생성
+     */
     @Builder
-    public Account(UUID id, String accountNumber, String accountName, BigDecimal balance, AccountStatus status) {
+    public Account(UUID id, String accountNumber, String maskedAccountNumber, String accountName,
+                   BigDecimal balance, AccountStatus status, Long version) {
         this.id = id != null ? id : TimeBasedUuidGenerator.generate();
         this.accountNumber = accountNumber;
+        this.maskedAccountNumber = maskedAccountNumber != null
+                ? maskedAccountNumber : MaskUtil.maskAccountNumber(accountNumber);
         this.accountName = accountName;
         this.balance = balance != null ? balance : BigDecimal.ZERO;
         this.status = status != null ? status : AccountStatus.ACTIVE;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        this.version = version;
     }
 
     /**
@@ -75,9 +88,10 @@ public class Account {
 
     /**
      * 금액 검증
+     * 계좌를 조회하지 않고 잔액을 직접 갱신하는 경우에도 같은 규칙을 적용하기 위해 공개합니다.
      * @param amount 검증할 금액
      */
-    private void validateAmount(BigDecimal amount) {
+    public static void validateAmount(BigDecimal amount) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
         }
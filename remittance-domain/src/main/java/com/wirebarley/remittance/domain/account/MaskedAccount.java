@@ -0,0 +1,35 @@
+package com.wirebarley.remittance.domain.account;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 마스킹 전용 계좌 조회 모델
+ * 계좌번호를 복호화하지 않는 조회 결과로, 평문 계좌번호가 없어 입출금/저장 등 계좌 변경에는 사용할 수 없습니다.
+ */
+@Getter
+public class MaskedAccount {
+    private final UUID id;
+    private final String maskedAccountNumber;
+    private final String accountName;
+    private final BigDecimal balance;
+    private final AccountStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    @Builder
+    public MaskedAccount(UUID id, String maskedAccountNumber, String accountName, BigDecimal balance,
+                         AccountStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.maskedAccountNumber = maskedAccountNumber;
+        this.accountName = accountName;
+        this.balance = balance;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,10 +1,14 @@
 package com.wirebarley.remittance.domain.account.port;
 
 import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.MaskedAccount;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * 계좌 리포지토리 포트 인터페이스
@@ -12,12 +16,38 @@ import java.util.UUID;
  */
 public interface AccountPort {
     /**
-     * 계좌 저장
-     * @param account 저장할 계좌
+     * 신규 계좌 저장
+     * 존재 여부를 확인하지 않고 바로 INSERT 합니다.
+     * @param account 저장할 신규 계좌
+     * @return 저장된 계좌
+     */
+    Account create(Account account);
+    
+    /**
+     * 기존 계좌 변경 저장
+     * @param account 변경된 계좌
      * @return 저장된 계좌
      */
     Account save(Account account);
     
+    /**
+     * 잔액 증가 (조건부 단일 UPDATE)
+     * 활성 상태인 계좌에만 적용되며, 계좌를 먼저 조회하지 않습니다.
+     * @param id 계좌 ID
+     * @param amount 증가할 금액
+     * @return 갱신 여부 (계좌가 없거나 비활성 상태이면 false)
+     */
+    boolean increaseBalance(UUID id, BigDecimal amount);
+    
+    /**
+     * 잔액 감소 (조건부 단일 UPDATE)
+     * 활성 상태이고 잔액이 충분한 계좌에만 적용되며, 계좌를 먼저 조회하지 않습니다.
+     * @param id 계좌 ID
+     * @param amount 감소할 금액
+     * @return 갱신 여부 (계좌가 없거나 비활성 상태이거나 잔액이 부족하면 false)
+     */
+    boolean decreaseBalance(UUID id, BigDecimal amount);
+    
     /**
      * ID로 계좌 조회
      * @param id 계좌 ID
@@ -25,6 +55,22 @@ public interface AccountPort {
      */
     Optional<Account> findById(UUID id);
     
+    /**
+     * ID 목록으로 계좌 일괄 조회
+     * 한 번의 IN 쿼리로 조회하며, 존재하지 않는 ID는 결과에서 제외됩니다.
+     * @param ids 계좌 ID 목록
+     * @return 계좌 목록 (순서 보장 없음)
+     */
+    List<Account> findAllByIds(Collection<UUID> ids);
+    
+    /**
+     * ID 목록으로 계좌 일괄 조회 (마스킹 전용)
+     * 계좌번호를 복호화하지 않고 평문 계좌번호가 없는 조회 모델로 반환합니다.
+     * @param ids 계좌 ID 목록
+     * @return 마스킹 전용 계좌 목록 (순서 보장 없음)
+     */
+    List<MaskedAccount> findAllMaskedByIds(Collection<UUID> ids);
+    
     /**
      * 계좌번호로 계좌 조회
      * @param accountNumber 계좌번호
@@ -32,6 +78,13 @@ public interface AccountPort {
      */
     Optional<Account> findByAccountNumber(String accountNumber);
     
+    /**
+     * 계좌번호 존재 여부 확인
+     * @param accountNumber 계좌번호
+     * @return 존재 여부
+     */
+    boolean existsByAccountNumber(String accountNumber);
+    
     /**
      * 마스킹된 계좌번호로 계좌 조회
      * @param maskedAccountNumber 마스킹된 계좌번호 패턴
@@ -45,6 +98,28 @@ public interface AccountPort {
      */
     List<Account> findAll();
     
+    /**
+     * 모든 계좌 조회 (마스킹 전용)
+     * 계좌번호를 복호화하지 않고 평문 계좌번호가 없는 조회 모델로 반환합니다.
+     * @return 마스킹 전용 계좌 목록
+     */
+    List<MaskedAccount> findAllMasked();
+    
+    /**
+     * 모든 계좌 스트리밍 조회
+     * 전체를 메모리에 올리지 않고 커서로 한 건씩 읽습니다.
+     * 반환된 스트림은 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+     * @return 계좌 스트림
+     */
+    Stream<Account> streamAll();
+    
+    /**
+     * 모든 계좌 스트리밍 조회 (마스킹 전용)
+     * 계좌번호를 복호화하지 않으며, 반환된 스트림은 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+     * @return 마스킹 전용 계좌 스트림
+     */
+    Stream<MaskedAccount> streamAllMasked();
+    
     /**
      * 계좌 삭제
      * @param id 삭제할 계좌 ID
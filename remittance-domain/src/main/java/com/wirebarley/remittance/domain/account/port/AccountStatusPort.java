@@ -0,0 +1,20 @@
+package com.wirebarley.remittance.domain.account.port;
+
+import com.wirebarley.remittance.domain.account.AccountStatus;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 계좌 상태 조회 포트
+ * 락 획득 전 사전 검증용으로, 캐시된 값을 반환할 수 있어 최신 상태를 보장하지 않습니다.
+ * 최종 판단은 락을 잡은 뒤 계좌를 다시 조회하여 수행해야 합니다.
+ */
+public interface AccountStatusPort {
+    /**
+     * 계좌 상태 조회
+     * @param id 계좌 ID
+     * @return 계좌 상태 (계좌가 없으면 empty)
+     */
+    Optional<AccountStatus> findStatusById(UUID id);
+}
@@ -0,0 +1,48 @@
+package com.wirebarley.remittance.domain.idempotency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 멱등성 키 기록
+ * 같은 키로 재전송된 요청에 최초 처리 결과를 그대로 돌려주기 위해 요청 지문과 결과를 보관합니다.
+ * 결과가 없으면 최초 요청이 아직 처리 중인 상태입니다.
+ */
+@Getter
+public class IdempotencyRecord {
+    private final String key;
+    /**
+     * 요청 지문 (작업 이름과 요청 값의 해시)
+     */
+    private final String fingerprint;
+    private final UUID resultId;
+    private final LocalDateTime expiresAt;
+
+    @Builder
+    public IdempotencyRecord(String key, String fingerprint, UUID resultId, LocalDateTime expiresAt) {
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.resultId = resultId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return resultId != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    /**
+     * 같은 요청에 대한 기록인지 여부
+     * @param fingerprint 요청 지문
+     * @return 지문이 같으면 true
+     */
+    public boolean matches(String fingerprint) {
+        return this.fingerprint.equals(fingerprint);
+    }
+}
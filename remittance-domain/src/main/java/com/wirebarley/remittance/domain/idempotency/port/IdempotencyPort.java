@@ -0,0 +1,67 @@
+package com.wirebarley.remittance.domain.idempotency.port;
+
+import com.wirebarley.remittance.domain.idempotency.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 멱등성 키 저장소 포트
+ * 여러 노드가 공유하는 저장소로, 키 선점은 저장소의 유일성 제약으로 한 요청만 성공합니다.
+ */
+public interface IdempotencyPort {
+    /**
+     * 키 기록 조회
+     * @param key 멱등성 키
+     * @return 기록 Optional
+     */
+    Optional<IdempotencyRecord> findByKey(String key);
+
+    /**
+     * 키 선점 (처리 중 상태로 저장)
+     * 별도 트랜잭션으로 바로 반영되므로 진행 중인 트랜잭션 안에서 호출하면 안 됩니다.
+     * @param key 멱등성 키
+     * @param fingerprint 요청 지문
+     * @param expiresAt 만료 시각
+     * @return 선점 여부 (이미 같은 키가 있으면 false)
+     */
+    boolean claim(String key, String fingerprint, LocalDateTime expiresAt);
+
+    /**
+     * 처리 결과 기록
+     * 선점한 요청의 지문과 만료 시각이 그대로인 처리 중 기록에만 반영되므로,
+     * 선점이 만료되어 다른 요청이 다시 선점한 키에는 기록되지 않습니다.
+     * @param key 멱등성 키
+     * @param fingerprint 선점한 요청 지문
+     * @param expiresAt 선점 시 만료 시각
+     * @param resultId 처리 결과 ID
+     * @return 기록 여부 (선점을 잃었으면 false)
+     */
+    boolean complete(String key, String fingerprint, LocalDateTime expiresAt, UUID resultId);
+
+    /**
+     * 선점한 키 기록 삭제 (처리 실패 시)
+     * 선점한 요청의 지문과 만료 시각이 그대로인 처리 중 기록만 삭제합니다.
+     * @param key 멱등성 키
+     * @param fingerprint 선점한 요청 지문
+     * @param expiresAt 선점 시 만료 시각
+     */
+    void release(String key, String fingerprint, LocalDateTime expiresAt);
+
+    /**
+     * 만료된 키 기록 삭제
+     * 기준 시각에 만료된 기록만 삭제하므로, 다른 노드가 먼저 삭제하고 다시 선점한 기록은 남습니다.
+     * @param key 멱등성 키
+     * @param now 기준 시각
+     * @return 삭제 여부
+     */
+    boolean releaseExpired(String key, LocalDateTime now);
+
+    /**
+     * 만료된 키 기록 일괄 삭제
+     * @param now 기준 시각
+     * @return 삭제 건수
+     */
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,46 @@
+package com.wirebarley.remittance.domain.ledger;
+
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 계좌 잔액 체크포인트 도메인 엔티티
+ * asOf 시각까지(포함) 기록된 분개의 합을 저장하여, 특정 시각의 잔액을 체크포인트 이후 분개만으로 계산할 수 있게 합니다.
+ * 원장과 마찬가지로 한 번 기록된 체크포인트는 수정하지 않습니다.
+ */
+@Getter
+public class BalanceCheckpoint {
+    private final UUID id;
+    private final UUID accountId;
+    private final BigDecimal balance;
+    private final LocalDateTime asOf;
+    private final LocalDateTime createdAt;
+
+    @Builder
+    public BalanceCheckpoint(UUID id, UUID accountId, BigDecimal balance, LocalDateTime asOf, LocalDateTime createdAt) {
+        this.id = id != null ? id : TimeBasedUuidGenerator.generate();
+        this.accountId = accountId;
+        this.balance = balance;
+        this.asOf = asOf;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+    }
+
+    /**
+     * 이 체크포인트 이후의 분개 합을 반영한 다음 체크포인트 생성
+     * @param movement asOf 이후 새 시각까지의 분개 합 (대변 - 차변)
+     * @param nextAsOf 새 체크포인트 기준 시각
+     * @return 새 체크포인트
+     */
+    public BalanceCheckpoint advance(BigDecimal movement, LocalDateTime nextAsOf) {
+        return BalanceCheckpoint.builder()
+                .accountId(accountId)
+                .balance(balance.add(movement))
+                .asOf(nextAsOf)
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.wirebarley.remittance.domain.ledger;
+
+/**
+ * 원장 분개 방향 열거형
+ */
+public enum EntryDirection {
+    DEBIT,  // 차변 (계좌 잔액 감소)
+    CREDIT  // 대변 (계좌 잔액 증가)
+}
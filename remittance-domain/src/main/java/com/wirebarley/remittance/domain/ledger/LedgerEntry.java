@@ -0,0 +1,104 @@
+package com.wirebarley.remittance.domain.ledger;
+
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 원장 분개 도메인 엔티티
+ * 한 번의 자금 이동은 금액이 같은 차변/대변 분개 한 쌍으로 기록되며, 기록된 분개는 수정하거나 삭제하지 않습니다.
+ * 계좌 잔액은 해당 계좌 분개의 합(대변 - 차변)과 같아야 합니다.
+ */
+@Getter
+public class LedgerEntry {
+    /**
+     * 외부 정산 계좌 ID
+     * 입금/출금처럼 시스템 밖과 주고받는 자금의 상대 계정으로 사용합니다.
+     */
+    public static final UUID EXTERNAL_ACCOUNT_ID = new UUID(0L, 0L);
+
+    private final UUID id;
+    private final UUID transactionId;
+    private final UUID accountId;
+    private final EntryDirection direction;
+    private final BigDecimal amount;
+    private final LocalDateTime createdAt;
+
+    /**
+     * 분개 생성
+     * ID는 시간 순서 UUID로 발급되어 인덱스 끝에 순차적으로 삽입됩니다.
+     */
+    @Builder
+    public LedgerEntry(UUID id, UUID transactionId, UUID accountId, EntryDirection direction,
+                       BigDecimal amount, LocalDateTime createdAt) {
+        this.id = id != null ? id : TimeBasedUuidGenerator.generate();
+        this.transactionId = transactionId;
+        this.accountId = accountId;
+        this.direction = direction;
+        this.amount = amount;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+    }
+
+    /**
+     * 자금 이동 한 건의 차변/대변 분개 생성
+     * @param transactionId 트랜잭션 ID
+     * @param debitAccountId 자금이 나가는 계좌 ID
+     * @param creditAccountId 자금이 들어오는 계좌 ID
+     * @param amount 금액 (양수)
+     * @return 차변, 대변 순의 분개 두 건
+     */
+    public static List<LedgerEntry> doubleEntry(UUID transactionId, UUID debitAccountId, UUID creditAccountId,
+                                                BigDecimal amount) {
+        return doubleEntry(transactionId, debitAccountId, creditAccountId, amount, LocalDateTime.now());
+    }
+
+    /**
+     * 기초 잔액 분개 생성
+     * 원장 도입 전부터 있던 잔액을 외부 정산 계좌와의 분개 한 쌍으로 옮기며, 트랜잭션 ID로는 계좌 ID를 사용합니다.
+     * @param accountId 계좌 ID
+     * @param amount 옮길 금액 (양수면 계좌 대변, 음수면 계좌 차변)
+     * @param createdAt 분개 시각
+     * @return 차변, 대변 순의 분개 두 건
+     */
+    public static List<LedgerEntry> openingBalance(UUID accountId, BigDecimal amount, LocalDateTime createdAt) {
+        if (amount.signum() < 0) {
+            return doubleEntry(accountId, accountId, EXTERNAL_ACCOUNT_ID, amount.negate(), createdAt);
+        }
+        return doubleEntry(accountId, EXTERNAL_ACCOUNT_ID, accountId, amount, createdAt);
+    }
+
+    private static List<LedgerEntry> doubleEntry(UUID transactionId, UUID debitAccountId, UUID creditAccountId,
+                                                 BigDecimal amount, LocalDateTime createdAt) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("분개 금액은 0보다 커야 합니다.");
+        }
+        return List.of(
+                LedgerEntry.builder()
+                        .transactionId(transactionId)
+                        .accountId(debitAccountId)
+                        .direction(EntryDirection.DEBIT)
+                        .amount(amount)
+                        .createdAt(createdAt)
+                        .build(),
+                LedgerEntry.builder()
+                        .transactionId(transactionId)
+                        .accountId(creditAccountId)
+                        .direction(EntryDirection.CREDIT)
+                        .amount(amount)
+                        .createdAt(createdAt)
+                        .build());
+    }
+
+    /**
+     * 계좌 잔액 기준 부호를 붙인 금액 (대변 +, 차변 -)
+     * @return 부호 있는 금액
+     */
+    public BigDecimal signedAmount() {
+        return direction == EntryDirection.CREDIT ? amount : amount.negate();
+    }
+}
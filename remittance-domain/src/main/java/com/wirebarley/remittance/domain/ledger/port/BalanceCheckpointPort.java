@@ -0,0 +1,37 @@
+package com.wirebarley.remittance.domain.ledger.port;
+
+import com.wirebarley.remittance.domain.ledger.BalanceCheckpoint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 잔액 체크포인트 리포지토리 포트 인터페이스
+ */
+public interface BalanceCheckpointPort {
+    /**
+     * 기준 시각 이전(포함)의 가장 최근 체크포인트 조회
+     * @param accountId 계좌 ID
+     * @param at 기준 시각
+     * @return 체크포인트 Optional
+     */
+    Optional<BalanceCheckpoint> findLatest(UUID accountId, LocalDateTime at);
+
+    /**
+     * 계좌별 기준 시각 이전(포함)의 가장 최근 체크포인트 일괄 조회
+     * @param accountIds 계좌 ID 목록
+     * @param at 기준 시각
+     * @return 계좌 ID별 체크포인트 (체크포인트가 없는 계좌는 제외)
+     */
+    Map<UUID, BalanceCheckpoint> findLatest(Collection<UUID> accountIds, LocalDateTime at);
+
+    /**
+     * 체크포인트 일괄 추가
+     * @param checkpoints 추가할 체크포인트 목록
+     */
+    void saveAll(List<BalanceCheckpoint> checkpoints);
+}
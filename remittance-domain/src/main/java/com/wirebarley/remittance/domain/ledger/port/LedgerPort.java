@@ -0,0 +1,49 @@
+package com.wirebarley.remittance.domain.ledger.port;
+
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 원장 리포지토리 포트 인터페이스
+ * 추가 전용으로, 분개를 수정하거나 삭제하는 연산은 제공하지 않습니다.
+ */
+public interface LedgerPort {
+    /**
+     * 분개 일괄 추가
+     * 진행 중인 트랜잭션에 참여하여 한 번의 배치 INSERT로 저장합니다.
+     * @param entries 추가할 분개 목록
+     */
+    void append(List<LedgerEntry> entries);
+
+    /**
+     * 계좌별 기간 분개 합계 (대변 - 차변)
+     * (fromExclusive, toInclusive] 구간의 분개만 합산하며, 계좌/생성 시각 인덱스 범위만 읽습니다.
+     * @param accountIds 계좌 ID 목록
+     * @param fromExclusive 구간 시작 (미포함, null이면 처음부터)
+     * @param toInclusive 구간 끝 (포함)
+     * @return 계좌 ID별 합계 (구간에 분개가 없는 계좌는 제외)
+     */
+    Map<UUID, BigDecimal> sumByAccount(Collection<UUID> accountIds, LocalDateTime fromExclusive, LocalDateTime toInclusive);
+
+    /**
+     * 계좌별 첫 분개 시각
+     * @param accountIds 계좌 ID 목록
+     * @return 계좌 ID별 가장 이른 분개 시각 (분개가 없는 계좌는 제외)
+     */
+    Map<UUID, LocalDateTime> findFirstEntryTimes(Collection<UUID> accountIds);
+
+    /**
+     * 분개가 있는 계좌 ID를 ID 순으로 조회 (키셋 페이지네이션)
+     * 외부 정산 계좌(LedgerEntry.EXTERNAL_ACCOUNT_ID)는 가장 작은 ID이므로 처음부터 조회해도 포함되지 않습니다.
+     * @param afterAccountId 이전 페이지의 마지막 계좌 ID (처음이면 LedgerEntry.EXTERNAL_ACCOUNT_ID)
+     * @param limit 최대 개수
+     * @return 계좌 ID 목록
+     */
+    List<UUID> findAccountIdsAfter(UUID afterAccountId, int limit);
+}
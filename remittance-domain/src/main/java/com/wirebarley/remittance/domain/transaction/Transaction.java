@@ -26,9 +26,14 @@ public class Transaction {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * 트랜잭션 생성
+     * 영속 상태에서 복원할 때는 생성/수정 시각을 함께 전달하며, 생략하면 현재 시각이 사용됩니다.
+     */
     @Builder
     public Transaction(UUID id, UUID sourceAccountId, UUID targetAccountId, BigDecimal amount, 
-                      TransactionType type, TransactionStatus status, String description) {
+                      TransactionType type, TransactionStatus status, String description,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id != null ? id : TimeBasedUuidGenerator.generate();
         this.sourceAccountId = sourceAccountId;
         this.targetAccountId = targetAccountId;
@@ -36,8 +41,8 @@ public class Transaction {
         this.type = type;
         this.status = status != null ? status : TransactionStatus.PENDING;
         this.description = description;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+        this.updatedAt = updatedAt != null ? updatedAt : this.createdAt;
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.wirebarley.remittance.domain.transaction;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 거래 내역 키셋 페이지네이션 커서
+ * 거래 내역은 (createdAt, id) 역순으로 정렬되며, 커서는 이전 페이지의 마지막 거래를 가리킵니다.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionCursor {
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    /**
+     * 커서 생성
+     * @param createdAt 마지막 거래 생성 시각
+     * @param id 마지막 거래 ID
+     * @return 커서
+     */
+    public static TransactionCursor of(LocalDateTime createdAt, UUID id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("커서의 생성 시각과 ID는 필수입니다.");
+        }
+        return new TransactionCursor(createdAt, id);
+    }
+
+    /**
+     * 거래로부터 커서 생성
+     * @param transaction 페이지의 마지막 거래
+     * @return 커서
+     */
+    public static TransactionCursor from(Transaction transaction) {
+        return of(transaction.getCreatedAt(), transaction.getId());
+    }
+}
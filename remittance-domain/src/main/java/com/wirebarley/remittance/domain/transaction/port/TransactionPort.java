@@ -1,6 +1,7 @@
 package com.wirebarley.remittance.domain.transaction.port;
 
 import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.TransactionCursor;
 import com.wirebarley.remittance.domain.transaction.TransactionStatus;
 import com.wirebarley.remittance.domain.transaction.TransactionType;
 
@@ -14,8 +15,16 @@ import java.util.UUID;
  */
 public interface TransactionPort {
     /**
-     * 트랜잭션 저장
-     * @param transaction 저장할 트랜잭션
+     * 신규 트랜잭션 저장
+     * 존재 여부를 확인하지 않고 바로 INSERT 합니다.
+     * @param transaction 저장할 신규 트랜잭션
+     * @return 저장된 트랜잭션
+     */
+    Transaction create(Transaction transaction);
+    
+    /**
+     * 기존 트랜잭션 변경 저장
+     * @param transaction 변경된 트랜잭션
      * @return 저장된 트랜잭션
      */
     Transaction save(Transaction transaction);
@@ -28,18 +37,24 @@ public interface TransactionPort {
     Optional<Transaction> findById(UUID id);
     
     /**
-     * 계좌 ID로 트랜잭션 조회
+     * 출금 계좌 ID로 트랜잭션 페이지 조회 (키셋 페이지네이션)
+     * (createdAt, id) 역순으로 정렬하며, 커서 이후의 트랜잭션만 조회합니다.
      * @param accountId 계좌 ID
+     * @param cursor 이전 페이지의 마지막 트랜잭션 커서 (첫 페이지는 null)
+     * @param limit 최대 조회 건수
      * @return 트랜잭션 목록
      */
-    List<Transaction> findBySourceAccountId(UUID accountId);
+    List<Transaction> findBySourceAccountId(UUID accountId, TransactionCursor cursor, int limit);
     
     /**
-     * 대상 계좌 ID로 트랜잭션 조회
+     * 입금 계좌 ID로 트랜잭션 페이지 조회 (키셋 페이지네이션)
+     * (createdAt, id) 역순으로 정렬하며, 커서 이후의 트랜잭션만 조회합니다.
      * @param accountId 계좌 ID
+     * @param cursor 이전 페이지의 마지막 트랜잭션 커서 (첫 페이지는 null)
+     * @param limit 최대 조회 건수
      * @return 트랜잭션 목록
      */
-    List<Transaction> findByTargetAccountId(UUID accountId);
+    List<Transaction> findByTargetAccountId(UUID accountId, TransactionCursor cursor, int limit);
     
     /**
      * 트랜잭션 타입으로 트랜잭션 조회
@@ -0,0 +1,33 @@
+package com.wirebarley.remittance.domain.transaction.port;
+
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이체 영속화 포트
+ * 이체 한 건의 계좌 조회와 결과 저장을 각각 한 번의 왕복으로 처리합니다.
+ */
+public interface TransferPort {
+    /**
+     * 출금/입금 계좌 일괄 조회
+     * 한 번의 IN 쿼리로 조회하며, 존재하지 않는 계좌는 결과에서 제외됩니다.
+     * @param sourceAccountId 출금 계좌 ID
+     * @param targetAccountId 입금 계좌 ID
+     * @return 계좌 ID별 계좌
+     */
+    Map<UUID, Account> findAccounts(UUID sourceAccountId, UUID targetAccountId);
+
+    /**
+     * 이체 결과 저장
+     * 두 계좌의 잔액 변경과 최종 상태 트랜잭션 INSERT를 JDBC 배치로 함께 전송합니다.
+     * 대기(PENDING) 상태 트랜잭션은 저장하지 않으므로 최종 상태로 바뀐 트랜잭션을 전달해야 합니다.
+     * @param source 출금 처리된 계좌
+     * @param target 입금 처리된 계좌
+     * @param transaction 최종 상태 트랜잭션
+     * @return 저장된 트랜잭션
+     */
+    Transaction save(Account source, Account target, Transaction transaction);
+}
@@ -28,6 +28,7 @@ class AccountTest {
         // then
         assertNotNull(account.getId());
         assertEquals(accountNumber, account.getAccountNumber());
+        assertEquals("1234**7890", account.getMaskedAccountNumber());
         assertEquals(accountName, account.getAccountName());
         assertEquals(initialBalance, account.getBalance());
         assertEquals(AccountStatus.ACTIVE, account.getStatus());
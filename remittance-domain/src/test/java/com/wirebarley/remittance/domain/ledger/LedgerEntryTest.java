@@ -0,0 +1,76 @@
+package com.wirebarley.remittance.domain.ledger;
+
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerEntryTest {
+
+    @Test
+    @DisplayName("차변/대변 분개 쌍 생성 테스트")
+    void doubleEntry() {
+        // given
+        UUID transactionId = TimeBasedUuidGenerator.generate();
+        UUID sourceAccountId = TimeBasedUuidGenerator.generate();
+        UUID targetAccountId = TimeBasedUuidGenerator.generate();
+        BigDecimal amount = BigDecimal.valueOf(1000);
+
+        // when
+        List<LedgerEntry> entries = LedgerEntry.doubleEntry(transactionId, sourceAccountId, targetAccountId, amount);
+
+        // then
+        assertEquals(2, entries.size());
+        LedgerEntry debit = entries.get(0);
+        LedgerEntry credit = entries.get(1);
+        assertEquals(EntryDirection.DEBIT, debit.getDirection());
+        assertEquals(sourceAccountId, debit.getAccountId());
+        assertEquals(EntryDirection.CREDIT, credit.getDirection());
+        assertEquals(targetAccountId, credit.getAccountId());
+        assertEquals(transactionId, debit.getTransactionId());
+        assertEquals(transactionId, credit.getTransactionId());
+        assertNotEquals(debit.getId(), credit.getId());
+        assertEquals(0, debit.signedAmount().add(credit.signedAmount()).signum());
+        assertEquals(amount.negate(), debit.signedAmount());
+        assertEquals(amount, credit.signedAmount());
+    }
+
+    @Test
+    @DisplayName("0 이하 금액 분개 실패 테스트")
+    void doubleEntryWithNonPositiveAmount() {
+        // given
+        UUID transactionId = TimeBasedUuidGenerator.generate();
+        UUID accountId = TimeBasedUuidGenerator.generate();
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () ->
+                LedgerEntry.doubleEntry(transactionId, LedgerEntry.EXTERNAL_ACCOUNT_ID, accountId, BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("기초 잔액 분개 생성 테스트 - 부호에 따라 계좌 대변/차변")
+    void openingBalance() {
+        // given
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        // when
+        List<LedgerEntry> positive = LedgerEntry.openingBalance(accountId, BigDecimal.valueOf(1000), createdAt);
+        List<LedgerEntry> negative = LedgerEntry.openingBalance(accountId, BigDecimal.valueOf(-300), createdAt);
+
+        // then
+        assertEquals(LedgerEntry.EXTERNAL_ACCOUNT_ID, positive.get(0).getAccountId());
+        assertEquals(accountId, positive.get(1).getAccountId());
+        assertEquals(BigDecimal.valueOf(1000), positive.get(1).signedAmount());
+        assertEquals(accountId, negative.get(0).getAccountId());
+        assertEquals(BigDecimal.valueOf(-300), negative.get(0).signedAmount());
+        assertTrue(positive.stream().allMatch(entry -> entry.getTransactionId().equals(accountId)
+                && entry.getCreatedAt().equals(createdAt)));
+    }
+}
@@ -1,17 +1,26 @@
 package com.wirebarley.remittance.infrastructure.account.adapter;
 
 import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.MaskedAccount;
 import com.wirebarley.remittance.domain.account.port.AccountPort;
 import com.wirebarley.remittance.infrastructure.account.entity.AccountEntity;
+import com.wirebarley.remittance.infrastructure.account.repository.AccountMaskedView;
 import com.wirebarley.remittance.infrastructure.account.repository.AccountRepository;
-import com.wirebarley.remittance.common.util.AES256Util;
+import com.wirebarley.remittance.common.util.BlindIndexUtil;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 계좌 리포지토리 어댑터
@@ -21,29 +30,73 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountAdapter implements AccountPort {
     private final AccountRepository accountRepository;
-    private final AES256Util aes256Util;
+    private final BlindIndexUtil blindIndexUtil;
+    private final EntityManager entityManager;
+
+    @Override
+    public Account create(Account account) {
+        // 신규 엔티티는 persist로 저장되어 INSERT 전 SELECT가 발생하지 않음
+        AccountEntity entity = AccountEntity.fromDomain(account, blindIndexUtil.hashAccountNumber(account.getAccountNumber()));
+        AccountEntity savedEntity = accountRepository.save(entity);
+        return savedEntity.toDomain();
+    }
 
     @Override
     public Account save(Account account) {
-        AccountEntity entity = AccountEntity.fromDomain(account);
+        AccountEntity entity = AccountEntity.fromDomain(account, blindIndexUtil.hashAccountNumber(account.getAccountNumber()));
+        entity.markNotNew();
         AccountEntity savedEntity = accountRepository.save(entity);
         return savedEntity.toDomain();
     }
 
+    @Override
+    public boolean increaseBalance(UUID id, BigDecimal amount) {
+        return accountRepository.increaseBalance(id, amount, AccountStatus.ACTIVE, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean decreaseBalance(UUID id, BigDecimal amount) {
+        return accountRepository.decreaseBalance(id, amount, AccountStatus.ACTIVE, LocalDateTime.now()) > 0;
+    }
+
     @Override
     public Optional<Account> findById(UUID id) {
         return accountRepository.findById(id)
                 .map(AccountEntity::toDomain);
     }
 
+    @Override
+    public List<Account> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return accountRepository.findAllById(ids).stream()
+                .map(AccountEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MaskedAccount> findAllMaskedByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return accountRepository.findAllMaskedByIdIn(ids).stream()
+                .map(this::toMasked)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Account> findByAccountNumber(String accountNumber) {
-        // 조회 시 암호화된 계좌번호로 조회되므로 암호화를 먼저 수행
-        String encryptedAccountNumber = aes256Util.encrypt(accountNumber);
-        return accountRepository.findByAccountNumber(encryptedAccountNumber)
+        // GCM 암호문은 IV가 매번 달라 동등 비교가 불가능하므로 블라인드 인덱스로 조회
+        return accountRepository.findByAccountNumberHash(blindIndexUtil.hashAccountNumber(accountNumber))
                 .map(AccountEntity::toDomain);
     }
     
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return accountRepository.existsByAccountNumberHash(blindIndexUtil.hashAccountNumber(accountNumber));
+    }
+    
     /**
      * 마스킹된 계좌번호로 계좌 조회
      * @param maskedAccountNumber 마스킹된 계좌번호 패턴
@@ -63,8 +116,49 @@ public class AccountAdapter implements AccountPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<MaskedAccount> findAllMasked() {
+        return accountRepository.findAllMaskedBy().stream()
+                .map(this::toMasked)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Account> streamAll() {
+        return accountRepository.streamAllBy()
+                .map(entity -> {
+                    Account account = entity.toDomain();
+                    // 영속성 컨텍스트가 커지지 않도록 변환 후 바로 분리
+                    entityManager.detach(entity);
+                    return account;
+                });
+    }
+
+    @Override
+    public Stream<MaskedAccount> streamAllMasked() {
+        return accountRepository.streamAllMaskedBy()
+                .map(this::toMasked);
+    }
+
     @Override
     public void deleteById(UUID id) {
         accountRepository.deleteById(id);
     }
+    
+    /**
+     * 마스킹 전용 프로젝션을 조회 모델로 변환
+     * @param view 마스킹 전용 계좌 프로젝션
+     * @return 마스킹 전용 계좌
+     */
+    private MaskedAccount toMasked(AccountMaskedView view) {
+        return MaskedAccount.builder()
+                .id(view.getId())
+                .maskedAccountNumber(view.getMaskedAccountNumber())
+                .accountName(view.getAccountName())
+                .balance(view.getBalance())
+                .status(view.getStatus())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
 }
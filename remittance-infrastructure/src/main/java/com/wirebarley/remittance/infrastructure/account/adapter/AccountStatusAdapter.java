@@ -0,0 +1,58 @@
+package com.wirebarley.remittance.infrastructure.account.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wirebarley.remittance.domain.account.AccountStatus;
+import com.wirebarley.remittance.domain.account.port.AccountStatusPort;
+import com.wirebarley.remittance.infrastructure.account.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 계좌 상태 조회 어댑터 (캐시)
+ * 상태 컬럼만 조회하고 결과를 짧게 캐시합니다.
+ * 존재하지 않는 계좌는 캐시하지 않아 새로 생성된 계좌가 거절되지 않도록 합니다.
+ */
+@Slf4j
+@Repository
+public class AccountStatusAdapter implements AccountStatusPort {
+    private static final String CACHE_NAME = "account-status";
+
+    private final AccountRepository accountRepository;
+    private final Cache<UUID, AccountStatus> cache;
+
+    public AccountStatusAdapter(
+            AccountRepository accountRepository,
+            @Value("${remittance.account.status-cache.maximum-size:100000}") long maximumSize,
+            @Value("${remittance.account.status-cache.expire-after-write:30s}") Duration expireAfterWrite,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.accountRepository = accountRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        meterRegistryProvider.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        log.info("계좌 상태 캐시 활성화: 최대 크기: {}, 유지 시간: {}", maximumSize, expireAfterWrite);
+    }
+
+    @Override
+    public Optional<AccountStatus> findStatusById(UUID id) {
+        AccountStatus cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<AccountStatus> status = accountRepository.findStatusById(id);
+        status.ifPresent(value -> cache.put(id, value));
+        return status;
+    }
+}
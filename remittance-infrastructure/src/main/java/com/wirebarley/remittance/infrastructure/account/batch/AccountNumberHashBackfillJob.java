@@ -0,0 +1,72 @@
+package com.wirebarley.remittance.infrastructure.account.batch;
+
+import com.wirebarley.remittance.common.util.BlindIndexUtil;
+import com.wirebarley.remittance.infrastructure.account.entity.AccountEntity;
+import com.wirebarley.remittance.infrastructure.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 계좌번호 블라인드 인덱스 백필 작업
+ * account_number_hash 컬럼이 비어 있는 기존 계좌에 블라인드 인덱스를 채웁니다.
+ * security.blind-index.backfill.enabled=true 일 때 애플리케이션 기동 시 한 번 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.blind-index.backfill.enabled", havingValue = "true")
+public class AccountNumberHashBackfillJob implements ApplicationRunner {
+    private static final int BATCH_SIZE = 500;
+
+    private final AccountRepository accountRepository;
+    private final BlindIndexUtil blindIndexUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    /**
+     * 백필 실행
+     * 배치 단위로 트랜잭션을 나누어 처리하며, 처리된 행은 다음 조회 대상에서 제외됩니다.
+     * @return 백필된 계좌 수
+     */
+    public int backfill() {
+        log.info("계좌번호 블라인드 인덱스 백필 시작");
+        int total = 0;
+
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> backfillBatch());
+            if (updated == null || updated == 0) {
+                break;
+            }
+            total += updated;
+            log.debug("계좌번호 블라인드 인덱스 백필 진행: {}건", total);
+        }
+
+        log.info("계좌번호 블라인드 인덱스 백필 완료: {}건", total);
+        return total;
+    }
+
+    private int backfillBatch() {
+        List<AccountEntity> entities = accountRepository.findByAccountNumberHashIsNull(PageRequest.of(0, BATCH_SIZE));
+        for (AccountEntity entity : entities) {
+            String hash = blindIndexUtil.hashAccountNumber(entity.getAccountNumber());
+            if (hash == null) {
+                // 해시를 만들 수 없는 행이 남아 있으면 같은 행을 반복 조회하게 되므로 중단
+                throw new IllegalStateException("블라인드 인덱스를 생성할 수 없는 계좌입니다: " + entity.getId());
+            }
+            entity.setAccountNumberHash(hash);
+        }
+        return entities.size();
+    }
+}
@@ -1,16 +1,14 @@
 package com.wirebarley.remittance.infrastructure.account.entity;
 
-import com.wirebarley.remittance.common.util.MaskUtil;
 import com.wirebarley.remittance.domain.account.Account;
 import com.wirebarley.remittance.domain.account.AccountStatus;
 import com.wirebarley.remittance.infrastructure.converter.AES256Converter;
-import com.wirebarley.remittance.common.util.AES256Util;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -21,19 +19,34 @@ import java.util.UUID;
  * JPA를 위한 인프라스트럭처 레이어의 엔티티
  */
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = {
+        @Index(name = "uk_accounts_account_number_hash", columnList = "account_number_hash", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class AccountEntity {
+public class AccountEntity implements Persistable<UUID> {
     @Id
     @Column(name = "id", columnDefinition = "BINARY(16)")
     private UUID id;
 
-    @Column(name = "account_number", nullable = false, unique = true)
+    /**
+     * 계좌번호 (AES-GCM 암호문)
+     * 암호화할 때마다 IV가 달라지므로 갱신 UPDATE에 포함되면 암호문이 바뀌어 복호화 캐시가 매번 빗나갑니다.
+     * 계좌번호는 바뀌지 않으므로 INSERT 때만 기록합니다.
+     */
+    @Column(name = "account_number", nullable = false, unique = true, updatable = false)
     @Convert(converter = AES256Converter.class)
     private String accountNumber;
     
+    /**
+     * 계좌번호 블라인드 인덱스 (HMAC-SHA256)
+     * 암호문은 매번 달라지므로 계좌번호 조회는 이 컬럼으로 수행합니다.
+     * 기존 데이터 백필 전까지는 비어 있을 수 있습니다.
+     */
+    @Column(name = "account_number_hash", length = 64)
+    private String accountNumberHash;
+    
     @Column(name = "masked_account_number", nullable = false)
     private String maskedAccountNumber;
 
@@ -53,6 +66,39 @@ public class AccountEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 낙관적 잠금 버전
+     * 기존 행은 컬럼 추가 시 0으로 채워집니다.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
+    /**
+     * 아직 저장되지 않은 엔티티 여부
+     * ID를 미리 할당하므로 ID 유무로는 신규 여부를 판단할 수 없어 직접 관리합니다.
+     * 신규이면 merge 대신 persist로 저장되어 INSERT 전 SELECT가 발생하지 않습니다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * 이미 저장된 엔티티로 표시
+     * 조회되거나 저장된 직후 호출되며, 기존 행을 갱신할 때도 사용합니다.
+     */
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.newEntity = false;
+    }
+
 
     /**
      * 도메인 객체로 변환
@@ -62,27 +108,32 @@ public class AccountEntity {
         return Account.builder()
                 .id(this.id)
                 .accountNumber(this.accountNumber)
+                .maskedAccountNumber(this.maskedAccountNumber)
                 .accountName(this.accountName)
                 .balance(this.balance)
                 .status(this.status)
+                .version(this.version)
                 .build();
     }
 
     /**
      * 도메인 객체로부터 엔티티 생성
      * @param account 도메인 계좌 객체
+     * @param accountNumberHash 계좌번호 블라인드 인덱스
      * @return 계좌 엔티티
      */
-    public static AccountEntity fromDomain(Account account) {
+    public static AccountEntity fromDomain(Account account, String accountNumberHash) {
         AccountEntity entity = new AccountEntity();
         entity.id = account.getId();
         entity.accountNumber = account.getAccountNumber();
-        entity.maskedAccountNumber = MaskUtil.maskAccountNumber(account.getAccountNumber());
+        entity.accountNumberHash = accountNumberHash;
+        entity.maskedAccountNumber = account.getMaskedAccountNumber();
         entity.accountName = account.getAccountName();
         entity.balance = account.getBalance();
         entity.status = account.getStatus();
         entity.createdAt = account.getCreatedAt();
         entity.updatedAt = account.getUpdatedAt();
+        entity.version = account.getVersion();
         return entity;
     }
 }
@@ -0,0 +1,27 @@
+package com.wirebarley.remittance.infrastructure.account.repository;
+
+import com.wirebarley.remittance.domain.account.AccountStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 마스킹 전용 계좌 프로젝션
+ * 암호화된 account_number 컬럼을 조회하지 않으므로 복호화가 일어나지 않습니다.
+ */
+public interface AccountMaskedView {
+    UUID getId();
+
+    String getMaskedAccountNumber();
+
+    String getAccountName();
+
+    BigDecimal getBalance();
+
+    AccountStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
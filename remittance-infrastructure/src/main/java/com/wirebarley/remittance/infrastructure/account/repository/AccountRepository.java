@@ -1,12 +1,24 @@
 package com.wirebarley.remittance.infrastructure.account.repository;
 
+import com.wirebarley.remittance.domain.account.AccountStatus;
 import com.wirebarley.remittance.infrastructure.account.entity.AccountEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA 계좌 리포지토리
@@ -14,11 +26,38 @@ import java.util.UUID;
 @Repository
 public interface AccountRepository extends JpaRepository<AccountEntity, UUID> {
     /**
-     * 계좌번호로 계좌 조회
-     * @param accountNumber 계좌번호
+     * 스트리밍 조회 시 JDBC fetch size
+     */
+    String STREAM_FETCH_SIZE = "1000";
+    
+    /**
+     * 계좌번호 블라인드 인덱스로 계좌 조회
+     * @param accountNumberHash 계좌번호 블라인드 인덱스
      * @return 계좌 Optional
      */
-    Optional<AccountEntity> findByAccountNumber(String accountNumber);
+    Optional<AccountEntity> findByAccountNumberHash(String accountNumberHash);
+    
+    /**
+     * 계좌번호 블라인드 인덱스 존재 여부 확인
+     * @param accountNumberHash 계좌번호 블라인드 인덱스
+     * @return 존재 여부
+     */
+    boolean existsByAccountNumberHash(String accountNumberHash);
+    
+    /**
+     * 계좌 상태만 조회
+     * @param id 계좌 ID
+     * @return 계좌 상태 Optional
+     */
+    @Query("select a.status from AccountEntity a where a.id = :id")
+    Optional<AccountStatus> findStatusById(@Param("id") UUID id);
+    
+    /**
+     * 블라인드 인덱스가 비어 있는 계좌 조회 (백필용)
+     * @param pageable 조회 개수
+     * @return 계좌 목록
+     */
+    List<AccountEntity> findByAccountNumberHashIsNull(Pageable pageable);
     
     /**
      * 마스킹된 계좌번호로 계좌 조회
@@ -26,4 +65,70 @@ public interface AccountRepository extends JpaRepository<AccountEntity, UUID> {
      * @return 계좌 목록
      */
     List<AccountEntity> findByMaskedAccountNumberContaining(String maskedAccountNumber);
+    
+    /**
+     * ID 목록으로 마스킹 전용 계좌 일괄 조회
+     * @param ids 계좌 ID 목록
+     * @return 마스킹 전용 계좌 프로젝션 목록
+     */
+    List<AccountMaskedView> findAllMaskedByIdIn(Collection<UUID> ids);
+    
+    /**
+     * 모든 계좌 마스킹 전용 조회
+     * @return 마스킹 전용 계좌 프로젝션 목록
+     */
+    List<AccountMaskedView> findAllMaskedBy();
+    
+    /**
+     * 활성 계좌 잔액 증가
+     * @param id 계좌 ID
+     * @param amount 증가할 금액
+     * @param status 갱신 대상 계좌 상태
+     * @param updatedAt 수정 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AccountEntity a set a.balance = a.balance + :amount, a.updatedAt = :updatedAt, " +
+            "a.version = a.version + 1 " +
+            "where a.id = :id and a.status = :status")
+    int increaseBalance(@Param("id") UUID id,
+                        @Param("amount") BigDecimal amount,
+                        @Param("status") AccountStatus status,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * 잔액이 충분한 활성 계좌 잔액 감소
+     * @param id 계좌 ID
+     * @param amount 감소할 금액
+     * @param status 갱신 대상 계좌 상태
+     * @param updatedAt 수정 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AccountEntity a set a.balance = a.balance - :amount, a.updatedAt = :updatedAt, " +
+            "a.version = a.version + 1 " +
+            "where a.id = :id and a.status = :status and a.balance >= :amount")
+    int decreaseBalance(@Param("id") UUID id,
+                        @Param("amount") BigDecimal amount,
+                        @Param("status") AccountStatus status,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * 모든 계좌 스트리밍 조회
+     * JDBC 커서의 fetch size를 지정하여 결과를 나누어 읽습니다.
+     * @return 계좌 엔티티 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from AccountEntity a")
+    Stream<AccountEntity> streamAllBy();
+    
+    /**
+     * 모든 계좌 마스킹 전용 스트리밍 조회
+     * @return 마스킹 전용 계좌 프로젝션 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<AccountMaskedView> streamAllMaskedBy();
 }
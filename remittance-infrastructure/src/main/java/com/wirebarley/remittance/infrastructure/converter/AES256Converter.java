@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 public class AES256Converter implements AttributeConverter<String, String> {
     
     private final AES256Util aes256Util;
+    private final DecryptionCache decryptionCache;
     
     /**
      * 엔티티 필드 값을 데이터베이스 컬럼 값으로 변환 (암호화)
@@ -39,6 +40,7 @@ public class AES256Converter implements AttributeConverter<String, String> {
     
     /**
      * 데이터베이스 컬럼 값을 엔티티 필드 값으로 변환 (복호화)
+     * 같은 암호문은 복호화 캐시에서 재사용합니다.
      * @param dbData 데이터베이스 컬럼 값
      * @return 복호화된 엔티티 필드 값
      */
@@ -49,7 +51,7 @@ public class AES256Converter implements AttributeConverter<String, String> {
         }
         
         try {
-            return aes256Util.decrypt(dbData);
+            return decryptionCache.get(dbData, aes256Util::decrypt);
         } catch (Exception e) {
             log.error("복호화 실패", e);
             throw new RuntimeException("필드 복호화 중 오류가 발생했습니다.", e);
@@ -0,0 +1,125 @@
+package com.wirebarley.remittance.infrastructure.converter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * 복호화 결과 캐시
+ * 같은 암호문을 반복해서 복호화하지 않도록 암호문을 키로 평문을 보관합니다.
+ * 크기와 유지 시간이 제한된 W-TinyLFU 캐시(Caffeine)를 사용하며,
+ * 평문은 char[]로 보관하고 캐시에서 제거될 때 0으로 덮어씁니다.
+ */
+@Slf4j
+@Component
+public class DecryptionCache {
+    private static final String CACHE_NAME = "account-number-decryption";
+
+    private final Cache<String, CachedPlaintext> cache;
+
+    public DecryptionCache(
+            @Value("${security.encryption.cache.enabled:true}") boolean enabled,
+            @Value("${security.encryption.cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.encryption.cache.expire-after-write:10m}") Duration expireAfterWrite,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        if (!enabled) {
+            this.cache = null;
+            log.info("복호화 캐시 비활성화");
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                // 평문 지우기는 가벼운 작업이므로 제거한 스레드에서 바로 실행 (제거 즉시 평문이 지워짐)
+                .executor(Runnable::run)
+                .removalListener((String key, CachedPlaintext value, RemovalCause cause) -> {
+                    if (value != null) {
+                        value.wipe();
+                    }
+                })
+                .recordStats()
+                .build();
+
+        meterRegistryProvider.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        log.info("복호화 캐시 활성화: 최대 크기: {}, 유지 시간: {}", maximumSize, expireAfterWrite);
+    }
+
+    /**
+     * 캐시된 평문 조회, 없으면 복호화 후 캐시
+     * @param ciphertext 암호문
+     * @param decryptor 캐시 미스 시 사용할 복호화 함수
+     * @return 평문
+     */
+    public String get(String ciphertext, UnaryOperator<String> decryptor) {
+        if (cache == null) {
+            return decryptor.apply(ciphertext);
+        }
+
+        String plaintext = cache.get(ciphertext, key -> new CachedPlaintext(decryptor.apply(key))).read();
+        if (plaintext == null) {
+            // 조회 직후 제거되어 이미 지워진 경우 직접 복호화
+            return decryptor.apply(ciphertext);
+        }
+        return plaintext;
+    }
+
+    /**
+     * 캐시 통계 (히트/미스/제거 건수)
+     * @return 캐시 통계, 비활성화 시 빈 통계
+     */
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    /**
+     * 캐시 전체 비우기
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 캐시 항목 조회 (복호화 없음)
+     * @param ciphertext 암호문
+     * @return 캐시된 평문 보관 객체, 없거나 비활성화 시 null
+     */
+    CachedPlaintext getIfPresent(String ciphertext) {
+        return cache != null ? cache.getIfPresent(ciphertext) : null;
+    }
+
+    /**
+     * 제거 시 지울 수 있는 평문 보관 객체
+     */
+    static final class CachedPlaintext {
+        private char[] value;
+
+        private CachedPlaintext(String plaintext) {
+            this.value = plaintext.toCharArray();
+        }
+
+        synchronized String read() {
+            return value != null ? new String(value) : null;
+        }
+
+        synchronized void wipe() {
+            if (value != null) {
+                Arrays.fill(value, '\0');
+                value = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.wirebarley.remittance.infrastructure.idempotency.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wirebarley.remittance.domain.idempotency.IdempotencyRecord;
+import com.wirebarley.remittance.domain.idempotency.port.IdempotencyPort;
+import com.wirebarley.remittance.infrastructure.idempotency.entity.IdempotencyKeyEntity;
+import com.wirebarley.remittance.infrastructure.idempotency.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 멱등성 키 저장소 어댑터 (데이터베이스 + 로컬 캐시)
+ * 처리 완료된 기록만 로컬에 캐시하여 같은 노드로 온 재전송은 데이터베이스 조회 없이 응답합니다.
+ * 완료된 기록은 만료 전까지 바뀌지 않으므로 캐시 무효화가 필요 없습니다.
+ */
+@Slf4j
+@Repository
+public class IdempotencyAdapter implements IdempotencyPort {
+    private static final String CACHE_NAME = "idempotency-keys";
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Cache<String, IdempotencyRecord> completed;
+
+    public IdempotencyAdapter(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            @Value("${remittance.idempotency.cache.maximum-size:10000}") long maximumSize,
+            @Value("${remittance.idempotency.ttl:24h}") Duration ttl,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        meterRegistryProvider.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, completed, CACHE_NAME));
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        IdempotencyRecord cached = completed.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<IdempotencyRecord> record = idempotencyKeyRepository.findById(key)
+                .map(IdempotencyKeyEntity::toDomain);
+        record.filter(IdempotencyRecord::isCompleted).ifPresent(value -> completed.put(key, value));
+        return record;
+    }
+
+    @Override
+    public boolean claim(String key, String fingerprint, LocalDateTime expiresAt) {
+        try {
+            // 신규 엔티티는 persist로 저장되어 기본 키 충돌이 바로 드러남
+            idempotencyKeyRepository.saveAndFlush(IdempotencyKeyEntity.claim(key, fingerprint, expiresAt));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 사용 중인 멱등성 키: {}", key);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean complete(String key, String fingerprint, LocalDateTime expiresAt, UUID resultId) {
+        return idempotencyKeyRepository.complete(key, fingerprint, expiresAt, resultId) > 0;
+    }
+
+    @Override
+    public void release(String key, String fingerprint, LocalDateTime expiresAt) {
+        idempotencyKeyRepository.deleteClaim(key, fingerprint, expiresAt);
+    }
+
+    @Override
+    public boolean releaseExpired(String key, LocalDateTime now) {
+        // 만료 후 캐시에 남은 완료 기록도 함께 제거
+        completed.invalidate(key);
+        return idempotencyKeyRepository.deleteExpiredByKey(key, now) > 0;
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return idempotencyKeyRepository.deleteExpired(now);
+    }
+}
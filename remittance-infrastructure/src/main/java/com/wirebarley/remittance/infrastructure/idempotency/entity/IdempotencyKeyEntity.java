@@ -0,0 +1,95 @@
+package com.wirebarley.remittance.infrastructure.idempotency.entity;
+
+import com.wirebarley.remittance.domain.idempotency.IdempotencyRecord;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 멱등성 키 엔티티
+ * 키를 기본 키로 사용하여 같은 키의 동시 선점 중 하나만 INSERT에 성공합니다.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKeyEntity implements Persistable<String> {
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    /**
+     * 처리 결과 ID (처리 중이면 비어 있음)
+     */
+    @Column(name = "result_id", columnDefinition = "BINARY(16)")
+    private UUID resultId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 선점용 신규 엔티티 여부
+     * 키를 직접 할당하므로 persist로 저장되도록 직접 관리합니다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.newEntity = false;
+    }
+
+    /**
+     * 처리 중 상태의 선점 엔티티 생성
+     * @param key 멱등성 키
+     * @param fingerprint 요청 지문
+     * @param expiresAt 만료 시각
+     * @return 멱등성 키 엔티티
+     */
+    public static IdempotencyKeyEntity claim(String key, String fingerprint, LocalDateTime expiresAt) {
+        IdempotencyKeyEntity entity = new IdempotencyKeyEntity();
+        entity.key = key;
+        entity.fingerprint = fingerprint;
+        entity.createdAt = LocalDateTime.now();
+        entity.expiresAt = expiresAt;
+        return entity;
+    }
+
+    /**
+     * 도메인 객체로 변환
+     * @return 멱등성 키 기록
+     */
+    public IdempotencyRecord toDomain() {
+        return IdempotencyRecord.builder()
+                .key(key)
+                .fingerprint(fingerprint)
+                .resultId(resultId)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.wirebarley.remittance.infrastructure.idempotency.repository;
+
+import com.wirebarley.remittance.infrastructure.idempotency.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA 멱등성 키 리포지토리
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+    /**
+     * 선점한 처리 중 키에 결과 기록
+     * @param key 멱등성 키
+     * @param fingerprint 선점한 요청 지문
+     * @param expiresAt 선점 시 만료 시각
+     * @param resultId 처리 결과 ID
+     * @return 갱신 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyKeyEntity e set e.resultId = :resultId "
+            + "where e.key = :key and e.fingerprint = :fingerprint and e.expiresAt = :expiresAt and e.resultId is null")
+    int complete(@Param("key") String key, @Param("fingerprint") String fingerprint,
+                 @Param("expiresAt") LocalDateTime expiresAt, @Param("resultId") UUID resultId);
+
+    /**
+     * 선점한 처리 중 키 삭제 (엔티티를 조회하지 않는 단일 DELETE)
+     * @param key 멱등성 키
+     * @param fingerprint 선점한 요청 지문
+     * @param expiresAt 선점 시 만료 시각
+     * @return 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity e "
+            + "where e.key = :key and e.fingerprint = :fingerprint and e.expiresAt = :expiresAt and e.resultId is null")
+    int deleteClaim(@Param("key") String key, @Param("fingerprint") String fingerprint,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 만료된 키 삭제
+     * @param key 멱등성 키
+     * @param now 기준 시각
+     * @return 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity e where e.key = :key and e.expiresAt < :now")
+    int deleteExpiredByKey(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 키 일괄 삭제
+     * @param now 기준 시각
+     * @return 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity e where e.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
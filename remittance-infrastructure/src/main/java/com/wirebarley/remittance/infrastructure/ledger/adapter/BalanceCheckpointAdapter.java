@@ -0,0 +1,87 @@
+package com.wirebarley.remittance.infrastructure.ledger.adapter;
+
+import com.wirebarley.remittance.domain.ledger.BalanceCheckpoint;
+import com.wirebarley.remittance.domain.ledger.port.BalanceCheckpointPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.wirebarley.remittance.infrastructure.ledger.adapter.UuidBytes.fromBytes;
+import static com.wirebarley.remittance.infrastructure.ledger.adapter.UuidBytes.toBytes;
+
+/**
+ * 잔액 체크포인트 리포지토리 어댑터
+ * (account_id, as_of) 유니크 인덱스를 역순으로 읽어 기준 시각 직전 체크포인트를 한 행만 조회합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceCheckpointAdapter implements BalanceCheckpointPort {
+    private static final String COLUMNS = "id, account_id, balance, as_of, created_at";
+    private static final String INSERT_SQL = "INSERT INTO balance_checkpoints (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?)";
+    private static final String FIND_LATEST_SQL = "SELECT " + COLUMNS + " FROM balance_checkpoints "
+            + "WHERE account_id = ? AND as_of <= ? ORDER BY as_of DESC LIMIT 1";
+    private static final String FIND_LATEST_BATCH_SQL = "SELECT c.id, c.account_id, c.balance, c.as_of, c.created_at "
+            + "FROM balance_checkpoints c JOIN ("
+            + "SELECT account_id, MAX(as_of) AS as_of FROM balance_checkpoints "
+            + "WHERE account_id IN (:accountIds) AND as_of <= :at GROUP BY account_id"
+            + ") latest ON c.account_id = latest.account_id AND c.as_of = latest.as_of";
+
+    private static final RowMapper<BalanceCheckpoint> ROW_MAPPER = (rs, rowNum) -> BalanceCheckpoint.builder()
+            .id(fromBytes(rs.getBytes("id")))
+            .accountId(fromBytes(rs.getBytes("account_id")))
+            .balance(rs.getBigDecimal("balance"))
+            .asOf(rs.getTimestamp("as_of").toLocalDateTime())
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Optional<BalanceCheckpoint> findLatest(UUID accountId, LocalDateTime at) {
+        return jdbcTemplate.query(FIND_LATEST_SQL, ROW_MAPPER, toBytes(accountId), Timestamp.valueOf(at))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Map<UUID, BalanceCheckpoint> findLatest(Collection<UUID> accountIds, LocalDateTime at) {
+        Map<UUID, BalanceCheckpoint> checkpoints = new HashMap<>();
+        if (accountIds.isEmpty()) {
+            return checkpoints;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountIds", accountIds.stream().map(UuidBytes::toBytes).toList())
+                .addValue("at", Timestamp.valueOf(at));
+        for (BalanceCheckpoint checkpoint : namedParameterJdbcTemplate.query(FIND_LATEST_BATCH_SQL, params, ROW_MAPPER)) {
+            checkpoints.put(checkpoint.getAccountId(), checkpoint);
+        }
+        return checkpoints;
+    }
+
+    @Override
+    public void saveAll(List<BalanceCheckpoint> checkpoints) {
+        if (checkpoints.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, checkpoints, checkpoints.size(), (ps, checkpoint) -> {
+            ps.setBytes(1, toBytes(checkpoint.getId()));
+            ps.setBytes(2, toBytes(checkpoint.getAccountId()));
+            ps.setBigDecimal(3, checkpoint.getBalance());
+            ps.setTimestamp(4, Timestamp.valueOf(checkpoint.getAsOf()));
+            ps.setTimestamp(5, Timestamp.valueOf(checkpoint.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.wirebarley.remittance.infrastructure.ledger.adapter;
+
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.wirebarley.remittance.infrastructure.ledger.adapter.UuidBytes.fromBytes;
+import static com.wirebarley.remittance.infrastructure.ledger.adapter.UuidBytes.toBytes;
+
+/**
+ * 원장 리포지토리 어댑터
+ * 분개는 영속성 컨텍스트를 거치지 않고 JdbcTemplate 배치 INSERT로 바로 추가합니다.
+ * 같은 데이터소스를 쓰므로 진행 중인 JPA 트랜잭션에 참여하여 함께 커밋/롤백됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerAdapter implements LedgerPort {
+    private static final String INSERT_SQL = "INSERT INTO ledger_entries "
+            + "(id, transaction_id, account_id, direction, amount, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SUM_SQL = "SELECT account_id, "
+            + "SUM(CASE WHEN direction = 'CREDIT' THEN amount ELSE -amount END) AS amount "
+            + "FROM ledger_entries WHERE account_id IN (:accountIds) AND created_at <= :to";
+    private static final String SUM_FROM_CONDITION = " AND created_at > :from";
+    private static final String SUM_GROUP_BY = " GROUP BY account_id";
+    private static final String FIRST_ENTRY_TIMES_SQL = "SELECT account_id, MIN(created_at) AS first_created_at "
+            + "FROM ledger_entries WHERE account_id IN (:accountIds) GROUP BY account_id";
+    private static final String ACCOUNT_IDS_AFTER_SQL = "SELECT DISTINCT account_id FROM ledger_entries "
+            + "WHERE account_id > ? ORDER BY account_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public void append(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setBytes(1, toBytes(entry.getId()));
+            ps.setBytes(2, toBytes(entry.getTransactionId()));
+            ps.setBytes(3, toBytes(entry.getAccountId()));
+            ps.setString(4, entry.getDirection().name());
+            ps.setBigDecimal(5, entry.getAmount());
+            ps.setTimestamp(6, Timestamp.valueOf(entry.getCreatedAt()));
+        });
+    }
+
+    @Override
+    public Map<UUID, BigDecimal> sumByAccount(Collection<UUID> accountIds, LocalDateTime fromExclusive,
+                                              LocalDateTime toInclusive) {
+        Map<UUID, BigDecimal> sums = new HashMap<>();
+        if (accountIds.isEmpty()) {
+            return sums;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountIds", accountIds.stream().map(UuidBytes::toBytes).toList())
+                .addValue("to", Timestamp.valueOf(toInclusive));
+        String sql = SUM_SQL;
+        if (fromExclusive != null) {
+            params.addValue("from", Timestamp.valueOf(fromExclusive));
+            sql += SUM_FROM_CONDITION;
+        }
+        namedParameterJdbcTemplate.query(sql + SUM_GROUP_BY, params, rs -> {
+            sums.put(fromBytes(rs.getBytes("account_id")), rs.getBigDecimal("amount"));
+        });
+        return sums;
+    }
+
+    @Override
+    public Map<UUID, LocalDateTime> findFirstEntryTimes(Collection<UUID> accountIds) {
+        Map<UUID, LocalDateTime> firstEntryTimes = new HashMap<>();
+        if (accountIds.isEmpty()) {
+            return firstEntryTimes;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountIds", accountIds.stream().map(UuidBytes::toBytes).toList());
+        namedParameterJdbcTemplate.query(FIRST_ENTRY_TIMES_SQL, params, rs -> {
+            firstEntryTimes.put(fromBytes(rs.getBytes("account_id")),
+                    rs.getTimestamp("first_created_at").toLocalDateTime());
+        });
+        return firstEntryTimes;
+    }
+
+    @Override
+    public List<UUID> findAccountIdsAfter(UUID afterAccountId, int limit) {
+        return jdbcTemplate.query(ACCOUNT_IDS_AFTER_SQL,
+                (rs, rowNum) -> fromBytes(rs.getBytes(1)),
+                toBytes(afterAccountId), limit);
+    }
+}
@@ -0,0 +1,25 @@
+package com.wirebarley.remittance.infrastructure.ledger.adapter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * JDBC로 직접 읽고 쓰는 BINARY(16) UUID 컬럼 변환
+ * JPA 엔티티 매핑과 같은 바이트 순서(상위 비트 우선)를 사용합니다.
+ */
+public final class UuidBytes {
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,108 @@
+package com.wirebarley.remittance.infrastructure.ledger.batch;
+
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.wirebarley.remittance.infrastructure.ledger.adapter.UuidBytes.fromBytes;
+import static com.wirebarley.remittance.infrastructure.ledger.adapter.UuidBytes.toBytes;
+
+/**
+ * 기초 잔액 원장 이관 작업
+ * 원장 도입 전부터 있던 계좌는 잔액과 분개 합이 다르므로, 차액을 기초 잔액 분개로 추가해 둘을 맞춥니다.
+ * 기초 잔액 분개는 계좌의 첫 분개 시각(분개가 없으면 실행 시각)으로 기록하여 원장 이력의 시작점이 되며,
+ * 이미 작성된 해당 계좌의 잔액 체크포인트는 기초 잔액이 빠져 있으므로 삭제하여 다음 주기에 다시 작성되게 합니다.
+ * 배치마다 계좌 행을 잠근 뒤 분개를 합산하므로 진행 중인 입출금/이체와 섞이지 않으며, 다시 실행해도 차액이 없는 계좌는 건너뜁니다.
+ * remittance.ledger.opening-backfill.enabled=true 일 때 애플리케이션 기동 시 한 번 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "remittance.ledger.opening-backfill.enabled", havingValue = "true")
+public class OpeningBalanceBackfillJob implements ApplicationRunner {
+    private static final int BATCH_SIZE = 500;
+    private static final String LOCK_ACCOUNTS_SQL = "SELECT id, balance FROM accounts "
+            + "WHERE id > ? ORDER BY id LIMIT ? FOR UPDATE";
+    private static final String DELETE_CHECKPOINTS_SQL = "DELETE FROM balance_checkpoints WHERE account_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerPort ledgerPort;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    /**
+     * 이관 실행
+     * 계좌 ID 순 키셋 배치로 훑으며, 배치마다 별도 트랜잭션으로 처리합니다.
+     * @return 기초 잔액 분개를 추가한 계좌 수
+     */
+    public int backfill() {
+        log.info("기초 잔액 원장 이관 시작");
+        int total = 0;
+        UUID after = LedgerEntry.EXTERNAL_ACCOUNT_ID;
+
+        while (true) {
+            Map<UUID, BigDecimal> balances = new LinkedHashMap<>();
+            UUID cursor = after;
+            Integer written = transactionTemplate.execute(status -> backfillBatch(cursor, balances));
+            total += written != null ? written : 0;
+            if (balances.size() < BATCH_SIZE) {
+                break;
+            }
+            after = new ArrayList<>(balances.keySet()).get(balances.size() - 1);
+            log.debug("기초 잔액 원장 이관 진행: {}건", total);
+        }
+
+        log.info("기초 잔액 원장 이관 완료: {}건", total);
+        return total;
+    }
+
+    private int backfillBatch(UUID after, Map<UUID, BigDecimal> balances) {
+        jdbcTemplate.query(LOCK_ACCOUNTS_SQL, rs -> {
+            balances.put(fromBytes(rs.getBytes("id")), rs.getBigDecimal("balance"));
+        }, toBytes(after), BATCH_SIZE);
+        if (balances.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, BigDecimal> sums = ledgerPort.sumByAccount(balances.keySet(), null, now);
+        Map<UUID, LocalDateTime> firstEntryTimes = ledgerPort.findFirstEntryTimes(balances.keySet());
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        List<Object[]> staleCheckpoints = new ArrayList<>();
+        balances.forEach((accountId, balance) -> {
+            BigDecimal opening = balance.subtract(sums.getOrDefault(accountId, BigDecimal.ZERO));
+            if (opening.signum() == 0) {
+                return;
+            }
+            log.info("기초 잔액 분개 추가: 계좌 ID: {}, 금액: {}", accountId, opening);
+            entries.addAll(LedgerEntry.openingBalance(accountId, opening, firstEntryTimes.getOrDefault(accountId, now)));
+            staleCheckpoints.add(new Object[]{toBytes(accountId)});
+        });
+
+        ledgerPort.append(entries);
+        if (!staleCheckpoints.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_CHECKPOINTS_SQL, staleCheckpoints);
+        }
+        return staleCheckpoints.size();
+    }
+}
@@ -0,0 +1,41 @@
+package com.wirebarley.remittance.infrastructure.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 잔액 체크포인트 엔티티 (테이블 정의 전용)
+ * 조회와 추가는 BalanceCheckpointAdapter가 JDBC로 수행합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "balance_checkpoints", indexes = {
+        // 기준 시각 이전의 가장 최근 체크포인트 조회
+        @Index(name = "uk_balance_checkpoints_account_as_of", columnList = "account_id, as_of", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceCheckpointEntity {
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID accountId;
+
+    @Column(name = "balance", nullable = false)
+    private BigDecimal balance;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,63 @@
+package com.wirebarley.remittance.infrastructure.ledger.entity;
+
+import com.wirebarley.remittance.domain.ledger.EntryDirection;
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 원장 분개 엔티티 (조회 전용)
+ * 테이블 정의와 조회에만 사용하며, 추가는 LedgerAdapter가 JDBC 배치 INSERT로 수행합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "ledger_entries", indexes = {
+        // 계좌별 분개 합계/기간 조회
+        @Index(name = "idx_ledger_entries_account_created", columnList = "account_id, created_at"),
+        @Index(name = "idx_ledger_entries_transaction", columnList = "transaction_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerEntryEntity {
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "transaction_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID transactionId;
+
+    @Column(name = "account_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", nullable = false, length = 6)
+    private EntryDirection direction;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 도메인 객체로 변환
+     * @return 도메인 분개 객체
+     */
+    public LedgerEntry toDomain() {
+        return LedgerEntry.builder()
+                .id(this.id)
+                .transactionId(this.transactionId)
+                .accountId(this.accountId)
+                .direction(this.direction)
+                .amount(this.amount)
+                .createdAt(this.createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.wirebarley.remittance.infrastructure.lock;
+
+import com.wirebarley.remittance.common.error.LockAcquisitionException;
+import com.wirebarley.remittance.common.lock.LockHandle;
+import com.wirebarley.remittance.common.lock.LockProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터베이스 행 잠금 락 백엔드
+ * account:&lt;id&gt; 키에 해당하는 계좌 행을 ID 순서로 SELECT ... FOR UPDATE 하여 잠급니다.
+ * 락은 이 백엔드가 시작한 트랜잭션이 끝날 때까지 유지되며, 대상 메서드의 트랜잭션은 여기에 참여합니다.
+ * Redis 없이 여러 노드 사이의 배제를 보장하지만, leaseTime은 지원하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 주 백엔드이거나 서킷 브레이커의 대체 백엔드로 지정된 경우 등록
+@ConditionalOnExpression("'${remittance.lock.provider:redisson}' == 'database' or ("
+        + "'${remittance.lock.provider:redisson}' == 'redisson' and ${remittance.lock.circuit-breaker.enabled:true} "
+        + "and '${remittance.lock.fallback:none}' == 'database')")
+public class DatabaseLockProvider implements LockProvider {
+    private static final String ACCOUNT_KEY_PREFIX = "account:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public LockHandle acquire(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        List<UUID> accountIds = toAccountIds(keys);
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+        if (!accountIds.isEmpty()) {
+            try {
+                jdbcTemplate.query(lockQuery(accountIds.size(), waitSeconds(waitTime, timeUnit)),
+                        rs -> { },
+                        accountIds.stream().map(DatabaseLockProvider::toBytes).toArray());
+                log.debug("계좌 행 잠금 획득: {}", accountIds);
+            } catch (PessimisticLockingFailureException e) {
+                // 대기 시간 초과: 다른 백엔드와 같이 원인 없는 획득 실패로 취급
+                transactionManager.rollback(status);
+                log.error("계좌 행 잠금 대기 시간 초과: {}", accountIds, e);
+                throw new LockAcquisitionException("락 획득에 실패했습니다: " + String.join(",", keys));
+            } catch (DataAccessException e) {
+                transactionManager.rollback(status);
+                log.error("계좌 행 잠금 획득 실패: {}", accountIds, e);
+                throw new LockAcquisitionException("락 획득에 실패했습니다: " + String.join(",", keys), e);
+            }
+        }
+
+        return () -> complete(status);
+    }
+
+    @Override
+    public String name() {
+        return "database";
+    }
+
+    /**
+     * 잠금 트랜잭션 종료
+     * 대상 메서드에서 예외가 발생해 롤백 전용으로 표시된 경우 롤백합니다.
+     */
+    private void complete(TransactionStatus status) {
+        if (status.isCompleted()) {
+            return;
+        }
+        if (status.isRollbackOnly()) {
+            transactionManager.rollback(status);
+        } else {
+            transactionManager.commit(status);
+        }
+    }
+
+    /**
+     * 잠금 조회 SQL 생성
+     * 대기 시간은 MariaDB의 WAIT/NOWAIT 절로 제한합니다.
+     */
+    private String lockQuery(int size, long waitSeconds) {
+        String placeholders = String.join(", ", Collections.nCopies(size, "?"));
+        String waitClause = waitSeconds > 0 ? " WAIT " + waitSeconds : " NOWAIT";
+        return "SELECT id FROM accounts WHERE id IN (" + placeholders + ") ORDER BY id FOR UPDATE" + waitClause;
+    }
+
+    /**
+     * 대기 시간을 초 단위로 올림
+     * WAIT 절은 초 단위만 받으므로, 1초 미만의 대기(적응형 대기 시간 등)가 NOWAIT으로 바뀌지 않도록 올림합니다.
+     */
+    static long waitSeconds(long waitTime, TimeUnit timeUnit) {
+        long waitMillis = timeUnit.toMillis(waitTime);
+        if (waitMillis <= 0) {
+            return 0L;
+        }
+        return (waitMillis + 999L) / 1_000L;
+    }
+
+    private List<UUID> toAccountIds(List<String> keys) {
+        List<UUID> accountIds = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (key.startsWith(ACCOUNT_KEY_PREFIX)) {
+                accountIds.add(UUID.fromString(key.substring(ACCOUNT_KEY_PREFIX.length())));
+            } else {
+                // 잠글 행이 없는 키(계좌번호 등)는 유니크 인덱스로 정합성을 보장
+                log.debug("행 잠금 대상이 아닌 락 키: {}", key);
+            }
+        }
+        return accountIds;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -1,6 +1,7 @@
 package com.wirebarley.remittance.infrastructure.transaction.adapter;
 
 import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.TransactionCursor;
 import com.wirebarley.remittance.domain.transaction.TransactionStatus;
 import com.wirebarley.remittance.domain.transaction.TransactionType;
 import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
@@ -23,9 +24,18 @@ import java.util.stream.Collectors;
 public class TransactionAdapter implements TransactionPort {
     private final TransactionRepository transactionRepository;
 
+    @Override
+    public Transaction create(Transaction transaction) {
+        // 신규 엔티티는 persist로 저장되어 INSERT 전 SELECT가 발생하지 않음
+        TransactionEntity entity = TransactionEntity.fromDomain(transaction);
+        TransactionEntity savedEntity = transactionRepository.save(entity);
+        return savedEntity.toDomain();
+    }
+
     @Override
     public Transaction save(Transaction transaction) {
         TransactionEntity entity = TransactionEntity.fromDomain(transaction);
+        entity.markNotNew();
         TransactionEntity savedEntity = transactionRepository.save(entity);
         return savedEntity.toDomain();
     }
@@ -37,15 +47,21 @@ public class TransactionAdapter implements TransactionPort {
     }
 
     @Override
-    public List<Transaction> findBySourceAccountId(UUID accountId) {
-        return transactionRepository.findBySourceAccountId(accountId).stream()
+    public List<Transaction> findBySourceAccountId(UUID accountId, TransactionCursor cursor, int limit) {
+        List<TransactionEntity> entities = cursor == null
+                ? transactionRepository.findFirstPageBySourceAccountId(accountId, limit)
+                : transactionRepository.findNextPageBySourceAccountId(accountId, cursor.getCreatedAt(), cursor.getId(), limit);
+        return entities.stream()
                 .map(TransactionEntity::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<Transaction> findByTargetAccountId(UUID accountId) {
-        return transactionRepository.findByTargetAccountId(accountId).stream()
+    public List<Transaction> findByTargetAccountId(UUID accountId, TransactionCursor cursor, int limit) {
+        List<TransactionEntity> entities = cursor == null
+                ? transactionRepository.findFirstPageByTargetAccountId(accountId, limit)
+                : transactionRepository.findNextPageByTargetAccountId(accountId, cursor.getCreatedAt(), cursor.getId(), limit);
+        return entities.stream()
                 .map(TransactionEntity::toDomain)
                 .collect(Collectors.toList());
     }
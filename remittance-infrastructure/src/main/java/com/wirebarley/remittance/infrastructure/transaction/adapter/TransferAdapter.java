@@ -0,0 +1,52 @@
+package com.wirebarley.remittance.infrastructure.transaction.adapter;
+
+import com.wirebarley.remittance.common.util.BlindIndexUtil;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.port.TransferPort;
+import com.wirebarley.remittance.infrastructure.account.entity.AccountEntity;
+import com.wirebarley.remittance.infrastructure.account.repository.AccountRepository;
+import com.wirebarley.remittance.infrastructure.transaction.entity.TransactionEntity;
+import com.wirebarley.remittance.infrastructure.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이체 영속화 어댑터
+ * 조회한 계좌 엔티티가 영속성 컨텍스트에 남아 있으므로 저장 시 merge가 SELECT 없이 변경 내용만 반영하고,
+ * 잔액 UPDATE 두 건과 트랜잭션 INSERT는 flush 시점에 JDBC 배치(hibernate.jdbc.batch_size)로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransferAdapter implements TransferPort {
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final BlindIndexUtil blindIndexUtil;
+
+    @Override
+    public Map<UUID, Account> findAccounts(UUID sourceAccountId, UUID targetAccountId) {
+        return accountRepository.findAllById(List.of(sourceAccountId, targetAccountId)).stream()
+                .map(AccountEntity::toDomain)
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+    }
+
+    @Override
+    public Transaction save(Account source, Account target, Transaction transaction) {
+        accountRepository.save(toExistingEntity(source));
+        accountRepository.save(toExistingEntity(target));
+        // 신규 엔티티는 persist로 저장되어 INSERT 전 SELECT가 발생하지 않음
+        return transactionRepository.save(TransactionEntity.fromDomain(transaction)).toDomain();
+    }
+
+    private AccountEntity toExistingEntity(Account account) {
+        AccountEntity entity = AccountEntity.fromDomain(account, blindIndexUtil.hashAccountNumber(account.getAccountNumber()));
+        entity.markNotNew();
+        return entity;
+    }
+}
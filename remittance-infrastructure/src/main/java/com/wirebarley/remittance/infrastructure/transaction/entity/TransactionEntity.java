@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -18,11 +19,15 @@ import java.util.UUID;
  * JPA를 위한 인프라스트럭처 레이어의 엔티티
  */
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        // 계좌별 거래 내역 키셋 페이지네이션 (created_at, id 역순)
+        @Index(name = "idx_transactions_source_created_id", columnList = "source_account_id, created_at, id"),
+        @Index(name = "idx_transactions_target_created_id", columnList = "target_account_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class TransactionEntity {
+public class TransactionEntity implements Persistable<UUID> {
     @Id
     @Column(name = "id", columnDefinition = "BINARY(16)")
     private UUID id;
@@ -53,6 +58,31 @@ public class TransactionEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 아직 저장되지 않은 엔티티 여부
+     * ID를 미리 할당하므로 ID 유무로는 신규 여부를 판단할 수 없어 직접 관리합니다.
+     * 신규이면 merge 대신 persist로 저장되어 INSERT 전 SELECT가 발생하지 않습니다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * 이미 저장된 엔티티로 표시
+     * 조회되거나 저장된 직후 호출되며, 기존 행을 갱신할 때도 사용합니다.
+     */
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.newEntity = false;
+    }
+
     /**
      * 도메인 객체로 변환
      * @return 도메인 트랜잭션 객체
@@ -66,6 +96,8 @@ public class TransactionEntity {
                 .type(this.type)
                 .status(this.status)
                 .description(this.description)
+                .createdAt(this.createdAt)
+                .updatedAt(this.updatedAt)
                 .build();
     }
 
@@ -4,8 +4,11 @@ import com.wirebarley.remittance.domain.transaction.TransactionStatus;
 import com.wirebarley.remittance.domain.transaction.TransactionType;
 import com.wirebarley.remittance.infrastructure.transaction.entity.TransactionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,18 +18,60 @@ import java.util.UUID;
 @Repository
 public interface TransactionRepository extends JpaRepository<TransactionEntity, UUID> {
     /**
-     * 출금 계좌 ID로 트랜잭션 조회
+     * 출금 계좌 ID로 트랜잭션 첫 페이지 조회
      * @param sourceAccountId 출금 계좌 ID
-     * @return 트랜잭션 목록
+     * @param limit 최대 조회 건수
+     * @return 트랜잭션 목록 (created_at, id 역순)
+     */
+    @Query(value = "SELECT * FROM transactions t WHERE t.source_account_id = :accountId "
+            + "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TransactionEntity> findFirstPageBySourceAccountId(@Param("accountId") UUID sourceAccountId,
+                                                           @Param("limit") int limit);
+    
+    /**
+     * 출금 계좌 ID로 커서 이후 트랜잭션 페이지 조회
+     * (source_account_id, created_at, id) 복합 인덱스를 범위 조건으로 사용합니다.
+     * @param sourceAccountId 출금 계좌 ID
+     * @param createdAt 커서 생성 시각
+     * @param id 커서 트랜잭션 ID
+     * @param limit 최대 조회 건수
+     * @return 트랜잭션 목록 (created_at, id 역순)
      */
-    List<TransactionEntity> findBySourceAccountId(UUID sourceAccountId);
+    @Query(value = "SELECT * FROM transactions t WHERE t.source_account_id = :accountId "
+            + "AND (t.created_at, t.id) < (:createdAt, :id) "
+            + "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TransactionEntity> findNextPageBySourceAccountId(@Param("accountId") UUID sourceAccountId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") UUID id,
+                                                          @Param("limit") int limit);
     
     /**
-     * 입금 계좌 ID로 트랜잭션 조회
+     * 입금 계좌 ID로 트랜잭션 첫 페이지 조회
      * @param targetAccountId 입금 계좌 ID
-     * @return 트랜잭션 목록
+     * @param limit 최대 조회 건수
+     * @return 트랜잭션 목록 (created_at, id 역순)
+     */
+    @Query(value = "SELECT * FROM transactions t WHERE t.target_account_id = :accountId "
+            + "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TransactionEntity> findFirstPageByTargetAccountId(@Param("accountId") UUID targetAccountId,
+                                                           @Param("limit") int limit);
+    
+    /**
+     * 입금 계좌 ID로 커서 이후 트랜잭션 페이지 조회
+     * (target_account_id, created_at, id) 복합 인덱스를 범위 조건으로 사용합니다.
+     * @param targetAccountId 입금 계좌 ID
+     * @param createdAt 커서 생성 시각
+     * @param id 커서 트랜잭션 ID
+     * @param limit 최대 조회 건수
+     * @return 트랜잭션 목록 (created_at, id 역순)
      */
-    List<TransactionEntity> findByTargetAccountId(UUID targetAccountId);
+    @Query(value = "SELECT * FROM transactions t WHERE t.target_account_id = :accountId "
+            + "AND (t.created_at, t.id) < (:createdAt, :id) "
+            + "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TransactionEntity> findNextPageByTargetAccountId(@Param("accountId") UUID targetAccountId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") UUID id,
+                                                          @Param("limit") int limit);
     
     /**
      * 트랜잭션 타입으로 트랜잭션 조회
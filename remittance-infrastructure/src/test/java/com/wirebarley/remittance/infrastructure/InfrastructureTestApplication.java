@@ -0,0 +1,10 @@
+package com.wirebarley.remittance.infrastructure;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 인프라스트럭처 모듈 슬라이스 테스트용 설정
+ */
+@SpringBootApplication
+public class InfrastructureTestApplication {
+}
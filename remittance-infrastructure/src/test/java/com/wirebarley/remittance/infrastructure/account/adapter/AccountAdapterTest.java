@@ -0,0 +1,95 @@
+package com.wirebarley.remittance.infrastructure.account.adapter;
+
+import com.wirebarley.remittance.common.util.AES256Util;
+import com.wirebarley.remittance.common.util.BlindIndexUtil;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.MaskedAccount;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.infrastructure.converter.AES256Converter;
+import com.wirebarley.remittance.infrastructure.converter.DecryptionCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 계좌 어댑터 테스트
+ * 암호화된 계좌번호를 블라인드 인덱스로 조회하는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "security.encryption.key=testEncryptionKey1234567890testEncryptionKey",
+        "security.blind-index.key=testBlindIndexKey1234567890testBlindIndexKey"
+})
+@Import({
+        AccountAdapter.class,
+        AES256Util.class,
+        BlindIndexUtil.class,
+        DecryptionCache.class,
+        AES256Converter.class
+})
+class AccountAdapterTest {
+
+    @Autowired
+    private AccountPort accountPort;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("블라인드 인덱스로 암호화된 계좌 조회 테스트")
+    void findsEncryptedAccountByHash() {
+        // given
+        Account created = accountPort.create(Account.builder()
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Account found = accountPort.findByAccountNumber("123-456-7890").orElseThrow();
+
+        // then: 계좌번호 컬럼은 암호문으로 저장되고, 조회 결과는 복호화된 계좌번호
+        Object stored = entityManager.createNativeQuery("SELECT account_number FROM accounts").getSingleResult();
+        assertNotEquals("1234567890", stored);
+        assertEquals(created.getId(), found.getId());
+        assertEquals("1234567890", found.getAccountNumber());
+        assertTrue(accountPort.existsByAccountNumber("1234567890"));
+        assertFalse(accountPort.existsByAccountNumber("1234567891"));
+        assertTrue(accountPort.findByAccountNumber("1234567891").isEmpty());
+    }
+
+    @Test
+    @DisplayName("마스킹 전용 조회 테스트 - 평문 계좌번호 없는 조회 모델 반환")
+    void findAllMaskedReturnsReadModel() {
+        // given
+        Account created = accountPort.create(Account.builder()
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MaskedAccount> all = accountPort.findAllMasked();
+        List<MaskedAccount> byIds = accountPort.findAllMaskedByIds(List.of(created.getId()));
+
+        // then
+        assertEquals(1, all.size());
+        MaskedAccount masked = byIds.get(0);
+        assertEquals(created.getId(), masked.getId());
+        assertEquals(created.getMaskedAccountNumber(), masked.getMaskedAccountNumber());
+        assertEquals("테스트 계좌", masked.getAccountName());
+        assertEquals(0, BigDecimal.valueOf(1000).compareTo(masked.getBalance()));
+        assertNotNull(masked.getCreatedAt());
+    }
+}
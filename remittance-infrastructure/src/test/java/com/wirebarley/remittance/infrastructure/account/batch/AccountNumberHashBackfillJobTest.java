@@ -0,0 +1,97 @@
+package com.wirebarley.remittance.infrastructure.account.batch;
+
+import com.wirebarley.remittance.common.util.AES256Util;
+import com.wirebarley.remittance.common.util.BlindIndexUtil;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.infrastructure.account.entity.AccountEntity;
+import com.wirebarley.remittance.infrastructure.account.repository.AccountRepository;
+import com.wirebarley.remittance.infrastructure.converter.AES256Converter;
+import com.wirebarley.remittance.infrastructure.converter.DecryptionCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 계좌번호 블라인드 인덱스 백필 작업 테스트
+ */
+@DataJpaTest(properties = {
+        "security.encryption.key=testEncryptionKey1234567890testEncryptionKey",
+        "security.blind-index.key=testBlindIndexKey1234567890testBlindIndexKey"
+})
+@Import({
+        AES256Util.class,
+        BlindIndexUtil.class,
+        DecryptionCache.class,
+        AES256Converter.class
+})
+class AccountNumberHashBackfillJobTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BlindIndexUtil blindIndexUtil;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private AccountNumberHashBackfillJob backfillJob;
+
+    @BeforeEach
+    void setUp() {
+        backfillJob = new AccountNumberHashBackfillJob(accountRepository, blindIndexUtil,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스가 비어 있는 계좌만 채우고 재실행 시 변경 없음 테스트")
+    void fillsMissingHashesOnce() {
+        // given: 인덱스 도입 전 계좌 2건과 이미 인덱스가 있는 계좌 1건
+        List<String> legacyNumbers = List.of("1234567890", "0987654321");
+        legacyNumbers.forEach(number -> accountRepository.save(AccountEntity.fromDomain(account(number), null)));
+        String indexedHash = blindIndexUtil.hashAccountNumber("1111122222");
+        accountRepository.save(AccountEntity.fromDomain(account("1111122222"), indexedHash));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int first = backfillJob.backfill();
+        entityManager.flush();
+        entityManager.clear();
+        int second = backfillJob.backfill();
+
+        // then
+        assertEquals(2, first);
+        assertEquals(0, second);
+        assertTrue(accountRepository.findByAccountNumberHashIsNull(PageRequest.of(0, 10)).isEmpty());
+        for (String number : legacyNumbers) {
+            AccountEntity entity = accountRepository.findByAccountNumberHash(blindIndexUtil.hashAccountNumber(number))
+                    .orElseThrow();
+            assertEquals(number, entity.getAccountNumber());
+        }
+        assertTrue(accountRepository.findByAccountNumberHash(indexedHash).isPresent());
+    }
+
+    private static Account account(String accountNumber) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .accountName("백필 테스트 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.wirebarley.remittance.infrastructure.converter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class DecryptionCacheTest {
+
+    private final AtomicInteger decryptCount = new AtomicInteger();
+    private final UnaryOperator<String> decryptor = ciphertext -> {
+        decryptCount.incrementAndGet();
+        return "plain-" + ciphertext;
+    };
+
+    private DecryptionCache decryptionCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        decryptionCache = new DecryptionCache(true, 100, Duration.ofMinutes(10), mock(ObjectProvider.class));
+    }
+
+    @Test
+    @DisplayName("복호화 캐시 히트 테스트 - 같은 암호문은 한 번만 복호화")
+    void hit() {
+        // when
+        String first = decryptionCache.get("cipher-1", decryptor);
+        String second = decryptionCache.get("cipher-1", decryptor);
+
+        // then
+        assertEquals("plain-cipher-1", first);
+        assertEquals("plain-cipher-1", second);
+        assertEquals(1, decryptCount.get());
+        assertEquals(1, decryptionCache.stats().hitCount());
+        assertEquals(1, decryptionCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("복호화 캐시 미스 테스트 - 다른 암호문은 각각 복호화")
+    void miss() {
+        // when
+        String first = decryptionCache.get("cipher-1", decryptor);
+        String second = decryptionCache.get("cipher-2", decryptor);
+
+        // then
+        assertEquals("plain-cipher-1", first);
+        assertEquals("plain-cipher-2", second);
+        assertEquals(2, decryptCount.get());
+        assertEquals(0, decryptionCache.stats().hitCount());
+        assertEquals(2, decryptionCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("복호화 캐시 제거 테스트 - 제거된 항목의 평문을 지우고 다음 조회는 다시 복호화")
+    void removalWipesPlaintext() {
+        // given
+        decryptionCache.get("cipher-1", decryptor);
+        DecryptionCache.CachedPlaintext cached = decryptionCache.getIfPresent("cipher-1");
+        assertNotNull(cached);
+        assertEquals("plain-cipher-1", cached.read());
+
+        // when
+        decryptionCache.invalidateAll();
+
+        // then
+        assertNull(cached.read());
+        assertNull(decryptionCache.getIfPresent("cipher-1"));
+        assertEquals("plain-cipher-1", decryptionCache.get("cipher-1", decryptor));
+        assertEquals(2, decryptCount.get());
+    }
+
+    @Test
+    @DisplayName("복호화 캐시 비활성화 테스트 - 매번 복호화")
+    void disabled() {
+        // given
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        DecryptionCache disabledCache = new DecryptionCache(false, 100, Duration.ofMinutes(10), meterRegistryProvider);
+
+        // when
+        disabledCache.get("cipher-1", decryptor);
+        disabledCache.get("cipher-1", decryptor);
+
+        // then
+        assertEquals(2, decryptCount.get());
+        assertNull(disabledCache.getIfPresent("cipher-1"));
+    }
+}
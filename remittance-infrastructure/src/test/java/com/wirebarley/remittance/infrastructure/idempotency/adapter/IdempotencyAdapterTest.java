@@ -0,0 +1,124 @@
+package com.wirebarley.remittance.infrastructure.idempotency.adapter;
+
+import com.wirebarley.remittance.common.util.AES256Util;
+import com.wirebarley.remittance.common.util.BlindIndexUtil;
+import com.wirebarley.remittance.domain.idempotency.IdempotencyRecord;
+import com.wirebarley.remittance.domain.idempotency.port.IdempotencyPort;
+import com.wirebarley.remittance.infrastructure.converter.AES256Converter;
+import com.wirebarley.remittance.infrastructure.converter.DecryptionCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 멱등성 키 어댑터 테스트
+ * 만료 기록 삭제, 선점 해제, 결과 기록이 선점 조건을 만족하는 행에만 반영되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "security.encryption.key=testEncryptionKey1234567890testEncryptionKey",
+        "security.blind-index.key=testBlindIndexKey1234567890testBlindIndexKey"
+})
+@Import({
+        IdempotencyAdapter.class,
+        AES256Util.class,
+        BlindIndexUtil.class,
+        DecryptionCache.class,
+        AES256Converter.class
+})
+class IdempotencyAdapterTest {
+    private static final String KEY = "retry-key-1";
+    private static final String FINGERPRINT = "fingerprint-1";
+
+    @Autowired
+    private IdempotencyPort idempotencyPort;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("만료된 키 삭제 테스트 - 다른 노드가 먼저 삭제하고 다시 선점한 키는 유지")
+    void releaseExpiredKeepsNewClaim() {
+        // given: 만료된 처리 중 기록
+        LocalDateTime now = now();
+        assertTrue(idempotencyPort.claim(KEY, FINGERPRINT, now.minusMinutes(1)));
+
+        // when: 한 노드가 만료 기록을 삭제하고 다시 선점한 뒤, 같은 만료 기록을 본 다른 노드가 삭제 시도
+        boolean firstReleased = idempotencyPort.releaseExpired(KEY, now);
+        clear();
+        assertTrue(idempotencyPort.claim(KEY, FINGERPRINT, now.plusHours(1)));
+        boolean secondReleased = idempotencyPort.releaseExpired(KEY, now);
+        clear();
+
+        // then
+        assertTrue(firstReleased);
+        assertFalse(secondReleased);
+        assertEquals(now.plusHours(1), find().map(IdempotencyRecord::getExpiresAt).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("만료된 선점의 해제/결과 기록 테스트 - 다시 선점된 키에 반영되지 않음")
+    void staleClaimCannotReleaseOrComplete() {
+        // given: 만료된 선점을 다른 요청이 다시 선점
+        LocalDateTime now = now();
+        LocalDateTime staleExpiresAt = now.minusMinutes(1);
+        assertTrue(idempotencyPort.claim(KEY, FINGERPRINT, staleExpiresAt));
+        idempotencyPort.releaseExpired(KEY, now);
+        clear();
+        assertTrue(idempotencyPort.claim(KEY, FINGERPRINT, now.plusHours(1)));
+        clear();
+
+        // when
+        idempotencyPort.release(KEY, FINGERPRINT, staleExpiresAt);
+        boolean completed = idempotencyPort.complete(KEY, FINGERPRINT, staleExpiresAt, UUID.randomUUID());
+        clear();
+
+        // then
+        assertFalse(completed);
+        IdempotencyRecord record = find().orElseThrow();
+        assertFalse(record.isCompleted());
+        assertEquals(now.plusHours(1), record.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("선점한 요청의 결과 기록과 해제 테스트")
+    void ownClaimCompletesAndReleases() {
+        // given
+        LocalDateTime expiresAt = now().plusHours(1);
+        UUID resultId = UUID.randomUUID();
+        assertTrue(idempotencyPort.claim(KEY, FINGERPRINT, expiresAt));
+        assertTrue(idempotencyPort.claim("retry-key-2", FINGERPRINT, expiresAt));
+
+        // when
+        boolean completed = idempotencyPort.complete(KEY, FINGERPRINT, expiresAt, resultId);
+        idempotencyPort.release("retry-key-2", FINGERPRINT, expiresAt);
+        clear();
+
+        // then
+        assertTrue(completed);
+        assertEquals(resultId, find().map(IdempotencyRecord::getResultId).orElseThrow());
+        assertTrue(idempotencyPort.findByKey("retry-key-2").isEmpty());
+    }
+
+    private Optional<IdempotencyRecord> find() {
+        return idempotencyPort.findByKey(KEY);
+    }
+
+    private void clear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+}
@@ -0,0 +1,83 @@
+package com.wirebarley.remittance.infrastructure.lock;
+
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseLockProviderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private DatabaseLockProvider databaseLockProvider;
+
+    @BeforeEach
+    void setUp() {
+        databaseLockProvider = new DatabaseLockProvider(jdbcTemplate, transactionManager);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("1초 미만 대기 시간은 NOWAIT이 아닌 WAIT 1로 올림")
+    void subSecondWaitRoundsUp() {
+        // when
+        databaseLockProvider.acquire(List.of("account:" + TimeBasedUuidGenerator.generate()),
+                200L, 1_000L, TimeUnit.MILLISECONDS);
+
+        // then
+        String sql = capturedSql();
+        assertTrue(sql.endsWith(" WAIT 1"), sql);
+        assertFalse(sql.contains("NOWAIT"), sql);
+    }
+
+    @Test
+    @DisplayName("대기 시간은 초 단위로 올림")
+    void waitRoundsUpToWholeSeconds() {
+        // when
+        databaseLockProvider.acquire(List.of("account:" + TimeBasedUuidGenerator.generate()),
+                1_500L, 1_000L, TimeUnit.MILLISECONDS);
+
+        // then
+        assertTrue(capturedSql().endsWith(" WAIT 2"));
+    }
+
+    @Test
+    @DisplayName("대기 시간이 0이면 NOWAIT")
+    void zeroWaitUsesNowait() {
+        // when
+        databaseLockProvider.acquire(List.of("account:" + TimeBasedUuidGenerator.generate()),
+                0L, 1_000L, TimeUnit.MILLISECONDS);
+
+        // then
+        assertTrue(capturedSql().endsWith(" NOWAIT"));
+    }
+
+    private String capturedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowCallbackHandler.class), any(Object[].class));
+        return sql.getValue();
+    }
+}
@@ -0,0 +1,144 @@
+package com.wirebarley.remittance.infrastructure.transaction.adapter;
+
+import com.wirebarley.remittance.common.util.AES256Util;
+import com.wirebarley.remittance.common.util.BlindIndexUtil;
+import com.wirebarley.remittance.common.util.TimeBasedUuidGenerator;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.TransactionCursor;
+import com.wirebarley.remittance.domain.transaction.TransactionStatus;
+import com.wirebarley.remittance.domain.transaction.TransactionType;
+import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import com.wirebarley.remittance.infrastructure.converter.AES256Converter;
+import com.wirebarley.remittance.infrastructure.converter.DecryptionCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 거래 내역 키셋 페이지네이션 테스트
+ * 네이티브 쿼리의 (t.created_at, t.id) < (:createdAt, :id) 조건이 BINARY(16) UUID 컬럼에서
+ * 생성 시각이 같은 거래를 페이지 경계에서 누락/중복 없이 넘기는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "security.encryption.key=testEncryptionKey1234567890testEncryptionKey",
+        "security.blind-index.key=testBlindIndexKey1234567890testBlindIndexKey"
+})
+@Import({
+        TransactionAdapter.class,
+        AES256Util.class,
+        BlindIndexUtil.class,
+        DecryptionCache.class,
+        AES256Converter.class
+})
+class TransactionKeysetPaginationTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    /**
+     * BINARY(16) 컬럼 정렬과 같은 부호 없는 바이트 순서
+     */
+    private static final Comparator<UUID> BINARY_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    @Autowired
+    private TransactionPort transactionPort;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("출금 계좌 키셋 페이지 조회 테스트 - 같은 생성 시각의 거래가 페이지 경계에 걸쳐도 누락/중복 없음")
+    void pageBySourceAccountAcrossEqualCreatedAt() {
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        List<Transaction> own = saveTransactions(accountId, true);
+
+        List<UUID> paged = readAllPages(cursor -> transactionPort.findBySourceAccountId(accountId, cursor, PAGE_SIZE));
+
+        assertEquals(expectedOrder(own), paged);
+    }
+
+    @Test
+    @DisplayName("입금 계좌 키셋 페이지 조회 테스트 - 같은 생성 시각의 거래가 페이지 경계에 걸쳐도 누락/중복 없음")
+    void pageByTargetAccountAcrossEqualCreatedAt() {
+        UUID accountId = TimeBasedUuidGenerator.generate();
+        List<Transaction> own = saveTransactions(accountId, false);
+
+        List<UUID> paged = readAllPages(cursor -> transactionPort.findByTargetAccountId(accountId, cursor, PAGE_SIZE));
+
+        assertEquals(expectedOrder(own), paged);
+    }
+
+    /**
+     * 같은 생성 시각 5건 + 이전 시각 2건 + 다른 계좌 1건을 순서를 섞어 저장
+     * @return 조회 대상 계좌의 거래 목록
+     */
+    private List<Transaction> saveTransactions(UUID accountId, boolean source) {
+        LocalDateTime sameTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<Transaction> own = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            own.add(transaction(accountId, source, sameTime));
+        }
+        for (int i = 0; i < 2; i++) {
+            own.add(transaction(accountId, source, sameTime.minusMinutes(1)));
+        }
+
+        List<Transaction> all = new ArrayList<>(own);
+        all.add(transaction(TimeBasedUuidGenerator.generate(), source, sameTime));
+        Collections.shuffle(all, new Random(42));
+        all.forEach(transactionPort::create);
+        entityManager.flush();
+        entityManager.clear();
+        return own;
+    }
+
+    private List<UUID> readAllPages(Function<TransactionCursor, List<Transaction>> pageLoader) {
+        List<UUID> ids = new ArrayList<>();
+        TransactionCursor cursor = null;
+        while (true) {
+            List<Transaction> page = pageLoader.apply(cursor);
+            page.forEach(transaction -> ids.add(transaction.getId()));
+            if (page.size() < PAGE_SIZE) {
+                return ids;
+            }
+            cursor = TransactionCursor.from(page.get(page.size() - 1));
+        }
+    }
+
+    private List<UUID> expectedOrder(List<Transaction> transactions) {
+        return transactions.stream()
+                .sorted(Comparator.comparing(Transaction::getCreatedAt)
+                        .thenComparing(Transaction::getId, BINARY_ORDER)
+                        .reversed())
+                .map(Transaction::getId)
+                .toList();
+    }
+
+    private Transaction transaction(UUID accountId, boolean source, LocalDateTime createdAt) {
+        UUID counterpartId = TimeBasedUuidGenerator.generate();
+        return Transaction.builder()
+                .sourceAccountId(source ? accountId : counterpartId)
+                .targetAccountId(source ? counterpartId : accountId)
+                .amount(BigDecimal.valueOf(100))
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETED)
+                .description("키셋 페이지 테스트")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package com.wirebarley.remittance.infrastructure.transaction.adapter;
+
+import com.wirebarley.remittance.common.util.AES256Util;
+import com.wirebarley.remittance.common.util.BlindIndexUtil;
+import com.wirebarley.remittance.domain.account.Account;
+import com.wirebarley.remittance.domain.account.port.AccountPort;
+import com.wirebarley.remittance.domain.ledger.LedgerEntry;
+import com.wirebarley.remittance.domain.ledger.port.LedgerPort;
+import com.wirebarley.remittance.domain.transaction.Transaction;
+import com.wirebarley.remittance.domain.transaction.TransactionStatus;
+import com.wirebarley.remittance.domain.transaction.TransactionType;
+import com.wirebarley.remittance.domain.transaction.port.TransactionPort;
+import com.wirebarley.remittance.domain.transaction.port.TransferPort;
+import com.wirebarley.remittance.infrastructure.account.adapter.AccountAdapter;
+import com.wirebarley.remittance.infrastructure.converter.AES256Converter;
+import com.wirebarley.remittance.infrastructure.converter.DecryptionCache;
+import com.wirebarley.remittance.infrastructure.ledger.adapter.LedgerAdapter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "security.encryption.key=testEncryptionKey1234567890testEncryptionKey",
+        "security.blind-index.key=testBlindIndexKey1234567890testBlindIndexKey"
+})
+@Import({
+        AccountAdapter.class,
+        TransactionAdapter.class,
+        TransferAdapter.class,
+        LedgerAdapter.class,
+        TransferPersistenceTest.StatementCounter.class,
+        AES256Util.class,
+        BlindIndexUtil.class,
+        DecryptionCache.class,
+        AES256Converter.class
+})
+class TransferPersistenceTest {
+
+    @Autowired
+    private AccountPort accountPort;
+
+    @Autowired
+    private TransactionPort transactionPort;
+
+    @Autowired
+    private TransferPort transferPort;
+
+    @Autowired
+    private LedgerPort ledgerPort;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        StatementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("신규 계좌 저장 시 SELECT 없이 INSERT만 실행 테스트")
+    void createAccountWithoutSelect() {
+        // given
+        Account account = Account.builder()
+                .accountNumber("1234567890")
+                .accountName("테스트 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+
+        // when
+        accountPort.create(account);
+        entityManager.flush();
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("이체 저장 시 실행되는 SQL 수 테스트")
+    void transferStatementCount() {
+        // given
+        Account source = accountPort.create(Account.builder()
+                .accountNumber("1234567890")
+                .accountName("출금 계좌")
+                .balance(BigDecimal.valueOf(1000))
+                .build());
+        Account target = accountPort.create(Account.builder()
+                .accountNumber("0987654321")
+                .accountName("입금 계좌")
+                .balance(BigDecimal.valueOf(2000))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        StatementCounter.reset();
+
+        // when: TransactionCommandService 성공 경로와 같은 순서 (계좌 조회 -> 일괄 저장 -> 원장 기록)
+        Map<UUID, Account> accounts = transferPort.findAccounts(source.getId(), target.getId());
+        Account sourceAccount = accounts.get(source.getId());
+        Account targetAccount = accounts.get(target.getId());
+
+        Transaction transaction = Transaction.builder()
+                .sourceAccountId(sourceAccount.getId())
+                .targetAccountId(targetAccount.getId())
+                .amount(BigDecimal.valueOf(500))
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.PENDING)
+                .description("테스트 이체")
+                .build();
+
+        sourceAccount.withdraw(BigDecimal.valueOf(500));
+        targetAccount.deposit(BigDecimal.valueOf(500));
+        Transaction completed = transferPort.save(sourceAccount, targetAccount, transaction.complete());
+        ledgerPort.append(LedgerEntry.doubleEntry(completed.getId(),
+                completed.getSourceAccountId(), completed.getTargetAccountId(), completed.getAmount()));
+        entityManager.flush();
+
+        // then
+        // JPA: 계좌 IN 조회 1 + 트랜잭션 INSERT 배치 1 + 계좌 UPDATE 배치 1 (UPDATE 2건이 한 문장으로 묶임)
+        assertEquals(3, statistics.getPrepareStatementCount());
+        // 전체 JDBC: JPA 3 + 원장 분개 INSERT 배치 1 (JdbcTemplate)
+        // 실패 경로의 실패 트랜잭션 INSERT 1건은 성공 경로에 없으므로 포함하지 않음
+        assertEquals(4, StatementCounter.count());
+        assertEquals(2, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getEntityUpdateCount());
+
+        entityManager.clear();
+        assertEquals(0, BigDecimal.valueOf(500).compareTo(accountPort.findById(source.getId()).orElseThrow().getBalance()));
+        assertEquals(0, BigDecimal.valueOf(2500).compareTo(accountPort.findById(target.getId()).orElseThrow().getBalance()));
+        assertEquals(TransactionStatus.COMPLETED, transactionPort.findById(transaction.getId()).orElseThrow().getStatus());
+    }
+
+    /**
+     * 데이터소스를 감싸 Connection에서 준비된 SQL 문장 수를 세는 테스트용 후처리기
+     * Hibernate 통계에 잡히지 않는 JdbcTemplate 문장까지 포함합니다.
+     */
+    static class StatementCounter implements BeanPostProcessor {
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        static void reset() {
+            COUNT.set(0);
+        }
+
+        static int count() {
+            return COUNT.get();
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource)) {
+                return bean;
+            }
+            return proxy(bean, (target, method, args) -> {
+                Object result = invoke(bean, method, args);
+                return result instanceof Connection ? proxy(result, countingHandler(result)) : result;
+            });
+        }
+
+        private static InvocationHandler countingHandler(Object connection) {
+            return (target, method, args) -> {
+                if (method.getName().startsWith("prepare")) {
+                    COUNT.incrementAndGet();
+                }
+                return invoke(connection, method, args);
+            };
+        }
+
+        private static Object proxy(Object target, InvocationHandler handler) {
+            return Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                    ClassUtils.getAllInterfaces(target), handler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}